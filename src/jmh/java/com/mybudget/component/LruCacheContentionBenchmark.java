@@ -0,0 +1,88 @@
+package com.mybudget.component;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 요청 스레드가 동시에 조회하는 LRU 캐시 비교
+ * 검증된 토큰 캐시, 사용자 상태 캐시, 예산 기간 캐시는 모든 인증 요청, 지출 생성 요청에서 조회됩니다.
+ * - synchronizedLinkedHashMap: accessOrder LinkedHashMap 을 synchronizedMap 으로 감싼 방식 (기존 방식, 조회마다 전역 락)
+ * - boundedLruCache: BoundedLruCache (조회에 락 없음)
+ * 조회의 90% 는 캐시에 있는 키, 10% 는 없는 키라 저장과 제거가 함께 일어납니다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class LruCacheContentionBenchmark {
+
+    @Param({"10000"})
+    private int maxSize;
+
+    private Map<Integer, Integer> synchronizedLinkedHashMap;
+    private BoundedLruCache<Integer, Integer> boundedLruCache;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        int capacity = maxSize;
+        synchronizedLinkedHashMap = Collections.synchronizedMap(new LinkedHashMap<Integer, Integer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                return size() > capacity;
+            }
+        });
+        boundedLruCache = new BoundedLruCache<>(maxSize);
+
+        for (int key = 0; key < maxSize; key++) {
+            synchronizedLinkedHashMap.put(key, key);
+            boundedLruCache.put(key, key);
+        }
+    }
+
+    @Benchmark
+    public Integer synchronizedLinkedHashMap() {
+        int key = nextKey();
+        Integer value = synchronizedLinkedHashMap.get(key);
+        if (value == null) {
+            synchronizedLinkedHashMap.put(key, key);
+        }
+        return value;
+    }
+
+    @Benchmark
+    public Integer boundedLruCache() {
+        int key = nextKey();
+        Integer value = boundedLruCache.get(key);
+        if (value == null) {
+            boundedLruCache.put(key, key);
+        }
+        return value;
+    }
+
+    // 키 범위를 최대 크기보다 10% 넓게 잡아 조회의 약 10% 가 캐시에 없도록 함
+    private int nextKey() {
+        return ThreadLocalRandom.current().nextInt(maxSize + maxSize / 10);
+    }
+}
@@ -0,0 +1,96 @@
+package com.mybudget.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰으로 인증 주체를 만드는 경로 비교
+ * - parserPerCall: 요청마다 JwtParser 를 새로 만들어 검증 (기존 방식)
+ * - sharedParser: 하나의 JwtParser 를 공유하여 검증
+ * - verifiedTokenCache: 검증된 토큰 캐시에서 조회 (같은 세션의 반복 요청)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private SecretKey secretKey;
+    private JwtParser jwtParser;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        verifiedTokenCache = new VerifiedTokenCache(10000);
+
+        Date expiration = new Date(System.currentTimeMillis() + 60 * 60 * 1000L);
+        token = Jwts.builder()
+                .setSubject("1")
+                .setId("jti")
+                .claim("email", "email@test.com")
+                .claim("userRole", UserRole.ROLE_USER.getRoleName())
+                .setIssuer("my-budget")
+                .setIssuedAt(new Date())
+                .setExpiration(expiration)
+                .signWith(secretKey)
+                .compact();
+
+        verifiedTokenCache.put(token, toPrincipal(jwtParser.parseClaimsJws(token).getBody()), expiration);
+    }
+
+    @Benchmark
+    public JwtPrincipal parserPerCall() {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        return toPrincipal(claims);
+    }
+
+    @Benchmark
+    public JwtPrincipal sharedParser() {
+        return toPrincipal(jwtParser.parseClaimsJws(token).getBody());
+    }
+
+    @Benchmark
+    public JwtPrincipal verifiedTokenCache() {
+        return verifiedTokenCache.get(token);
+    }
+
+    private JwtPrincipal toPrincipal(Claims claims) {
+        return new JwtPrincipal(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                UserRole.valueOf(claims.get("userRole", String.class)),
+                claims.getId(),
+                claims.getExpiration()
+        );
+    }
+}
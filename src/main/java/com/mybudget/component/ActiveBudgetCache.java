@@ -0,0 +1,200 @@
+package com.mybudget.component;
+
+import com.mybudget.domain.Budget;
+import com.mybudget.domain.User;
+import com.mybudget.enums.Categories;
+import com.mybudget.repository.BudgetRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자별 예산 기간 캐시
+ * 지출 생성 시 지출일에 해당하는 카테고리 예산 금액을 DB 조회 없이 찾기 위해
+ * 사용자의 예산을 카테고리별로 시작일 순 정렬된 기간 목록으로 만들어 둡니다.
+ * 최대 크기를 넘으면 가장 오래 사용하지 않은 사용자부터 제거(LRU)하며,
+ * 예산이 변경되면 트랜잭션 커밋 후 이 서버와 Redis pub/sub 으로 다른 서버의 캐시를 무효화합니다.
+ * <p>
+ * 무효화마다 사용자의 세대 번호를 올리고, 조회를 시작할 때와 세대가 같을 때만 조회 결과를 캐시하므로
+ * 조회 도중 무효화된 변경 전 예산은 캐시되지 않습니다.
+ * 무효화 메시지가 유실되어도 오래된 예산을 계속 사용하지 않도록 항목은 저장 후 TTL 이 지나면 다시 조회합니다.
+ */
+@Slf4j
+@Component
+public class ActiveBudgetCache implements MessageListener {
+    public static final String INVALIDATION_CHANNEL = "budget:active-cache:invalidate";
+
+    // 사용자 수와 관계없이 메모리를 일정하게 쓰도록 사용자 ID 로 나눈 세대 번호, 같은 칸의 다른 사용자 무효화는 캐시를 한 번 건너뛸 뿐임
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final BudgetRepository budgetRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final long ttlMillis;
+
+    private final BoundedLruCache<Long, CachedBudgets> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public ActiveBudgetCache(BudgetRepository budgetRepository,
+                             StringRedisTemplate redisTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${budget.active-cache.max-size:10000}") int maxSize,
+                             @Value("${budget.active-cache.ttl-ms:300000}") long ttlMillis) {
+        this.budgetRepository = budgetRepository;
+        this.redisTemplate = redisTemplate;
+        this.ttlMillis = ttlMillis;
+        this.hitCounter = meterRegistry.counter("budget.active-cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("budget.active-cache", "result", "miss");
+        this.evictionCounter = meterRegistry.counter("budget.active-cache.evictions");
+
+        this.cache = new BoundedLruCache<>(maxSize, evictionCounter::increment);
+        meterRegistry.gauge("budget.active-cache.size", Collections.emptyList(), cache, BoundedLruCache::size);
+    }
+
+    /**
+     * 사용자의 해당 날짜, 카테고리 예산 금액 조회
+     * 캐시에 없거나 TTL 이 지났으면 사용자의 예산을 한 번 조회하여 캐시합니다.
+     *
+     * @param user     사용자
+     * @param date     날짜
+     * @param category 카테고리
+     * @return 해당 날짜가 기간에 포함되는 카테고리 예산 금액의 합, 없는 경우 0
+     */
+    public BigDecimal getBudgetAmount(User user, Date date, Categories category) {
+        CachedBudgets cached = cache.get(user.getId());
+        Map<Categories, TreeMap<LocalDate, BudgetPeriod>> periodsPerCategory;
+
+        if (cached != null && cached.getExpiresAt() > System.currentTimeMillis()) {
+            hitCounter.increment();
+            periodsPerCategory = cached.getPeriodsPerCategory();
+        } else {
+            missCounter.increment();
+            long generation = generations.get(stripe(user.getId()));
+            periodsPerCategory = load(user);
+
+            // 조회하는 동안 무효화되었으면 변경 전 예산일 수 있으므로 캐시하지 않음
+            CachedBudgets loaded = new CachedBudgets(periodsPerCategory, System.currentTimeMillis() + ttlMillis);
+            cache.compute(user.getId(), (userId, current) ->
+                    generations.get(stripe(userId)) == generation ? loaded : current);
+        }
+
+        TreeMap<LocalDate, BudgetPeriod> periods = periodsPerCategory.get(category);
+        if (periods == null) {
+            return BigDecimal.ZERO;
+        }
+
+        // 기존 데이터에는 카테고리 안에서 겹치는 기간이 있을 수 있으므로 지출일 이전에 시작한 기간 중 지출일을 포함하는 기간을 모두 합산
+        LocalDate localDate = date.toLocalDate();
+        BigDecimal amount = BigDecimal.ZERO;
+        for (BudgetPeriod period : periods.headMap(localDate, true).values()) {
+            if (!period.getEndDate().isBefore(localDate)) {
+                amount = amount.add(period.getAmount());
+            }
+        }
+
+        return amount;
+    }
+
+    /**
+     * 사용자의 캐시를 현재 트랜잭션이 커밋된 뒤 무효화하고 다른 서버에 전파
+     * 커밋 전에 무효화하면 그 사이 다른 요청이 변경 전 예산을 다시 캐시할 수 있으므로 커밋 후에 무효화합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void invalidate(Long userId) {
+        AfterCommit.run(() -> invalidateAndPublish(userId));
+    }
+
+    /**
+     * 다른 서버가 전파한 사용자의 캐시 무효화
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evict(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+
+    private void invalidateAndPublish(Long userId) {
+        evict(userId);
+
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(userId));
+        } catch (RuntimeException e) {
+            log.warn("예산 캐시 무효화 전파에 실패했습니다. 사용자 ID: " + userId, e);
+        }
+    }
+
+    // 세대를 먼저 올려야 진행 중인 조회가 제거 이후에 변경 전 예산을 다시 캐시하지 않음
+    private void evict(Long userId) {
+        generations.incrementAndGet(stripe(userId));
+        cache.remove(userId);
+    }
+
+    private int stripe(Long userId) {
+        return Math.floorMod(userId.hashCode(), GENERATION_STRIPES);
+    }
+
+    /**
+     * 사용자의 예산을 카테고리별 시작일 순 정렬된 기간 목록으로 변환
+     *
+     * @param user 사용자
+     * @return 카테고리별 예산 기간 (시작일 -> 기간)
+     */
+    private Map<Categories, TreeMap<LocalDate, BudgetPeriod>> load(User user) {
+        Map<Categories, TreeMap<LocalDate, BudgetPeriod>> periodsPerCategory = new EnumMap<>(Categories.class);
+
+        for (Budget budget : budgetRepository.findByUser(user)) {
+            periodsPerCategory.computeIfAbsent(budget.getCategory(), category -> new TreeMap<>())
+                    .merge(budget.getStartDate().toLocalDate(),
+                            new BudgetPeriod(budget.getEndDate().toLocalDate(), budget.getAmount()),
+                            BudgetPeriod::merge);
+        }
+
+        return periodsPerCategory;
+    }
+
+    /**
+     * 캐시된 사용자의 카테고리별 예산 기간과 만료 시각
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class CachedBudgets {
+        private final Map<Categories, TreeMap<LocalDate, BudgetPeriod>> periodsPerCategory;
+        private final long expiresAt;
+    }
+
+    /**
+     * 예산 기간의 종료일과 금액
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class BudgetPeriod {
+        private final LocalDate endDate;
+        private final BigDecimal amount;
+
+        // 같은 날 시작하는 예산이 여러 개인 경우 (기존 데이터) 금액을 합치고 더 늦은 종료일을 사용
+        private BudgetPeriod merge(BudgetPeriod other) {
+            return new BudgetPeriod(endDate.isAfter(other.endDate) ? endDate : other.endDate,
+                    amount.add(other.amount));
+        }
+    }
+}
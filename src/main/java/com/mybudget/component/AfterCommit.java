@@ -0,0 +1,34 @@
+package com.mybudget.component;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 밖의 자원(Redis, 로컬 캐시)에 반영하는 작업을 현재 트랜잭션이 커밋된 뒤 실행
+ * 커밋 전에 반영하면 롤백된 변경이 남거나, 그 사이 다른 요청이 변경 전 데이터를 다시 읽어 갈 수 있습니다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 실행, 트랜잭션이 없으면 바로 실행
+     * 롤백되면 실행하지 않습니다.
+     *
+     * @param action 실행할 작업
+     */
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
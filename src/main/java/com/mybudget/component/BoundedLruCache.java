@@ -0,0 +1,185 @@
+package com.mybudget.component;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.IntConsumer;
+
+/**
+ * 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거(LRU)하는 동시성 캐시
+ * 조회는 ConcurrentHashMap 조회와 항목의 마지막 사용 시각 기록뿐이므로 락 없이 여러 스레드가 동시에 처리합니다.
+ * 최대 크기를 넘긴 스레드 하나만 제거 락을 얻어 마지막 사용 시각이 가장 오래된 항목들을 한 번에 제거하고,
+ * 락을 얻지 못한 스레드는 기다리지 않습니다. 제거가 진행되는 동안에는 잠시 최대 크기를 넘을 수 있습니다.
+ * 최대 크기를 넘을 때마다 전체를 훑지 않도록 최대 크기의 1/16 만큼 여유를 두고 제거합니다.
+ *
+ * @param <K> 키
+ * @param <V> 값
+ */
+public class BoundedLruCache<K, V> {
+    private static final int EVICTION_BATCH_DIVISOR = 16;
+
+    private final ConcurrentHashMap<K, Node<V>> map = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final int maxSize;
+    private final IntConsumer evictionListener;
+
+    public BoundedLruCache(int maxSize) {
+        this(maxSize, evicted -> {
+        });
+    }
+
+    /**
+     * @param maxSize          최대 항목 수
+     * @param evictionListener 최대 크기를 넘어 제거한 항목 수를 받는 리스너 (지표 기록용)
+     */
+    public BoundedLruCache(int maxSize, IntConsumer evictionListener) {
+        this.maxSize = maxSize;
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * 항목 조회, 조회한 항목은 가장 최근에 사용한 항목이 됨
+     *
+     * @param key 키
+     * @return 값, 없는 경우 null
+     */
+    public V get(K key) {
+        Node<V> node = map.get(key);
+        if (node == null) {
+            return null;
+        }
+
+        node.accessedAt = System.nanoTime();
+        return node.value;
+    }
+
+    /**
+     * 항목 저장
+     *
+     * @param key   키
+     * @param value 값
+     */
+    public void put(K key, V value) {
+        map.put(key, new Node<>(value));
+        evictIfNeeded();
+    }
+
+    /**
+     * 현재 값으로 새 값을 계산하여 원자적으로 저장 (ConcurrentHashMap.compute)
+     * 계산 결과가 현재 값과 같은 객체이면 항목을 그대로 두고, null 이면 항목을 제거합니다.
+     *
+     * @param key               키
+     * @param remappingFunction 키와 현재 값(없는 경우 null)으로 새 값을 계산하는 함수
+     * @return 새 값, 제거된 경우 null
+     */
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Node<V> result = map.compute(key, (k, current) -> {
+            V value = remappingFunction.apply(k, current == null ? null : current.value);
+            if (value == null) {
+                return null;
+            }
+            return current != null && current.value == value ? current : new Node<>(value);
+        });
+        evictIfNeeded();
+
+        return result == null ? null : result.value;
+    }
+
+    /**
+     * 항목 제거
+     *
+     * @param key 키
+     */
+    public void remove(K key) {
+        map.remove(key);
+    }
+
+    /**
+     * 현재 값이 주어진 값과 같은 객체인 경우에만 항목 제거
+     * 조회한 값이 만료되어 제거하는 사이 다른 스레드가 저장한 새 값을 지우지 않습니다.
+     *
+     * @param key   키
+     * @param value 제거할 값
+     */
+    public void remove(K key, V value) {
+        map.computeIfPresent(key, (k, current) -> current.value == value ? null : current);
+    }
+
+    /**
+     * 모든 항목 제거
+     */
+    public void clear() {
+        map.clear();
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * 최대 크기를 넘었으면 마지막 사용 시각이 가장 오래된 항목들을 제거
+     * 제거 락을 가진 스레드는 락을 놓은 뒤 다시 확인하여, 제거하는 동안 다른 스레드가 추가한 항목도 처리합니다.
+     */
+    private void evictIfNeeded() {
+        while (map.size() > maxSize && evictionLock.tryLock()) {
+            try {
+                evict();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void evict() {
+        int excess = map.size() - maxSize;
+        if (excess <= 0) {
+            return;
+        }
+
+        int count = Math.min(map.size(), excess + maxSize / EVICTION_BATCH_DIVISOR);
+
+        // 마지막 사용 시각이 가장 최근인 후보가 맨 앞에 오는 힙에 가장 오래된 count 개만 남김
+        // 조회가 계속 사용 시각을 바꾸므로 훑는 시점의 사용 시각으로 비교
+        PriorityQueue<Candidate<K, V>> oldest = new PriorityQueue<>(count,
+                (a, b) -> Long.compare(b.accessedAt, a.accessedAt));
+        map.forEach((key, node) -> {
+            oldest.offer(new Candidate<>(key, node, node.accessedAt));
+            if (oldest.size() > count) {
+                oldest.poll();
+            }
+        });
+
+        int evicted = 0;
+        for (Candidate<K, V> candidate : oldest) {
+            if (map.remove(candidate.key, candidate.node)) {
+                evicted++;
+            }
+        }
+
+        if (evicted > 0) {
+            evictionListener.accept(evicted);
+        }
+    }
+
+    private static class Node<V> {
+        private final V value;
+        private volatile long accessedAt = System.nanoTime();
+
+        private Node(V value) {
+            this.value = value;
+        }
+    }
+
+    private static class Candidate<K, V> {
+        private final K key;
+        private final Node<V> node;
+        private final long accessedAt;
+
+        private Candidate(K key, Node<V> node, long accessedAt) {
+            this.key = key;
+            this.node = node;
+            this.accessedAt = accessedAt;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.mybudget.component;
+
+import com.mybudget.service.BudgetRecommendationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 서버가 카테고리별 예산 비율을 새로 계산하면 Redis pub/sub 으로 받아 이 서버의 비율 스냅샷을 교체
+ */
+@RequiredArgsConstructor
+@Component
+public class CategoryRatioSubscriber implements MessageListener {
+    private final BudgetRecommendationService budgetRecommendationService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        budgetRecommendationService.applyPublishedRatios(
+                new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
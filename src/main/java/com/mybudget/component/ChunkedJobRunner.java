@@ -0,0 +1,302 @@
+package com.mybudget.component;
+
+import com.mybudget.domain.JobCheckpoint;
+import com.mybudget.repository.JobCheckpointRepository;
+import com.mybudget.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 전체 사용자를 사용자 ID 범위 파티션으로 나누어 병렬로 처리하는 배치 작업 실행기
+ * 파티션은 작업 스레드 풀(jobExecutor)에서 동시에 처리되고, 각 파티션은 사용자 ID 순으로 청크 단위로 나누어 처리됩니다.
+ * 청크마다 별도의 트랜잭션으로 커밋하고 같은 트랜잭션에서 파티션의 체크포인트를 기록하므로
+ * 커넥션과 영속성 컨텍스트는 청크 하나만큼만 유지되며, 중단된 작업은 파티션별 마지막 체크포인트부터 이어서 처리합니다.
+ * 여러 서버가 같은 작업을 실행하면 파티션마다 Redis 임대를 얻은 서버만 처리하므로 서버 간에 파티션이 나누어집니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ChunkedJobRunner {
+    private final UserRepository userRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    @Qualifier("jobExecutor")
+    private final ThreadPoolTaskExecutor jobExecutor;
+    private final MeterRegistry meterRegistry;
+    private final PartitionLeaseManager partitionLeaseManager;
+
+    @Value("${job.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${job.partitions-per-worker:4}")
+    private int partitionsPerWorker;
+
+    @Value("${job.lease.poll-interval-ms:5000}")
+    private long leasePollIntervalMillis;
+
+    @Value("${job.partition.max-attempts:3}")
+    private int maxAttempts;
+
+    /**
+     * 작업을 파티션, 청크 단위로 실행
+     * 해당 실행일에 처음 실행되는 작업이면 사용자 ID 범위를 파티션으로 나누어 체크포인트를 만들고,
+     * 작업 스레드마다 완료되지 않은 파티션의 임대를 하나씩 얻어 처리합니다.
+     * 남은 파티션이 모두 다른 서버에 임대 중이면 모든 파티션이 완료될 때까지 대기하며,
+     * 그 사이 임대가 만료된(처리하던 서버가 죽은) 파티션은 넘겨받아 이어서 처리합니다.
+     * 실패한 파티션이 있어도 나머지 파티션은 끝까지 처리되며, 실패한 파티션은 job.lease.poll-interval-ms 후
+     * 체크포인트부터 다시 처리합니다. 실패가 job.partition.max-attempts 번 반복되면 작업을 멈추며,
+     * 다음 날 작업은 새 실행일로 처음부터 실행되므로 남은 파티션은 같은 날 애플리케이션이 다시 시작될 때
+     * (CronScheduler.resumeIncompleteJobs) 이어서 처리됩니다.
+     *
+     * @param jobName        작업 이름
+     * @param runDate        실행일
+     * @param chunkProcessor 청크의 (시작 사용자 ID, 끝 사용자 ID)를 받아 처리하는 함수 (양 끝 포함)
+     */
+    public void run(String jobName, Date runDate, BiConsumer<Long, Long> chunkProcessor) {
+        long startTime = System.nanoTime();
+        int failedAttempts = 0;
+
+        while (true) {
+            List<JobCheckpoint> partitions = getOrCreatePartitions(jobName, runDate);
+
+            Queue<JobCheckpoint> incompletePartitions = partitions.stream()
+                    .filter(partition -> !partition.getCompleted())
+                    .collect(Collectors.toCollection(ConcurrentLinkedQueue::new));
+
+            if (incompletePartitions.isEmpty()) {
+                log.info(jobName + " 작업이 완료되었습니다. (" +
+                        (System.nanoTime() - startTime) / 1_000_000 + "ms)");
+                return;
+            }
+
+            log.info(jobName + " 작업의 남은 파티션 " + incompletePartitions.size() + "/" + partitions.size() +
+                    "개를 처리합니다. (노드 " + partitionLeaseManager.getNodeId() + ")");
+
+            AtomicInteger acquiredCount = new AtomicInteger();
+            AtomicBoolean failed = new AtomicBoolean();
+            int workers = Math.min(jobExecutor.getMaxPoolSize(), incompletePartitions.size());
+
+            CompletableFuture<?>[] futures = IntStream.range(0, workers)
+                    .mapToObj(worker -> CompletableFuture.runAsync(() ->
+                            runLeasedPartitions(incompletePartitions, chunkProcessor, acquiredCount, failed),
+                            jobExecutor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+
+            if (failed.get()) {
+                if (++failedAttempts >= maxAttempts) {
+                    log.error(jobName + " 작업의 일부 파티션이 " + failedAttempts + "번 실패하여 작업을 멈춥니다. " +
+                            "완료되지 않은 파티션은 오늘 애플리케이션이 다시 시작되면 이어서 처리합니다.");
+                    return;
+                }
+
+                log.warn(jobName + " 작업의 일부 파티션이 실패했습니다. 체크포인트부터 다시 처리합니다. (" +
+                        failedAttempts + "/" + maxAttempts + ")");
+                if (!sleep(leasePollIntervalMillis)) {
+                    return;
+                }
+                continue;
+            }
+
+            // 남은 파티션이 모두 다른 서버에 임대 중이면 완료되거나 임대가 만료될 때까지 대기
+            if (acquiredCount.get() == 0 && !sleep(leasePollIntervalMillis)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 해당 실행일에 시작했지만 완료되지 않은 작업 목록 반환
+     *
+     * @param runDate 실행일
+     * @return 완료되지 않은 작업 이름 목록
+     */
+    public List<String> getIncompleteJobNames(Date runDate) {
+        return jobCheckpointRepository.findByRunDateAndCompletedFalse(runDate).stream()
+                .map(JobCheckpoint::getJobName)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 남은 파티션 목록에서 임대를 얻을 수 있는 파티션을 하나씩 꺼내 처리
+     * 임대를 얻은 뒤 체크포인트를 다시 조회하므로, 그 사이 다른 서버가 완료한 파티션은 다시 처리하지 않습니다.
+     *
+     * @param partitions     남은 파티션 목록 (작업 스레드 간 공유)
+     * @param chunkProcessor 청크 처리 함수
+     * @param acquiredCount  이 서버가 임대를 얻은 파티션 수
+     * @param failed         실패한 파티션이 있는지 여부
+     */
+    private void runLeasedPartitions(Queue<JobCheckpoint> partitions, BiConsumer<Long, Long> chunkProcessor,
+                                     AtomicInteger acquiredCount, AtomicBoolean failed) {
+        JobCheckpoint candidate;
+        while ((candidate = partitions.poll()) != null) {
+            if (!partitionLeaseManager.tryAcquire(candidate)) {
+                continue;
+            }
+            acquiredCount.incrementAndGet();
+
+            try {
+                jobCheckpointRepository.findById(candidate.getId())
+                        .filter(partition -> !partition.getCompleted())
+                        .ifPresent(partition -> runPartition(partition, chunkProcessor));
+            } catch (RuntimeException e) {
+                failed.set(true);
+                log.error(candidate.getJobName() + " 작업의 " + candidate.getPartitionNo() +
+                        "번 파티션이 실패했습니다.", e);
+            } finally {
+                partitionLeaseManager.release(candidate);
+            }
+        }
+    }
+
+    /**
+     * 임대를 얻은 파티션 하나를 체크포인트부터 끝까지 청크 단위로 처리
+     * 청크를 커밋하기 전에 임대를 연장하며, 임대가 만료되어 다른 서버로 넘어갔으면 청크를 롤백하고 처리를 멈춥니다.
+     * 처리한 사용자 수와 소요 시간은 job.partition.users, job.partition.duration 지표로 기록됩니다.
+     *
+     * @param partition      파티션의 체크포인트
+     * @param chunkProcessor 청크 처리 함수
+     */
+    private void runPartition(JobCheckpoint partition, BiConsumer<Long, Long> chunkProcessor) {
+        String jobName = partition.getJobName();
+        String partitionNo = String.valueOf(partition.getPartitionNo());
+        Counter processedUsers = meterRegistry.counter("job.partition.users",
+                "job", jobName, "partition", partitionNo);
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        if (partition.getLastUserId() >= partition.getFromUserId()) {
+            log.info(jobName + " 작업의 " + partitionNo + "번 파티션을 사용자 ID " +
+                    partition.getLastUserId() + " 이후부터 이어서 실행합니다.");
+        }
+
+        long processedCount = 0;
+        List<Long> userIds = nextChunk(partition.getLastUserId(), partition.getToUserId());
+
+        while (!userIds.isEmpty()) {
+            Long fromUserId = userIds.get(0);
+            Long toUserId = userIds.get(userIds.size() - 1);
+
+            // 청크 처리와 체크포인트 기록을 한 트랜잭션으로 커밋
+            Boolean leased = transactionTemplate.execute(status -> {
+                chunkProcessor.accept(fromUserId, toUserId);
+                if (!partitionLeaseManager.renew(partition)) {
+                    status.setRollbackOnly();
+                    return false;
+                }
+                partition.setLastUserId(toUserId);
+                jobCheckpointRepository.save(partition);
+                return true;
+            });
+
+            if (!Boolean.TRUE.equals(leased)) {
+                log.warn(jobName + " 작업의 " + partitionNo + "번 파티션 임대가 만료되어 처리를 멈춥니다.");
+                return;
+            }
+
+            processedCount += userIds.size();
+            processedUsers.increment(userIds.size());
+            log.debug(jobName + " 작업의 " + partitionNo + "번 파티션: 사용자 ID " + toUserId +
+                    "까지 " + processedCount + "명 처리");
+
+            userIds = nextChunk(toUserId, partition.getToUserId());
+        }
+
+        partition.setCompleted(true);
+        jobCheckpointRepository.save(partition);
+
+        long elapsed = sample.stop(meterRegistry.timer("job.partition.duration",
+                "job", jobName, "partition", partitionNo));
+        log.info(jobName + " 작업의 " + partitionNo + "번 파티션이 완료되었습니다. (" +
+                processedCount + "명, " + elapsed / 1_000_000 + "ms)");
+    }
+
+    /**
+     * 해당 실행일의 작업 파티션 목록을 조회하고, 없으면 사용자 ID 범위를 균등하게 나누어 생성
+     * 파티션 수는 작업 스레드 수 * job.partitions-per-worker 이며, 마지막 파티션은 작업 도중 가입한 사용자도 포함합니다.
+     * 여러 서버가 동시에 파티션을 만들면 먼저 저장한 서버의 파티션을 사용합니다.
+     *
+     * @param jobName 작업 이름
+     * @param runDate 실행일
+     * @return 파티션 번호 순으로 정렬된 파티션 체크포인트 목록
+     */
+    private List<JobCheckpoint> getOrCreatePartitions(String jobName, Date runDate) {
+        List<JobCheckpoint> partitions =
+                jobCheckpointRepository.findByJobNameAndRunDateOrderByPartitionNo(jobName, runDate);
+        if (!partitions.isEmpty()) {
+            return partitions;
+        }
+
+        Long minUserId = userRepository.findMinId();
+        Long maxUserId = userRepository.findMaxId();
+        if (minUserId == null) {
+            return partitions;
+        }
+
+        int partitionCount = jobExecutor.getMaxPoolSize() * partitionsPerWorker;
+        long partitionSize = Math.max(1, (maxUserId - minUserId) / partitionCount + 1);
+
+        List<JobCheckpoint> created = new ArrayList<>();
+        for (int partitionNo = 0; minUserId + partitionNo * partitionSize <= maxUserId; partitionNo++) {
+            long fromUserId = minUserId + partitionNo * partitionSize;
+            long toUserId = fromUserId + partitionSize - 1 >= maxUserId ?
+                    Long.MAX_VALUE : fromUserId + partitionSize - 1;
+            created.add(JobCheckpoint.from(jobName, runDate, partitionNo, fromUserId, toUserId));
+        }
+
+        try {
+            return jobCheckpointRepository.saveAll(created);
+        } catch (DataIntegrityViolationException e) {
+            return jobCheckpointRepository.findByJobNameAndRunDateOrderByPartitionNo(jobName, runDate);
+        }
+    }
+
+    /**
+     * 다른 서버의 파티션 처리나 실패한 파티션의 재시도를 기다리며 대기
+     *
+     * @param millis 대기 시간
+     * @return 대기를 마친 경우 true, 인터럽트된 경우 false
+     */
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 마지막으로 처리한 사용자 ID 다음부터 파티션 끝까지 청크 크기만큼의 사용자 ID 조회
+     *
+     * @param lastUserId 마지막으로 처리한 사용자 ID
+     * @param toUserId   파티션의 끝 사용자 ID (포함)
+     * @return 다음 청크의 사용자 ID 목록 (오름차순)
+     */
+    private List<Long> nextChunk(Long lastUserId, Long toUserId) {
+        return userRepository.findIdsBetween(lastUserId, toUserId, PageRequest.of(0, chunkSize));
+    }
+}
@@ -1,35 +1,159 @@
 package com.mybudget.component;
 
+import com.mybudget.config.JwtKeyRing;
 import com.mybudget.service.BudgetRecommendationService;
 import com.mybudget.service.ExpenseService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Date;
+import java.time.LocalDate;
+
+@Slf4j
 @RequiredArgsConstructor
 @Component
 public class CronScheduler {
 
+    private static final String NOTIFY_TODAY_EXPENSE_JOB = "notifyTodayExpense";
+    private static final String RECOMMEND_DAILY_EXPENSES_JOB = "recommendDailyExpenses";
+    private static final String CALCULATE_PERSONAL_BUDGET_RATIOS_JOB = "calculatePersonalBudgetRatios";
+    private static final String CALCULATE_CATEGORY_RATIO_JOB = "calculateAndSaveCategoryRatio";
+    private static final String RECONCILE_BUDGET_CATEGORY_TOTALS_JOB = "reconcileBudgetCategoryTotals";
+    private static final String ROTATE_JWT_SIGNING_KEY_JOB = "rotateJwtSigningKey";
+
     private final BudgetRecommendationService budgetRecommendationService;
     private final ExpenseService expenseService;
+    private final ExpenseRatioSnapshot expenseRatioSnapshot;
+    private final ExpenseRatioSketch expenseRatioSketch;
+    private final ChunkedJobRunner chunkedJobRunner;
+    private final JwtKeyRing jwtKeyRing;
+    private final RevokedTokenFilter revokedTokenFilter;
+    private final TaskScheduler taskScheduler;
+    private final PartitionLeaseManager partitionLeaseManager;
 
     @Scheduled(cron = "0 0 0 * * *") // 매일 00시에 실행
     @Transactional
     public void calculateAndSaveCategoryRatio() {
-        budgetRecommendationService.setRatiosPerBudgets();
+        if (acquireRun(CALCULATE_CATEGORY_RATIO_JOB)) {
+            budgetRecommendationService.setRatiosPerBudgets();
+        }
+    }
+
+    @Scheduled(cron = "0 30 4 * * SUN") // 매주 일요일 04시 30분에 실행
+    public void reconcileBudgetCategoryTotals() {
+        if (acquireRun(RECONCILE_BUDGET_CATEGORY_TOTALS_JOB)) {
+            budgetRecommendationService.reconcileCategoryTotals();
+        }
+    }
+
+    @Scheduled(cron = "0 0 3 * * MON") // 매주 월요일 03시에 실행
+    public void rotateJwtSigningKey() {
+        if (acquireRun(ROTATE_JWT_SIGNING_KEY_JOB)) {
+            jwtKeyRing.rotate();
+        }
+    }
+
+    @Scheduled(cron = "0 0 1 * * *") // 매일 01시에 실행
+    public void calculatePersonalBudgetRatios() {
+        runJob(CALCULATE_PERSONAL_BUDGET_RATIOS_JOB, Date.valueOf(LocalDate.now()));
     }
 
     @Scheduled(cron = "0 0 20 * * *") // 매일 20시에 실행
-    @Transactional(readOnly = true)
     public void notifyTodayExpense() {
-        expenseService.notifyTodayExpense();
+        runJob(NOTIFY_TODAY_EXPENSE_JOB, Date.valueOf(LocalDate.now()));
     }
 
     @Scheduled(cron = "0 0 8 * * *") // 매일 08시에 실행
-    @Transactional(readOnly = true)
     public void recommendDailyExpenses() {
-        expenseService.recommendExpenses();
+        runJob(RECOMMEND_DAILY_EXPENSES_JOB, Date.valueOf(LocalDate.now()));
+    }
+
+    /**
+     * 애플리케이션 시작 시 오늘 시작했지만 완료되지 않은 사용자 작업을 마지막 체크포인트부터 이어서 실행
+     * 작업은 다른 서버의 파티션 처리를 기다리는 동안 오래 걸릴 수 있으므로 스케줄러 스레드에서 실행하여
+     * 이벤트 리스너가 애플리케이션 준비 완료(readiness)를 막지 않도록 합니다.
+     * 파티션을 처리하는 jobExecutor 에 넣으면 작업 스레드가 자신의 파티션을 기다리게 되므로 사용하지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeIncompleteJobs() {
+        Date today = Date.valueOf(LocalDate.now());
+
+        for (String jobName : chunkedJobRunner.getIncompleteJobNames(today)) {
+            taskScheduler.execute(() -> runJob(jobName, today));
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 오늘 이미 등록된 지출을 지출 비율 분포에 적재
+     * 분포는 지출 변경 시에만 갱신되므로 배포 이전에 등록된 지출이 빠지지 않도록 합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadExpenseRatioSketch() {
+        expenseRatioSketch.load(Date.valueOf(LocalDate.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${statistics.expense-ratio-snapshot.refresh-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void refreshExpenseRatioSnapshot() {
+        expenseRatioSnapshot.refresh(Date.valueOf(LocalDate.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${statistics.expense-ratio-sketch.flush-interval-ms:5000}")
+    public void flushExpenseRatioSketch() {
+        expenseRatioSketch.flush();
+    }
+
+    @Scheduled(fixedDelayString = "${token.revoked-filter.sync-interval-ms:5000}")
+    public void syncRevokedTokenFilter() {
+        revokedTokenFilter.sync();
+    }
+
+    /**
+     * 파티션으로 나누지 않는 작업의 오늘 실행 임대 획득
+     * 모든 서버에서 같은 스케줄이 실행되므로 임대를 얻은 서버 하나만 작업을 실행합니다.
+     *
+     * @param jobName 작업 이름
+     * @return 이 서버가 실행해야 하는 경우 true
+     */
+    private boolean acquireRun(String jobName) {
+        if (partitionLeaseManager.tryAcquireRun(jobName, Date.valueOf(LocalDate.now()))) {
+            return true;
+        }
+
+        log.info("다른 서버가 이미 실행한 작업입니다: " + jobName);
+        return false;
+    }
+
+    /**
+     * 사용자 작업을 사용자 ID 범위 청크 단위로 실행
+     *
+     * @param jobName 작업 이름
+     * @param runDate 실행일
+     */
+    private void runJob(String jobName, Date runDate) {
+        switch (jobName) {
+            case NOTIFY_TODAY_EXPENSE_JOB:
+                chunkedJobRunner.run(jobName, runDate,
+                        (fromUserId, toUserId) -> expenseService.notifyTodayExpense(runDate, fromUserId, toUserId));
+                break;
+            case RECOMMEND_DAILY_EXPENSES_JOB:
+                chunkedJobRunner.run(jobName, runDate,
+                        (fromUserId, toUserId) -> expenseService.recommendExpenses(runDate, fromUserId, toUserId));
+                break;
+            case CALCULATE_PERSONAL_BUDGET_RATIOS_JOB:
+                chunkedJobRunner.run(jobName, runDate, (fromUserId, toUserId) ->
+                        budgetRecommendationService.calculatePersonalRatios(runDate, fromUserId, toUserId));
+                break;
+            default:
+                log.warn("알 수 없는 작업입니다: " + jobName);
+        }
     }
 
 }
@@ -0,0 +1,219 @@
+package com.mybudget.component;
+
+import com.mybudget.dto.UserCategoryRatioDto;
+import com.mybudget.enums.Categories;
+import com.mybudget.repository.ExpenseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 날짜, 카테고리별 사용자 지출 비율 평균의 분포를 로그 스케일 구간 히스토그램으로 집계하는 스케치
+ * 각 구간은 이전 구간보다 2% 넓으므로 값의 크기와 관계없이 상대 오차 2% 이내로 백분위를 계산하며,
+ * 구간 수가 제한되어 지출 건수와 관계없이 히스토그램 크기가 일정합니다.
+ * <p>
+ * 히스토그램에는 사용자마다 (날짜, 카테고리)별 평균 하나만 들어가도록 사용자의 현재 구간을 함께 저장하고,
+ * 평균이 바뀌면 이전 구간에서 빼서 새 구간으로 옮깁니다. 지출이 많은 사용자가 분포를 좌우하지 않습니다.
+ * 각 서버는 사용자별 최신 평균의 구간만 모아 두었다가 Lua 스크립트로 원자적으로 옮기므로
+ * 여러 서버가 같은 사용자를 반영해도 항목은 하나로 유지됩니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ExpenseRatioSketch {
+    private static final String KEY_PREFIX = "statistics:expense-ratio-sketch:";
+    private static final String MEMBERS_KEY_PREFIX = "statistics:expense-ratio-sketch:members:";
+    private static final long KEY_TTL_DAYS = 3;
+
+    // 분포에서 제거할 사용자를 나타내는 구간 번호
+    private static final int REMOVED = -1;
+
+    private static final double MIN_VALUE = 0.01;
+    private static final double LOG_GAMMA = Math.log(1.02);
+
+    // KEYS[1] 히스토그램, KEYS[2] 사용자별 현재 구간, ARGV[1] 만료 시간(초), 이후 (사용자 ID, 구간 번호) 쌍
+    private static final RedisScript<Long> MOVE_SCRIPT = new DefaultRedisScript<>(
+            "for i = 2, #ARGV, 2 do " +
+                    "local previous = redis.call('HGET', KEYS[2], ARGV[i]) " +
+                    "if previous ~= ARGV[i + 1] then " +
+                    "if previous then redis.call('HINCRBY', KEYS[1], previous, -1) end " +
+                    "if ARGV[i + 1] == '" + REMOVED + "' then redis.call('HDEL', KEYS[2], ARGV[i]) " +
+                    "else redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 1]) " +
+                    "redis.call('HINCRBY', KEYS[1], ARGV[i + 1], 1) end " +
+                    "end " +
+                    "end " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+                    "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+                    "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ExpenseRepository expenseRepository;
+
+    // 아직 Redis 에 반영하지 않은 (날짜:카테고리) 별 사용자의 최신 구간
+    private final ConcurrentHashMap<String, ConcurrentHashMap<Long, Integer>> pending =
+            new ConcurrentHashMap<>();
+
+    /**
+     * 사용자의 해당 날짜, 카테고리 지출 비율 평균을 다시 계산하여 분포에 반영
+     * 합계제외 처리하지 않은 지출이 없으면 사용자를 분포에서 제거합니다.
+     *
+     * @param date     지출일
+     * @param category 카테고리
+     * @param userId   사용자 ID
+     */
+    public void refresh(Date date, Categories category, Long userId) {
+        Double averageRatio = expenseRepository
+                .getExpenseRatioSummaryOfUserByCategory(userId, date, category)
+                .average();
+
+        record(date, category, userId, averageRatio);
+    }
+
+    /**
+     * 해당 날짜의 모든 사용자, 카테고리별 평균을 분포에 반영
+     * 사용자별 항목을 옮기는 방식이므로 여러 번, 여러 서버에서 실행해도 결과가 같습니다.
+     * 서버 시작 시 배포 이전에 등록된 지출을 분포에 채우는 데 사용합니다.
+     *
+     * @param date 날짜
+     */
+    public void load(Date date) {
+        List<UserCategoryRatioDto> averages = expenseRepository.getExpenseRatioAveragesPerUserAndCategory(date);
+        averages.forEach(average ->
+                record(date, average.getCategory(), average.getUserId(), average.getAverageRatio()));
+        flush();
+
+        log.info("{} 지출 비율 분포 적재 완료: {}건", date, averages.size());
+    }
+
+    /**
+     * 사용자의 지출 비율 평균을 분포에 반영할 변경분으로 기록
+     *
+     * @param date         지출일
+     * @param category     카테고리
+     * @param userId       사용자 ID
+     * @param averageRatio 지출 비율 평균, 지출이 없는 경우 null
+     */
+    void record(Date date, Categories category, Long userId, Double averageRatio) {
+        int bucket = averageRatio == null ? REMOVED : bucketOf(averageRatio);
+
+        // 반영 후 빈 맵을 제거하는 flush 와 겹쳐도 변경분이 빠지지 않도록 키 단위로 원자적으로 기록
+        pending.compute(key(date, category), (key, buckets) -> {
+            ConcurrentHashMap<Long, Integer> current = buckets == null ? new ConcurrentHashMap<>() : buckets;
+            current.put(userId, bucket);
+            return current;
+        });
+    }
+
+    /**
+     * 모아 둔 변경분을 Redis 에 반영
+     * 키마다 따로 반영하여 한 키가 실패해도 나머지 키는 반영하며,
+     * 반영에 성공한 변경분만 제거하므로 실패한 변경분은 다음 반영 때 다시 시도합니다.
+     * 반영 중에 같은 사용자의 새 평균이 기록되면 그 값은 남겨 두었다가 다음에 반영합니다.
+     */
+    public void flush() {
+        pending.forEach((key, buckets) -> {
+            Map<Long, Integer> moves = new HashMap<>(buckets);
+            if (moves.isEmpty()) {
+                pending.computeIfPresent(key, (k, current) -> current.isEmpty() ? null : current);
+                return;
+            }
+
+            List<String> args = new ArrayList<>();
+            args.add(String.valueOf(TimeUnit.DAYS.toSeconds(KEY_TTL_DAYS)));
+            moves.forEach((userId, bucket) -> {
+                args.add(String.valueOf(userId));
+                args.add(String.valueOf(bucket));
+            });
+
+            try {
+                redisTemplate.execute(MOVE_SCRIPT,
+                        Arrays.asList(KEY_PREFIX + key, MEMBERS_KEY_PREFIX + key), args.toArray());
+            } catch (DataAccessException e) {
+                log.warn("지출 비율 분포 반영 실패, 다음 반영 때 다시 시도합니다. key: {}", key, e);
+                return;
+            }
+
+            moves.forEach(buckets::remove);
+            pending.computeIfPresent(key, (k, current) -> current.isEmpty() ? null : current);
+        });
+    }
+
+    /**
+     * 해당 날짜, 카테고리에서 다른 사용자들의 지출 비율 평균 분포 중 주어진 값의 백분위 계산
+     * 사용자 본인의 항목은 분포에서 빼고 계산하며, 같은 구간에 속한 값은 절반이 주어진 값보다 작다고 간주합니다.
+     * 다른 서버의 미반영 변경분은 다음 반영 후에 포함됩니다.
+     *
+     * @param date     지출일
+     * @param category 카테고리
+     * @param userId   사용자 ID
+     * @param ratio    사용자의 지출 비율 평균
+     * @return 백분위 (0 ~ 100, 소수점 한 자리까지), 다른 사용자가 없는 경우 null
+     */
+    public Double percentileRank(Date date, Categories category, Long userId, double ratio) {
+        String key = key(date, category);
+        Map<Integer, Long> histogram = new HashMap<>();
+
+        redisTemplate.<String, String>opsForHash().entries(KEY_PREFIX + key)
+                .forEach((bucket, count) ->
+                        histogram.put(Integer.parseInt(bucket), Long.parseLong(count)));
+
+        String myBucket = redisTemplate.<String, String>opsForHash()
+                .get(MEMBERS_KEY_PREFIX + key, String.valueOf(userId));
+        if (myBucket != null) {
+            histogram.merge(Integer.parseInt(myBucket), -1L, Long::sum);
+        }
+
+        int bucket = bucketOf(ratio);
+        long total = 0;
+        double below = 0;
+
+        for (Map.Entry<Integer, Long> entry : histogram.entrySet()) {
+            long count = entry.getValue();
+            total += count;
+
+            if (entry.getKey() < bucket) {
+                below += count;
+            } else if (entry.getKey() == bucket) {
+                below += count / 2.0;
+            }
+        }
+
+        if (total <= 0) {
+            return null;
+        }
+
+        return Math.round(below / total * 1000) / 10.0;
+    }
+
+    /**
+     * 지출 비율이 속한 구간 번호 계산
+     * 0.01 미만은 0번 구간, 그 이상은 0.01 * 1.02^(n-1) 이상 0.01 * 1.02^n 미만을 n번 구간으로 합니다.
+     *
+     * @param ratio 지출 비율
+     * @return 구간 번호
+     */
+    static int bucketOf(double ratio) {
+        if (ratio < MIN_VALUE) {
+            return 0;
+        }
+        return 1 + (int) Math.floor(Math.log(ratio / MIN_VALUE) / LOG_GAMMA);
+    }
+
+    private String key(Date date, Categories category) {
+        return date + ":" + category;
+    }
+}
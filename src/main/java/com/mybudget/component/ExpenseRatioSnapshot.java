@@ -0,0 +1,170 @@
+package com.mybudget.component;
+
+import com.mybudget.dto.ExpenseRatioSummaryDto;
+import com.mybudget.repository.ExpenseRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 날짜별 전체 사용자의 지출 비율 합계와 건수 스냅샷
+ * 다른 사용자와 비교 통계는 사용자 본인을 제외하면 모든 사용자에게 같은 값이므로
+ * 주기적으로 한 번 집계해 두고, 요청 시에는 본인의 기여분만 빼서 계산합니다.
+ * 집계 결과는 Redis 에도 기록하여 다른 서버는 직접 집계하지 않고 가져다 씁니다.
+ * <p>
+ * 본인의 기여분은 요청 시점의 값이므로 스냅샷 갱신 이후 본인이 지출을 변경했다면 스냅샷과 맞지 않습니다.
+ * 스냅샷 갱신과 지출 변경 기록은 모두 Redis 의 세대 번호를 INCR 로 하나씩 올려 받고,
+ * 변경 세대가 스냅샷 세대보다 큰 사용자에게는 스냅샷을 사용하지 않습니다.
+ * 서버마다 다를 수 있는 시계 대신 Redis 가 정한 순서로 비교하므로 서버 간 시각 차이에 영향을 받지 않습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ExpenseRatioSnapshot {
+    private static final String KEY_PREFIX = "statistics:expense-ratio:";
+    private static final String WRITTEN_KEY_PREFIX = "statistics:expense-ratio:written:";
+    private static final String REFRESH_KEY_PREFIX = "statistics:expense-ratio:refresh:";
+    private static final String GENERATION_KEY = "statistics:expense-ratio:generation";
+    private static final long KEY_TTL_DAYS = 2;
+
+    private final ExpenseRepository expenseRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    @Value("${statistics.expense-ratio-snapshot.refresh-interval-ms:60000}")
+    private long refreshIntervalMillis;
+
+    /**
+     * 해당 날짜의 스냅샷 갱신
+     * 갱신 주기마다 한 서버만 집계하고, 다른 서버는 집계하지 않고 Redis 에 기록된 스냅샷을 사용합니다.
+     *
+     * @param date 날짜
+     */
+    public void refresh(Date date) {
+        boolean refreshing = Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(REFRESH_KEY_PREFIX + date, "1", Duration.ofMillis(refreshIntervalMillis)));
+
+        String cached = redisTemplate.opsForValue().get(KEY_PREFIX + date);
+        if (!refreshing && cached != null) {
+            snapshot.set(toSnapshot(date, cached.split(":")));
+            return;
+        }
+
+        // 집계 시작 전에 세대를 올리므로 집계 중 커밋된 변경도 갱신 이후 변경으로 봄
+        long generation = nextGeneration();
+        ExpenseRatioSummaryDto summary = expenseRepository.getExpenseRatioSummary(date);
+        snapshot.set(new Snapshot(summary, generation));
+
+        redisTemplate.opsForValue().set(
+                KEY_PREFIX + date,
+                summary.getRatioSum() + ":" + summary.getCount() + ":" + generation,
+                KEY_TTL_DAYS, TimeUnit.DAYS
+        );
+
+        log.info(date + " 지출 비율 스냅샷 갱신: 합계 " + summary.getRatioSum() + ", 건수 " + summary.getCount());
+    }
+
+    /**
+     * 해당 날짜의 스냅샷 반환
+     * 로컬 스냅샷이 없으면 다른 서버가 Redis 에 기록한 스냅샷을 사용합니다.
+     *
+     * @param date   날짜
+     * @param userId 스냅샷에서 기여분을 뺄 사용자 ID
+     * @return 해당 날짜의 전체 사용자 지출 비율 합계와 건수,
+     * 스냅샷이 없거나 스냅샷 갱신 이후 사용자가 해당 날짜의 지출을 변경한 경우 빈 값
+     */
+    public Optional<ExpenseRatioSummaryDto> get(Date date, Long userId) {
+        Snapshot current = snapshot.get();
+
+        if (current == null || !current.getSummary().getExpenseDate().equals(date)) {
+            String cached = redisTemplate.opsForValue().get(KEY_PREFIX + date);
+            if (cached == null) {
+                return Optional.empty();
+            }
+
+            Snapshot loaded = toSnapshot(date, cached.split(":"));
+            snapshot.compareAndSet(current, loaded);
+            current = loaded;
+        }
+
+        String written = redisTemplate.opsForValue().get(writtenKey(date, userId));
+        if (written != null && Long.parseLong(written) > current.getGeneration()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(current.getSummary());
+    }
+
+    /**
+     * 사용자가 해당 날짜의 지출을 변경한 세대 기록
+     * 지출 변경 트랜잭션이 커밋된 뒤 호출합니다.
+     *
+     * @param date   지출일
+     * @param userId 사용자 ID
+     */
+    public void markWritten(Date date, Long userId) {
+        try {
+            redisTemplate.opsForValue().set(
+                    writtenKey(date, userId), String.valueOf(nextGeneration()),
+                    KEY_TTL_DAYS, TimeUnit.DAYS
+            );
+        } catch (RuntimeException e) {
+            log.warn("지출 변경 세대 기록에 실패했습니다. 사용자 ID: " + userId, e);
+        }
+    }
+
+    /**
+     * 스냅샷 갱신과 지출 변경이 공유하는 세대 번호를 하나 올려서 반환
+     * 세대 키는 만료하지 않으므로 날짜가 바뀌어도 번호가 줄어들지 않습니다.
+     *
+     * @return 새 세대 번호
+     */
+    private long nextGeneration() {
+        Long generation = redisTemplate.opsForValue().increment(GENERATION_KEY);
+        if (generation == null) {
+            throw new IllegalStateException("지출 비율 스냅샷 세대를 발급하지 못했습니다.");
+        }
+        return generation;
+    }
+
+    private String writtenKey(Date date, Long userId) {
+        return WRITTEN_KEY_PREFIX + date + ":" + userId;
+    }
+
+    /**
+     * Redis 에 기록된 "합계:건수:세대" 값을 스냅샷으로 변환
+     *
+     * @param date   날짜
+     * @param values ':' 로 분리한 Redis 값
+     * @return 지출 비율 합계와 건수, 세대
+     */
+    private Snapshot toSnapshot(Date date, String[] values) {
+        ExpenseRatioSummaryDto summary = ExpenseRatioSummaryDto.builder()
+                .expenseDate(date)
+                .ratioSum(Double.parseDouble(values[0]))
+                .count(Long.parseLong(values[1]))
+                .build();
+        return new Snapshot(summary, Long.parseLong(values[2]));
+    }
+
+    /**
+     * 집계와 집계를 시작할 때 발급한 세대
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class Snapshot {
+        private final ExpenseRatioSummaryDto summary;
+        private final long generation;
+    }
+}
@@ -0,0 +1,101 @@
+package com.mybudget.component;
+
+import com.mybudget.domain.JobCheckpoint;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+
+/**
+ * 배치 작업 파티션의 Redis 임대(lease)
+ * 여러 서버가 같은 작업을 실행해도 파티션마다 임대를 얻은 서버 하나만 처리하므로 작업이 중복되지 않고 서버 수만큼 나누어 처리됩니다.
+ * 임대는 만료 시간이 있어 처리하던 서버가 죽으면 만료 후 다른 서버가 넘겨받으며,
+ * 연장과 반납은 Lua 스크립트로 소유 서버를 확인한 뒤 원자적으로 수행합니다.
+ * 파티션으로 나누지 않는 작업은 실행일마다 한 번만 얻을 수 있는 실행 임대로 한 서버에서만 실행합니다.
+ */
+@RequiredArgsConstructor
+@Component
+public class PartitionLeaseManager {
+    private static final String KEY_PREFIX = "job:lease:";
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+                    "else return 0 end",
+            Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('DEL', KEYS[1]) " +
+                    "else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${job.lease.ttl-ms:60000}")
+    private long leaseTtlMillis;
+
+    @Value("${job.lease.run-ttl-ms:86400000}")
+    private long runLeaseTtlMillis;
+
+    /**
+     * 작업의 실행일 실행 임대 획득 시도 (SET NX PX)
+     * 작업이 끝나도 반납하지 않으므로 서버마다 스케줄 실행 시각이 조금씩 달라도 먼저 얻은 서버만 실행합니다.
+     * 임대를 얻은 서버가 실행 중에 죽으면 해당 실행일의 작업은 다음 실행 때까지 실행되지 않습니다.
+     *
+     * @param jobName 작업 이름
+     * @param runDate 실행일
+     * @return 임대를 얻은 경우 true, 다른 서버가 이미 실행한 경우 false
+     */
+    public boolean tryAcquireRun(String jobName, Date runDate) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(KEY_PREFIX + jobName + ":" + runDate, nodeId, Duration.ofMillis(runLeaseTtlMillis)));
+    }
+
+    /**
+     * 파티션의 임대 획득 시도 (SET NX PX)
+     *
+     * @param partition 파티션의 체크포인트
+     * @return 임대를 얻은 경우 true, 다른 서버가 임대 중인 경우 false
+     */
+    public boolean tryAcquire(JobCheckpoint partition) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(leaseKey(partition), nodeId, Duration.ofMillis(leaseTtlMillis)));
+    }
+
+    /**
+     * 이 서버가 임대 중인 경우에만 파티션의 임대 만료 시간 연장
+     *
+     * @param partition 파티션의 체크포인트
+     * @return 연장한 경우 true, 임대가 만료되어 다른 서버로 넘어간 경우 false
+     */
+    public boolean renew(JobCheckpoint partition) {
+        Long result = redisTemplate.execute(RENEW_SCRIPT,
+                Collections.singletonList(leaseKey(partition)), nodeId, String.valueOf(leaseTtlMillis));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 이 서버가 임대 중인 경우에만 파티션의 임대 반납
+     *
+     * @param partition 파티션의 체크포인트
+     */
+    public void release(JobCheckpoint partition) {
+        redisTemplate.execute(RELEASE_SCRIPT, Collections.singletonList(leaseKey(partition)), nodeId);
+    }
+
+    private String leaseKey(JobCheckpoint partition) {
+        return KEY_PREFIX + partition.getJobName() + ":" + partition.getRunDate() + ":" + partition.getPartitionNo();
+    }
+}
@@ -0,0 +1,190 @@
+package com.mybudget.component;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 토큰 ID(jti) 목록
+ * 폐기된 토큰은 Redis 의 정렬 집합(jti -> 만료 시각)에 저장하고, 각 서버는 이를 주기적으로 동기화한 Bloom filter 를 둡니다.
+ * Bloom filter 에 없는 토큰은 폐기되지 않은 것이 확실하므로 대부분의 확인은 Redis 조회 없이 끝나며,
+ * Bloom filter 에 있는 경우에만 (오탐일 수 있으므로) Redis 에서 확인합니다.
+ * <p>
+ * 동기화는 폐기 기록(jti -> 폐기 시각)에서 마지막 동기화 이후 폐기된 토큰만 읽어 Bloom filter 에 추가하고,
+ * 만료된 토큰을 Bloom filter 에서 빼기 위한 전체 재구성은 token.revoked-filter.rebuild-interval-ms 마다 합니다.
+ * 다른 서버가 폐기한 토큰은 다음 동기화 전까지 이 서버의 Bloom filter 에 없을 수 있습니다.
+ */
+@Component
+public class RevokedTokenFilter {
+    private static final String REVOKED_KEY = "jwt:revoked";
+    private static final String REVOCATION_LOG_KEY = "jwt:revoked:log";
+
+    // 서버 간 시계 차이로 빠지는 기록이 없도록 마지막 동기화 시각보다 조금 앞부터 읽음
+    private static final long SYNC_OVERLAP_MILLIS = 10 * 1000L;
+    private static final long LOG_RETENTION_MILLIS = 10 * 60 * 1000L;
+
+    private final StringRedisTemplate redisTemplate;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final long rebuildIntervalMillis;
+
+    private volatile BloomFilter bloomFilter;
+    private long lastSyncedAt;
+    private long lastRebuiltAt;
+
+    public RevokedTokenFilter(StringRedisTemplate redisTemplate,
+                              @Value("${token.revoked-filter.expected-insertions:100000}") int expectedInsertions,
+                              @Value("${token.revoked-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                              @Value("${token.revoked-filter.rebuild-interval-ms:3600000}") long rebuildIntervalMillis) {
+        this.redisTemplate = redisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildIntervalMillis = rebuildIntervalMillis;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 토큰 폐기
+     * 토큰이 만료되면 더 이상 확인할 필요가 없으므로 만료 시각까지만 보관합니다.
+     *
+     * @param tokenId    토큰 ID (jti)
+     * @param expiration 토큰 만료 시각
+     */
+    public void revoke(String tokenId, Date expiration) {
+        redisTemplate.opsForZSet().add(REVOKED_KEY, tokenId, expiration.getTime());
+        redisTemplate.opsForZSet().add(REVOCATION_LOG_KEY, tokenId, System.currentTimeMillis());
+
+        // 동기화 중 교체되는 Bloom filter 에서 빠지지 않도록 동기화와 순서를 맞춤
+        synchronized (this) {
+            bloomFilter.put(tokenId);
+        }
+    }
+
+    /**
+     * 폐기된 토큰인지 확인
+     *
+     * @param tokenId 토큰 ID (jti)
+     * @return 폐기된 경우 true
+     */
+    public boolean isRevoked(String tokenId) {
+        if (!bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+
+        return redisTemplate.opsForZSet().score(REVOKED_KEY, tokenId) != null;
+    }
+
+    /**
+     * 다른 서버가 폐기한 토큰을 Bloom filter 에 반영
+     * 마지막 동기화 이후의 폐기 기록만 읽으며, 재구성 주기가 지났거나
+     * 폐기 기록 보관 기간보다 오래 동기화하지 못한 경우 전체 목록으로 다시 만듭니다.
+     */
+    @PostConstruct
+    public synchronized void sync() {
+        long now = System.currentTimeMillis();
+
+        if (now - lastRebuiltAt >= rebuildIntervalMillis
+                || now - lastSyncedAt >= LOG_RETENTION_MILLIS - SYNC_OVERLAP_MILLIS) {
+            rebuild(now);
+            return;
+        }
+
+        Set<String> tokenIds = redisTemplate.opsForZSet()
+                .rangeByScore(REVOCATION_LOG_KEY, lastSyncedAt - SYNC_OVERLAP_MILLIS, Double.POSITIVE_INFINITY);
+        if (tokenIds != null) {
+            tokenIds.forEach(bloomFilter::put);
+        }
+
+        lastSyncedAt = now;
+    }
+
+    /**
+     * 만료된 토큰과 오래된 폐기 기록을 Redis 에서 지우고 남은 폐기 목록으로 Bloom filter 를 다시 만듦
+     *
+     * @param now 재구성 시작 시각, 이후의 폐기 기록은 다음 동기화에서 읽음
+     */
+    private void rebuild(long now) {
+        redisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, 0, now);
+        redisTemplate.opsForZSet().removeRangeByScore(REVOCATION_LOG_KEY, 0, now - LOG_RETENTION_MILLIS);
+        Set<String> tokenIds = redisTemplate.opsForZSet().range(REVOKED_KEY, 0, -1);
+
+        int size = tokenIds == null ? 0 : tokenIds.size();
+        BloomFilter synced = new BloomFilter(Math.max(expectedInsertions, size), falsePositiveRate);
+        if (tokenIds != null) {
+            tokenIds.forEach(synced::put);
+        }
+
+        bloomFilter = synced;
+        lastSyncedAt = now;
+        lastRebuiltAt = now;
+    }
+
+    /**
+     * 여러 스레드에서 동시에 추가, 조회할 수 있는 Bloom filter
+     * 두 해시를 조합(double hashing)하여 k 개의 비트 위치를 구합니다.
+     */
+    static class BloomFilter {
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashCount;
+
+        BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            long size = (long) Math.ceil(
+                    -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitSize = Math.max(64, size);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+            this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+        }
+
+        void put(String value) {
+            long hash1 = hash1(value);
+            long hash2 = hash2(value);
+
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(hash1 + i * hash2, bitSize);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+
+                long current;
+                do {
+                    current = bits.get(word);
+                } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash1 = hash1(value);
+            long hash2 = hash2(value);
+
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(hash1 + i * hash2, bitSize);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // FNV-1a 64
+        private static long hash1(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+
+        // String.hashCode 를 섞은 값, 0 이 되지 않도록 홀수로 만듦
+        private static long hash2(String value) {
+            long hash = value.hashCode() * 0x9E3779B97F4A7C15L;
+            hash ^= (hash >>> 32);
+            return hash | 1L;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.mybudget.component;
+
+import com.mybudget.enums.UserStatus;
+import com.mybudget.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 사용자 상태 캐시
+ * 토큰의 클레임만으로 인증할 때 탈퇴한 사용자의 토큰을 거부하기 위해 사용자 상태를 짧은 시간 동안 캐시합니다.
+ * 상태가 변경되어도 최대 만료 시간만큼만 이전 상태로 인증됩니다.
+ * 최대 개수를 넘으면 가장 오래 조회되지 않은 사용자부터 제거합니다 (LRU).
+ */
+@Component
+public class UserStatusCache {
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+
+    private final BoundedLruCache<Long, CachedStatus> cache;
+
+    public UserStatusCache(UserRepository userRepository,
+                           @Value("${token.user-status-cache.ttl-ms:30000}") long ttlMillis,
+                           @Value("${token.user-status-cache.max-size:100000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlMillis;
+        this.cache = new BoundedLruCache<>(maxSize);
+    }
+
+    /**
+     * 사용자 상태 조회
+     * 캐시된 상태가 없거나 만료된 경우 DB 에서 다시 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 상태, 사용자가 없는 경우 빈 값
+     */
+    public Optional<UserStatus> getUserStatus(Long userId) {
+        long now = System.currentTimeMillis();
+
+        CachedStatus cached = cache.get(userId);
+        if (cached != null && cached.expiresAt > now) {
+            return Optional.ofNullable(cached.userStatus);
+        }
+
+        UserStatus userStatus = userRepository.findUserStatusById(userId).orElse(null);
+        cache.put(userId, new CachedStatus(userStatus, now + ttlMillis));
+
+        return Optional.ofNullable(userStatus);
+    }
+
+    @AllArgsConstructor
+    private static class CachedStatus {
+        private final UserStatus userStatus;
+        private final long expiresAt;
+    }
+}
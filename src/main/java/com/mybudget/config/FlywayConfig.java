@@ -0,0 +1,23 @@
+package com.mybudget.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * Flyway 설정을 변경하기 위한 Bean
+     * 마이그레이션 도입 이전에 JPA 로 생성된 DB 는 V1(기존 스키마)을 기준으로 삼고
+     * 이후 버전부터 적용되도록 baseline-on-migrate 를 활성화
+     *
+     * @return FlywayConfigurationCustomizer 인스턴스
+     */
+    @Bean
+    public FlywayConfigurationCustomizer flywayConfigurationCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("1");
+    }
+}
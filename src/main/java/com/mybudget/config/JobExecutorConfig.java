@@ -0,0 +1,69 @@
+package com.mybudget.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.sql.DataSource;
+
+import static org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME;
+
+@Slf4j
+@Configuration
+public class JobExecutorConfig {
+
+    @Value("${job.max-workers:0}")
+    private int maxWorkers;
+
+    @Value("${job.reserved-connections:2}")
+    private int reservedConnections;
+
+    /**
+     * 배치 작업의 파티션을 병렬로 처리하는 작업 스레드 풀
+     * 작업 스레드는 청크마다 DB 커넥션을 하나씩 사용하므로, 요청 처리에 필요한 커넥션(job.reserved-connections)을
+     * 남겨두도록 Hikari 커넥션 풀 크기에 맞춰 스레드 수를 제한합니다. (CPU 코어 수와 job.max-workers 도 넘지 않음)
+     * 스레드 수보다 많은 파티션은 큐에서 대기하다가 먼저 끝난 스레드가 이어서 처리합니다.
+     *
+     * @param dataSource 애플리케이션 DataSource
+     * @return ThreadPoolTaskExecutor 인스턴스
+     */
+    @Bean
+    public ThreadPoolTaskExecutor jobExecutor(DataSource dataSource) {
+        int connections = dataSource instanceof HikariDataSource ?
+                ((HikariDataSource) dataSource).getMaximumPoolSize() : 10;
+        int workers = Math.min(Runtime.getRuntime().availableProcessors(),
+                Math.max(1, connections - reservedConnections));
+        if (maxWorkers > 0) {
+            workers = Math.min(workers, maxWorkers);
+        }
+
+        log.info("배치 작업 스레드 수: " + workers + " (커넥션 풀 크기 " + connections + ")");
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setThreadNamePrefix("job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 스프링 부트 기본 applicationTaskExecutor 와 같은 스레드 풀 (spring.task.execution.* 설정 적용)
+     * jobExecutor 도 Executor 이므로 부트는 기본 스레드 풀을 만들지 않습니다.
+     * 비동기 요청 처리가 배치 작업 스레드 풀이나 SimpleAsyncTaskExecutor 로 넘어가지 않도록 직접 등록합니다.
+     * 배치 작업은 @Qualifier("jobExecutor") 로 jobExecutor 를 주입받습니다.
+     *
+     * @param builder spring.task.execution.* 설정이 적용된 빌더
+     * @return ThreadPoolTaskExecutor 인스턴스
+     */
+    @Bean(name = APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
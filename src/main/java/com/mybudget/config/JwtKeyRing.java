@@ -0,0 +1,199 @@
+package com.mybudget.config;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import javax.crypto.SecretKey;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JWT 서명 키 목록 (key ring)
+ * 모든 서버가 같은 키로 서명하고 검증하도록 키를 설정 또는 Redis 에서 읽어 메모리에 보관하며,
+ * 토큰 헤더의 kid 로 검증할 키를 찾으므로 서버 간 조율 없이 어느 서버에서든 토큰을 검증할 수 있습니다.
+ * <p>
+ * token.signing-keys 가 설정된 경우 설정의 키만 사용하고 교체하지 않습니다.
+ * 설정이 없으면 Redis 의 키를 사용하며, 교체 시 날짜로 만든 kid 에 HSETNX 로 키를 저장하므로
+ * 여러 서버가 동시에 교체해도 같은 키 하나만 등록됩니다.
+ * 이전 키는 발급한 토큰이 모두 만료될 때까지 검증용으로 남겨둡니다.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing implements MessageListener {
+    public static final String KEY_RING_CHANNEL = "jwt:key-ring";
+
+    private static final String KEYS_KEY = "jwt:keys";
+    private static final String ACTIVE_KID_KEY = "jwt:active-kid";
+    private static final DateTimeFormatter KID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final StringRedisTemplate redisTemplate;
+
+    // kid:base64,kid:base64 형식, 비어 있으면 Redis 의 키 사용
+    @Value("${token.signing-keys:}")
+    private String configuredKeys;
+
+    @Value("${token.active-kid:}")
+    private String configuredActiveKid;
+
+    // 리프레시 토큰 유효 기간(1주)보다 길어야 교체 전에 발급한 토큰을 검증할 수 있음
+    @Value("${token.key-retention-days:14}")
+    private long keyRetentionDays;
+
+    // 모르는 kid 로 인한 Redis 재로드의 최소 간격 (위조 토큰으로 매 요청 Redis 를 조회하지 않도록)
+    @Value("${token.key-reload-interval-ms:10000}")
+    private long keyReloadIntervalMillis;
+
+    private volatile Map<String, SecretKey> keys = Collections.emptyMap();
+    private volatile String activeKid;
+    private volatile long lastReloadedAt;
+
+    public JwtKeyRing(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 설정 또는 Redis 에서 키 목록 로드
+     * Redis 에 키가 없으면 첫 키를 등록합니다.
+     */
+    @PostConstruct
+    public void init() {
+        if (isConfigured()) {
+            loadConfiguredKeys();
+            return;
+        }
+
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(ACTIVE_KID_KEY))) {
+            rotate();
+            return;
+        }
+
+        reload();
+    }
+
+    /**
+     * 서명에 사용할 현재 키의 kid
+     */
+    public String getActiveKid() {
+        return activeKid;
+    }
+
+    /**
+     * 서명에 사용할 현재 키
+     */
+    public SecretKey getActiveKey() {
+        return keys.get(activeKid);
+    }
+
+    /**
+     * kid 에 해당하는 검증 키 조회
+     * 다른 서버가 교체한 키를 아직 받지 못한 경우를 위해 모르는 kid 는 Redis 에서 다시 로드합니다.
+     *
+     * @param kid 토큰 헤더의 kid
+     * @return 검증 키, 없는 경우 null
+     */
+    public SecretKey getKey(String kid) {
+        if (kid == null) {
+            return null;
+        }
+
+        SecretKey key = keys.get(kid);
+        if (key == null && !isConfigured()
+                && System.currentTimeMillis() - lastReloadedAt >= keyReloadIntervalMillis) {
+            reload();
+            key = keys.get(kid);
+        }
+        return key;
+    }
+
+    /**
+     * 새 서명 키로 교체하고 보관 기간이 지난 키 삭제
+     * kid 는 교체 날짜이므로 같은 날 여러 서버가 교체해도 먼저 등록한 키 하나만 사용됩니다.
+     */
+    public void rotate() {
+        if (isConfigured()) {
+            log.info("설정된 서명 키를 사용하므로 키를 교체하지 않습니다.");
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        String kid = today.format(KID_FORMAT);
+        SecretKey newKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+
+        redisTemplate.opsForHash().putIfAbsent(KEYS_KEY, kid,
+                Base64.getEncoder().encodeToString(newKey.getEncoded()));
+        redisTemplate.opsForValue().set(ACTIVE_KID_KEY, kid);
+
+        // kid 가 날짜이므로 보관 기간 이전 날짜의 키 삭제
+        String oldestKid = today.minusDays(keyRetentionDays).format(KID_FORMAT);
+        redisTemplate.opsForHash().keys(KEYS_KEY).stream()
+                .map(String.class::cast)
+                .filter(storedKid -> storedKid.compareTo(oldestKid) < 0)
+                .forEach(storedKid -> redisTemplate.opsForHash().delete(KEYS_KEY, storedKid));
+
+        reload();
+        redisTemplate.convertAndSend(KEY_RING_CHANNEL, kid);
+    }
+
+    /**
+     * 다른 서버가 키를 교체한 경우 키 목록 다시 로드
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!isConfigured()) {
+            reload();
+        }
+    }
+
+    private synchronized void reload() {
+        Map<String, SecretKey> loadedKeys = new HashMap<>();
+        redisTemplate.opsForHash().entries(KEYS_KEY).forEach((kid, encoded) ->
+                loadedKeys.put((String) kid, decode((String) encoded)));
+
+        String loadedActiveKid = redisTemplate.opsForValue().get(ACTIVE_KID_KEY);
+        if (loadedActiveKid == null || !loadedKeys.containsKey(loadedActiveKid)) {
+            throw new IllegalStateException("Redis 에 현재 서명 키가 없습니다. kid: " + loadedActiveKid);
+        }
+
+        keys = Collections.unmodifiableMap(loadedKeys);
+        activeKid = loadedActiveKid;
+        lastReloadedAt = System.currentTimeMillis();
+    }
+
+    private void loadConfiguredKeys() {
+        Map<String, SecretKey> loadedKeys = new HashMap<>();
+        for (String entry : configuredKeys.split(",")) {
+            String[] kidAndKey = entry.trim().split(":", 2);
+            if (kidAndKey.length != 2) {
+                throw new IllegalStateException("token.signing-keys 는 kid:base64 형식이어야 합니다.");
+            }
+            loadedKeys.put(kidAndKey[0], decode(kidAndKey[1]));
+        }
+
+        if (!loadedKeys.containsKey(configuredActiveKid)) {
+            throw new IllegalStateException("token.active-kid 에 해당하는 서명 키가 없습니다. kid: " + configuredActiveKid);
+        }
+
+        keys = Collections.unmodifiableMap(loadedKeys);
+        activeKid = configuredActiveKid;
+    }
+
+    private boolean isConfigured() {
+        return StringUtils.hasText(configuredKeys);
+    }
+
+    private SecretKey decode(String encoded) {
+        return Keys.hmacShaKeyFor(Base64.getDecoder().decode(encoded));
+    }
+}
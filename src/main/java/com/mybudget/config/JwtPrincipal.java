@@ -0,0 +1,21 @@
+package com.mybudget.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 검증된 액세스 토큰의 클레임으로 만든 인증 주체
+ * 요청마다 토큰을 한 번만 파싱하여 사용자 ID, 이메일, 역할과 폐기 확인에 필요한 토큰 ID, 만료 시각을 보관합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class JwtPrincipal {
+    private final Long id;
+    private final String email;
+    private final UserRole userRole;
+    // 토큰 ID (jti), 토큰 ID 를 넣기 전에 발급한 토큰은 null
+    private final String tokenId;
+    private final Date expiration;
+}
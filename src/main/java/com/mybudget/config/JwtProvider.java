@@ -1,11 +1,17 @@
 package com.mybudget.config;
 
+import com.mybudget.component.RevokedTokenFilter;
+import com.mybudget.component.UserStatusCache;
 import com.mybudget.dto.TokenIssuanceDto;
+import com.mybudget.enums.UserStatus;
+import com.mybudget.exception.CustomException;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,55 +24,119 @@ import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 import javax.crypto.SecretKey;
+import java.security.Key;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
+
+import static com.mybudget.exception.ErrorCode.INVALID_TOKEN;
+import static com.mybudget.exception.ErrorCode.USER_INFO_NOT_FOUND;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class JwtProvider {
     private final UserDetailsService userDetailsService;
+    private final UserStatusCache userStatusCache;
+    private final JwtKeyRing jwtKeyRing;
+    private final RevokedTokenFilter revokedTokenFilter;
 
     @Value("${token.issuer}")
     private String issuer;
-    private SecretKey secretKey;
+
+    // true 이면 요청마다 사용자를 조회하지 않고 검증된 토큰의 클레임으로 인증
+    @Value("${token.stateless-authentication:true}")
+    private boolean statelessAuthentication;
+
+    @Value("${token.verified-cache.max-size:10000}")
+    private int verifiedTokenCacheMaxSize;
+
+    // 파서는 불변이며 스레드 안전하므로 하나를 만들어 모든 요청에서 공유
+    private JwtParser jwtParser;
+    private VerifiedTokenCache verifiedTokenCache;
 
     private static final long ONE_HOUR = 60 * 60 * 1000L;
     private static final long ONE_WEEK = 7 * 24 * 60 * 60 * 1000L;
+    private static final String TOKEN_TYPE = "tokenType";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
 
     /**
      * Bean이 초기화된 후 자동으로 호출
-     * SecretKey를 생성하여 초기화
-     * Keys.secretKeyFor(SignatureAlgorithm.HS256)를 통해 HS256 알고리즘 사용
-     * SecretKey를 생성하고 이를 인스턴스 변수인 secretKey에 할당
+     * 토큰 헤더의 kid 로 JwtKeyRing 에서 검증 키를 찾는 JwtParser와 검증된 토큰 캐시 생성
      */
     @PostConstruct
     public void init() {
-        secretKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        SecretKey key = jwtKeyRing.getKey(header.getKeyId());
+                        if (key == null) {
+                            throw new SignatureException("알 수 없는 서명 키입니다. kid: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+        verifiedTokenCache = new VerifiedTokenCache(verifiedTokenCacheMaxSize);
     }
 
     /**
      * 주어진 TokenIssuanceDto를 사용하여 액세스 토큰을 발급합니다.
+     * 로그아웃 시 폐기할 수 있도록 토큰 ID(jti)를 포함합니다.
      *
      * @param tokenTokenIssuanceDto 액세스 토큰 발급에 필요한 정보를 담은 TokenIssuanceDto
      * @return 발급된 액세스 토큰
      */
     public String issueAccessToken(TokenIssuanceDto tokenTokenIssuanceDto) {
-        Claims claims = Jwts.claims().setSubject(tokenTokenIssuanceDto.getId().toString());
+        Claims claims = Jwts.claims()
+                .setSubject(tokenTokenIssuanceDto.getId().toString())
+                .setId(UUID.randomUUID().toString());
         claims.put("email", tokenTokenIssuanceDto.getEmail());
         claims.put("userRole", tokenTokenIssuanceDto.getUserRole().getRoleName());
 
-        return buildJwt(claims);
+        return buildJwt(claims, ONE_HOUR);
     }
 
     /**
      * 재발급에 사용될 리프레시 토큰 발급
+     * 교체와 폐기를 위해 사용자 ID와 토큰 ID(jti)를 포함합니다.
      *
+     * @param userId 사용자 ID
      * @return 발급된 리프레시 토큰
      */
-    public String issueRefreshToken() {
-        return buildJwt(null);
+    public String issueRefreshToken(Long userId) {
+        Claims claims = Jwts.claims()
+                .setSubject(userId.toString())
+                .setId(UUID.randomUUID().toString());
+        claims.put(TOKEN_TYPE, REFRESH_TOKEN_TYPE);
+
+        return buildJwt(claims, ONE_WEEK);
+    }
+
+    /**
+     * 리프레시 토큰을 검증하고 클레임 추출
+     *
+     * @param token 검증할 리프레시 토큰
+     * @return 리프레시 토큰의 사용자 ID, 토큰 ID, 만료 시각
+     * @throws CustomException 유효하지 않거나 리프레시 토큰이 아닌 경우 예외 발생
+     */
+    public RefreshTokenClaims getRefreshTokenClaims(String token) {
+        Claims claims;
+        try {
+            claims = jwtParser.parseClaimsJws(removeBearer(token)).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new CustomException(INVALID_TOKEN);
+        }
+
+        if (!REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE, String.class)) || claims.getId() == null) {
+            throw new CustomException(INVALID_TOKEN);
+        }
+
+        return new RefreshTokenClaims(
+                Long.parseLong(claims.getSubject()), claims.getId(), claims.getExpiration()
+        );
     }
 
     /**
@@ -77,33 +147,13 @@ public class JwtProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
+            jwtParser.parseClaimsJws(token);
             return true;
         } catch (JwtException ex) {
             return false;
         }
     }
 
-    /**
-     * 주어진 토큰에서 사용자 ID 추출
-     *
-     * @param token 추출할 사용자 ID가 포함된 엑세스 토큰
-     * @return 추출된 사용자 ID
-     */
-    public Long getIdFromToken(String token) {
-        token = removeBearer(token);
-
-        return Long.parseLong(Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject());
-    }
-
     /**
      * 주어진 토큰에서 이메일 추출
      *
@@ -113,10 +163,7 @@ public class JwtProvider {
     public String getEmailFromToken(String token) {
         token = removeBearer(token);
 
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
+        return jwtParser.parseClaimsJws(token)
                 .getBody()
                 .get("email", String.class);
     }
@@ -126,28 +173,74 @@ public class JwtProvider {
      *
      * @param token 사용하여 인증을 수행할 토큰
      * @return 생성된 Authentication 객체
+     * @throws CustomException 리프레시 토큰이거나 폐기된 토큰인 경우 예외 발생
      */
     public Authentication getAuthentication(String token) {
         token = removeBearer(token);
 
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        // 토큰은 요청마다 여기서 한 번만 파싱하고, 이후에는 인증 주체의 클레임을 사용
+        // 최근 검증한 토큰이면 서명 검증과 파싱을 생략
+        JwtPrincipal principal = verifiedTokenCache.get(token);
+
+        if (principal == null) {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
 
-        String email = claims.get("email", String.class);
-        UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            // 리프레시 토큰으로는 API 를 호출할 수 없음
+            if (REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE, String.class))) {
+                throw new CustomException(INVALID_TOKEN);
+            }
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            principal = new JwtPrincipal(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("email", String.class),
+                    UserRole.valueOf(claims.get("userRole", String.class)),
+                    claims.getId(),
+                    claims.getExpiration()
+            );
+            verifiedTokenCache.put(token, principal, claims.getExpiration());
+        }
+
+        // 캐시된 토큰도 로그아웃 등으로 폐기되었을 수 있으므로 매번 확인 (대부분 Bloom filter 에서 끝남)
+        if (principal.getTokenId() != null && revokedTokenFilter.isRevoked(principal.getTokenId())) {
+            throw new CustomException(INVALID_TOKEN);
+        }
+
+        if (statelessAuthentication) {
+            return getStatelessAuthentication(principal);
+        }
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(principal.getEmail());
 
         List<GrantedAuthority> authorities = new ArrayList<>(userDetails.getAuthorities());
-        authorities.addAll(userRole.getAuthorities()); // 추가된 역할 권한
+        authorities.addAll(principal.getUserRole().getAuthorities()); // 추가된 역할 권한
+
+        return new UsernamePasswordAuthenticationToken(
+                principal, "", authorities
+        );
+    }
+
+    /**
+     * 검증된 토큰의 클레임으로 인증 객체 생성
+     * 서명과 만료는 이미 검증되었으므로 사용자를 조회하지 않고,
+     * 탈퇴한 사용자의 토큰만 거부하기 위해 캐시된 사용자 상태를 확인합니다.
+     *
+     * @param principal 토큰의 클레임으로 만든 인증 주체
+     * @return 생성된 Authentication 객체
+     * @throws CustomException 사용자가 없거나 탈퇴한 경우 예외 발생
+     */
+    private Authentication getStatelessAuthentication(JwtPrincipal principal) {
+        UserStatus userStatus = userStatusCache.getUserStatus(principal.getId())
+                .orElseThrow(() -> new CustomException(USER_INFO_NOT_FOUND));
+
+        if (userStatus == UserStatus.DELETED) {
+            throw new CustomException(USER_INFO_NOT_FOUND);
+        }
 
         return new UsernamePasswordAuthenticationToken(
-                userDetails, "", authorities
+                principal, "", principal.getUserRole().getAuthorities()
         );
     }
+
     /**
      * 주어진 토큰에서 "Bearer " 접두어를 제거한 토큰 반환
      *
@@ -164,18 +257,20 @@ public class JwtProvider {
     /**
      * 주어진 Claims를 사용하여 JWT 생성
      *
-     * @param claims JWT에 포함될 클레임 정보
+     * @param claims         JWT에 포함될 클레임 정보
+     * @param validityMillis 유효 기간 (밀리초)
      * @return 생성된 JWT
      */
-    private String buildJwt(Claims claims) {
+    private String buildJwt(Claims claims, long validityMillis) {
+        String kid = jwtKeyRing.getActiveKid();
+
         return Jwts.builder()
                 .setClaims(claims)
                 .setIssuer(issuer)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(
-                        new Date(System.currentTimeMillis() +
-                                (claims == null ? ONE_WEEK : ONE_HOUR)))
-                .signWith(secretKey)
+                .setExpiration(new Date(System.currentTimeMillis() + validityMillis))
+                .setHeaderParam(JwsHeader.KEY_ID, kid)
+                .signWith(jwtKeyRing.getKey(kid))
                 .compact();
     }
 
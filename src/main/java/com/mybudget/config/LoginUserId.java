@@ -0,0 +1,15 @@
+package com.mybudget.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 인증된 사용자의 ID 를 컨트롤러 메서드 파라미터로 주입
+ * JwtFilter 가 검증한 토큰의 JwtPrincipal 에서 꺼내므로 토큰을 다시 파싱하지 않습니다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUserId {
+}
@@ -0,0 +1,45 @@
+package com.mybudget.config;
+
+import com.mybudget.exception.CustomException;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import static com.mybudget.exception.ErrorCode.INVALID_TOKEN;
+
+/**
+ * {@link LoginUserId} 가 붙은 파라미터에 인증된 사용자의 ID 를 주입하는 리졸버
+ */
+@Component
+public class LoginUserIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginUserId.class)
+                && Long.class.equals(parameter.getParameterType());
+    }
+
+    /**
+     * SecurityContext 의 JwtPrincipal 에서 사용자 ID 반환
+     *
+     * @throws CustomException 인증되지 않은 요청인 경우 예외 발생
+     */
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !(authentication.getPrincipal() instanceof JwtPrincipal)) {
+            throw new CustomException(INVALID_TOKEN);
+        }
+
+        return ((JwtPrincipal) authentication.getPrincipal()).getId();
+    }
+}
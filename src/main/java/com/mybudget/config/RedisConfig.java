@@ -1,5 +1,8 @@
 package com.mybudget.config;
 
+import com.mybudget.component.ActiveBudgetCache;
+import com.mybudget.component.CategoryRatioSubscriber;
+import com.mybudget.service.BudgetRecommendationService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -7,6 +10,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 
 
@@ -39,4 +44,30 @@ public class RedisConfig {
         template.setConnectionFactory(redisConnectionFactory());
         return template;
     }
+
+    /**
+     * Redis pub/sub 메시지를 받는 RedisMessageListenerContainer 를 반환하는 메서드
+     * 카테고리별 예산 비율 채널을 구독하여 다른 서버가 계산한 비율을 받고,
+     * 예산 캐시 무효화 채널을 구독하여 다른 서버에서 변경된 사용자의 예산 캐시를 비우고,
+     * JWT 서명 키 채널을 구독하여 다른 서버가 교체한 키를 다시 로드합니다.
+     *
+     * @param categoryRatioSubscriber 카테고리별 예산 비율 구독자
+     * @param activeBudgetCache       사용자별 예산 기간 캐시
+     * @param jwtKeyRing              JWT 서명 키 목록
+     * @return RedisMessageListenerContainer 인스턴스
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            CategoryRatioSubscriber categoryRatioSubscriber,
+            ActiveBudgetCache activeBudgetCache,
+            JwtKeyRing jwtKeyRing) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(categoryRatioSubscriber,
+                new ChannelTopic(BudgetRecommendationService.CATEGORY_RATIO_CHANNEL));
+        container.addMessageListener(activeBudgetCache,
+                new ChannelTopic(ActiveBudgetCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(jwtKeyRing, new ChannelTopic(JwtKeyRing.KEY_RING_CHANNEL));
+        return container;
+    }
 }
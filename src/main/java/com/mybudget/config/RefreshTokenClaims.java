@@ -0,0 +1,17 @@
+package com.mybudget.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 검증된 리프레시 토큰의 클레임
+ */
+@Getter
+@AllArgsConstructor
+public class RefreshTokenClaims {
+    private final Long userId;
+    private final String tokenId;
+    private final Date expiration;
+}
@@ -0,0 +1,29 @@
+package com.mybudget.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.TaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class SchedulingConfig {
+
+    /**
+     * @Scheduled 작업을 실행하는 스레드 풀
+     * 기본 스케줄러는 스레드가 하나뿐이라, 배치 작업이 다른 서버의 파티션 처리를 기다리는 동안
+     * 주기적으로 실행해야 하는 스케치 기록, 폐기 토큰 동기화, 스냅샷 갱신 작업이 멈춥니다.
+     * 배치 작업이 스레드를 차지해도 주기 작업이 실행되도록 여러 스레드를 둡니다.
+     *
+     * @param builder  spring.task.scheduling.* 설정이 적용된 빌더
+     * @param poolSize 스레드 수 (spring.task.scheduling.pool.size, 기본 4)
+     * @return ThreadPoolTaskScheduler 인스턴스
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(TaskSchedulerBuilder builder,
+                                                 @Value("${spring.task.scheduling.pool.size:4}") int poolSize) {
+        return builder.poolSize(poolSize)
+                .threadNamePrefix("scheduling-")
+                .build();
+    }
+}
@@ -24,6 +24,7 @@ public class SwaggerConfig implements WebMvcConfigurer {
     @Bean
     public Docket api() {
         return new Docket(DocumentationType.SWAGGER_2)
+                .ignoredParameterTypes(LoginUserId.class, JwtPrincipal.class) // 토큰에서 주입되는 값은 문서에서 제외
                 .select()
                 .apis(RequestHandlerSelectors.basePackage("com.mybudget"))
                 .paths(PathSelectors.any())
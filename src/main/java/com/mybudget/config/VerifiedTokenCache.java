@@ -0,0 +1,88 @@
+package com.mybudget.config;
+
+import com.mybudget.component.BoundedLruCache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * 최근 검증한 액세스 토큰의 캐시
+ * 같은 세션의 반복 요청은 서명 검증과 JSON 파싱 없이 이전에 만든 인증 주체를 사용합니다.
+ * 토큰 원문 대신 SHA-256 해시를 키로 보관하고, 토큰의 만료 시각이 지나면 사용하지 않으며,
+ * 최대 크기를 넘으면 가장 오래 사용하지 않은 토큰부터 제거(LRU)합니다.
+ */
+class VerifiedTokenCache {
+    private final BoundedLruCache<String, VerifiedToken> cache;
+
+    VerifiedTokenCache(int maxSize) {
+        this.cache = new BoundedLruCache<>(maxSize);
+    }
+
+    /**
+     * 검증된 토큰의 인증 주체 조회
+     *
+     * @param token "Bearer " 접두어가 제거된 토큰
+     * @return 만료되지 않은 검증된 토큰인 경우 인증 주체, 그렇지 않으면 null
+     */
+    JwtPrincipal get(String token) {
+        String key = hash(token);
+        VerifiedToken verifiedToken = cache.get(key);
+
+        if (verifiedToken == null) {
+            return null;
+        }
+
+        if (verifiedToken.expiresAt <= System.currentTimeMillis()) {
+            cache.remove(key, verifiedToken);
+            return null;
+        }
+
+        return verifiedToken.principal;
+    }
+
+    /**
+     * 서명을 검증한 토큰의 인증 주체 저장
+     *
+     * @param token      "Bearer " 접두어가 제거된 토큰
+     * @param principal  토큰의 클레임으로 만든 인증 주체
+     * @param expiration 토큰의 만료 시각 (exp)
+     */
+    void put(String token, JwtPrincipal principal, Date expiration) {
+        // 만료 시각이 없는 토큰은 캐시하지 않고 매번 검증
+        if (expiration == null) {
+            return;
+        }
+
+        cache.put(hash(token), new VerifiedToken(principal, expiration.getTime()));
+    }
+
+    /**
+     * 모든 캐시 제거
+     */
+    void clear() {
+        cache.clear();
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class VerifiedToken {
+        private final JwtPrincipal principal;
+        private final long expiresAt;
+
+        private VerifiedToken(JwtPrincipal principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.mybudget.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+import static org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final LoginUserIdArgumentResolver loginUserIdArgumentResolver;
+
+    @Qualifier(APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private final AsyncTaskExecutor applicationTaskExecutor;
+
+    /**
+     * 컨트롤러에서 인증된 사용자 ID 를 받기 위한 리졸버 등록
+     *
+     * @param resolvers 등록할 HandlerMethodArgumentResolver 목록
+     */
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(loginUserIdArgumentResolver);
+    }
+
+    /**
+     * 비동기 요청 처리(StreamingResponseBody 내보내기 등)에 사용할 스레드 풀 지정
+     * 배치 작업 스레드 풀(jobExecutor)이 아닌 applicationTaskExecutor 를 명시적으로 사용합니다.
+     *
+     * @param configurer AsyncSupportConfigurer
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(applicationTaskExecutor);
+    }
+}
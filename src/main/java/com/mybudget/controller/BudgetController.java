@@ -1,6 +1,6 @@
 package com.mybudget.controller;
 
-import com.mybudget.config.JwtProvider;
+import com.mybudget.config.LoginUserId;
 import com.mybudget.dto.BudgetDto;
 import com.mybudget.dto.BudgetEditRequestDto;
 import com.mybudget.dto.BudgetSettingRequestDto;
@@ -28,7 +28,6 @@ public class BudgetController {
 
     private final BudgetService budgetService;
     private final BudgetRecommendationService budgetRecommendationService;
-    private final JwtProvider jwtProvider;
 
     @GetMapping("/categories")
     @ApiOperation(value = "예산 카테고리 조회", notes = "예산 카테고리 목록 조회")
@@ -44,10 +43,9 @@ public class BudgetController {
     @ApiOperation(value = "예산 설정", notes = "사용자 본인의 예산을 설정")
     public ResponseEntity<Void> createBudget(
             @RequestHeader(HttpHeaders.AUTHORIZATION) String token,
+            @LoginUserId Long userId,
             @Valid @RequestBody BudgetSettingRequestDto budgetSettingRequestDto) {
 
-        Long userId = jwtProvider.getIdFromToken(token);
-
         budgetService.createBudget(userId, budgetSettingRequestDto);
 
         return ResponseEntity.status(CREATED).build();
@@ -56,9 +54,8 @@ public class BudgetController {
     @GetMapping
     @ApiOperation(value = "예산 설정 조회", notes = "사용자 본인의 예산 설정 조회")
     public ResponseEntity<BudgetSettingResponseDto> getMyBudgets(
-            @RequestHeader(HttpHeaders.AUTHORIZATION) String token) {
-
-        Long userId = jwtProvider.getIdFromToken(token);
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String token,
+            @LoginUserId Long userId) {
 
         List<BudgetDto> result = budgetService.getMyBudgets(userId);
 
@@ -69,11 +66,10 @@ public class BudgetController {
     @ApiOperation(value = "예산 설정 수정", notes = "사용자 본인의 예산 설정 수정")
     public ResponseEntity<Void> editBudget(
             @RequestHeader(HttpHeaders.AUTHORIZATION) String token,
+            @LoginUserId Long userId,
             @PathVariable Long budgetId,
             @Valid @RequestBody BudgetEditRequestDto budgetEditRequestDto) {
 
-        Long userId = jwtProvider.getIdFromToken(token);
-
         budgetService.editBudget(userId, budgetId, budgetEditRequestDto);
 
         return ResponseEntity.status(NO_CONTENT).build();
@@ -83,10 +79,11 @@ public class BudgetController {
     @ApiOperation(value = "예산 추천", notes = "사용자 본인의 예산 설정을 추천")
     public ResponseEntity<BudgetSettingResponseDto> getRecommendationBudgets(
             @RequestHeader(HttpHeaders.AUTHORIZATION) String token,
+            @LoginUserId Long userId,
             @PathVariable Long amount) {
 
         List<BudgetDto> result =
-                budgetRecommendationService.getRecommendationBudgets(amount);
+                budgetRecommendationService.getRecommendationBudgets(userId, amount);
 
         return ResponseEntity.status(OK).body(BudgetSettingResponseDto.from(result));
     }
@@ -95,10 +92,9 @@ public class BudgetController {
     @ApiOperation(value = "예산 설정 삭제", notes = "사용자 본인의 예산 설정 삭제")
     public ResponseEntity<Void> deleteBudget(
             @RequestHeader(HttpHeaders.AUTHORIZATION) String token,
+            @LoginUserId Long userId,
             @PathVariable Long budgetId) {
 
-        Long userId = jwtProvider.getIdFromToken(token);
-
         budgetService.deleteBudget(userId, budgetId);
 
         return ResponseEntity.status(NO_CONTENT).build();
@@ -1,22 +1,27 @@
 package com.mybudget.controller;
 
-import com.mybudget.config.JwtProvider;
+import com.mybudget.config.LoginUserId;
 import com.mybudget.dto.ExpenseCreationRequestDto;
 import com.mybudget.dto.ExpenseListResponseDto;
 import com.mybudget.dto.ExpenseModificationRequestDto;
 import com.mybudget.enums.Categories;
+import com.mybudget.enums.ExportFormat;
+import com.mybudget.service.ExpenseExportService;
 import com.mybudget.service.ExpenseService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
 import java.math.BigDecimal;
 import java.sql.Date;
 
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
 import static org.springframework.http.HttpStatus.*;
 
 @RequiredArgsConstructor
@@ -26,16 +31,15 @@ import static org.springframework.http.HttpStatus.*;
 public class ExpenseController {
 
     private final ExpenseService expenseService;
-    private final JwtProvider jwtProvider;
+    private final ExpenseExportService expenseExportService;
 
     @PostMapping
     @ApiOperation(value = "지출 등록", notes = "사용자 본인의 지출을 등록")
     public ResponseEntity<Void> createExpense(
             @RequestHeader(AUTHORIZATION) String token,
+            @LoginUserId Long userId,
             @Valid @RequestBody ExpenseCreationRequestDto expenseCreationRequestDto) {
 
-        Long userId = jwtProvider.getIdFromToken(token);
-
         expenseService.createExpense(userId, expenseCreationRequestDto);
 
         return ResponseEntity.status(CREATED).build();
@@ -51,27 +55,50 @@ public class ExpenseController {
             @RequestParam(required = false) Categories category,
             @RequestParam(value = "page", defaultValue = "0") Integer page,
             @RequestParam(value = "size", defaultValue = "5") Integer size,
-            @RequestHeader(AUTHORIZATION) String token) {
-
-        Long userId = jwtProvider.getIdFromToken(token);
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(AUTHORIZATION) String token,
+            @LoginUserId Long userId) {
 
-        ExpenseListResponseDto expenses =
+        // cursor 가 전달된 경우 page 대신 이전 응답의 nextCursor 이후부터 조회 (합계는 첫 페이지 응답에만 포함)
+        ExpenseListResponseDto expenses = cursor == null ?
                 expenseService.getExpenses(
                         userId, startDate, endDate, minimumAmount, maximumAmount, category, page, size
+                ) :
+                expenseService.getExpensesByCursor(
+                        userId, startDate, endDate, minimumAmount, maximumAmount, category, cursor, size
                 );
 
         return ResponseEntity.status(OK).body(expenses);
     }
 
+    @GetMapping("/export")
+    @ApiOperation(value = "지출 내보내기", notes = "사용자 본인의 기간 내 지출을 CSV 또는 NDJSON 으로 내보내기")
+    public ResponseEntity<StreamingResponseBody> exportExpenses(
+            @RequestParam Date startDate,
+            @RequestParam Date endDate,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestHeader(AUTHORIZATION) String token,
+            @LoginUserId Long userId) {
+
+        // 응답 스트림에 바로 기록하므로 조회 건수와 관계없이 메모리에 목록을 모으지 않음
+        StreamingResponseBody body = outputStream -> expenseExportService.exportExpenses(
+                userId, startDate, endDate, format, outputStream
+        );
+
+        return ResponseEntity.status(OK)
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(CONTENT_DISPOSITION, "attachment; filename=\"expenses." + format.getExtension() + "\"")
+                .body(body);
+    }
+
     @PatchMapping("/{expenseId}")
     @ApiOperation(value = "지출 수정", notes = "사용자 본인의 지출을 수정")
     public ResponseEntity<Void> updateExpense(
             @RequestHeader(AUTHORIZATION) String token,
+            @LoginUserId Long userId,
             @PathVariable Long expenseId,
             @Valid @RequestBody ExpenseModificationRequestDto expenseModificationRequestDto) {
 
-        Long userId = jwtProvider.getIdFromToken(token);
-
         expenseService.updateExpense(userId, expenseId, expenseModificationRequestDto);
 
         return ResponseEntity.status(NO_CONTENT).build();
@@ -81,10 +108,9 @@ public class ExpenseController {
     @ApiOperation(value = "지출 삭제", notes = "사용자 본인의 지출을 삭제")
     public ResponseEntity<Void> deleteExpense(
             @RequestHeader(AUTHORIZATION) String token,
+            @LoginUserId Long userId,
             @PathVariable Long expenseId) {
 
-        Long userId = jwtProvider.getIdFromToken(token);
-
         expenseService.deleteExpense(userId, expenseId);
 
         return ResponseEntity.status(NO_CONTENT).build();
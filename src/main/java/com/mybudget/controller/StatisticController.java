@@ -1,10 +1,12 @@
 package com.mybudget.controller;
 
-import com.mybudget.config.JwtProvider;
+import com.mybudget.config.LoginUserId;
 import com.mybudget.dto.CategoryExpenseRatioDto;
 import com.mybudget.dto.StatisticsCompareToOthersResponseDto;
 import com.mybudget.dto.StatisticByCategoryResponseDto;
 import com.mybudget.dto.StatisticByDayOfWeekResponseDto;
+import com.mybudget.dto.StatisticPercentileResponseDto;
+import com.mybudget.enums.Categories;
 import com.mybudget.service.StatisticService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -13,6 +15,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.sql.Date;
@@ -29,15 +32,12 @@ import static org.springframework.http.HttpStatus.OK;
 public class StatisticController {
 
     private final StatisticService statisticService;
-    private final JwtProvider jwtProvider;
 
     @GetMapping("/category")
     @ApiOperation(value = "통계 조회", notes = "통계를 조회")
     public ResponseEntity<StatisticByCategoryResponseDto> getStatistics(
-            @RequestHeader(AUTHORIZATION) String token) {
-
-        Long userId = jwtProvider.getIdFromToken(token);
-
+            @RequestHeader(AUTHORIZATION) String token,
+            @LoginUserId Long userId) {
 
         List<CategoryExpenseRatioDto> categoryStatistics =
                 statisticService.getCategoryStatistics(
@@ -61,9 +61,8 @@ public class StatisticController {
     @GetMapping("/day-of-week")
     @ApiOperation(value = "지난요일 대비 통계 조회", notes = "지난요일 대비 통계를 조회")
     public ResponseEntity<StatisticByDayOfWeekResponseDto> getStatisticsByDayOfWeek(
-            @RequestHeader(AUTHORIZATION) String token) {
-
-        Long userId = jwtProvider.getIdFromToken(token);
+            @RequestHeader(AUTHORIZATION) String token,
+            @LoginUserId Long userId) {
 
         Double dayOfWeekStatistics =
                 statisticService.getDayOfWeekStatistics(userId, Date.valueOf(LocalDate.now()));
@@ -75,9 +74,8 @@ public class StatisticController {
     @GetMapping("/other-users")
     @ApiOperation(value = "다른 사용자 통계 조회", notes = "다른 사용자 통계를 조회")
     public ResponseEntity<StatisticsCompareToOthersResponseDto> getStatisticsCompareToOthers(
-            @RequestHeader(AUTHORIZATION) String token) {
-
-        Long userId = jwtProvider.getIdFromToken(token);
+            @RequestHeader(AUTHORIZATION) String token,
+            @LoginUserId Long userId) {
 
         Double ratioCompareToOthers =
                 statisticService.getOthersStatistics(userId, Date.valueOf(LocalDate.now()));
@@ -90,4 +88,24 @@ public class StatisticController {
                 );
     }
 
+    @GetMapping("/percentile")
+    @ApiOperation(value = "다른 사용자 대비 백분위 조회", notes = "오늘 카테고리 지출 비율의 전체 사용자 대비 백분위를 조회")
+    public ResponseEntity<StatisticPercentileResponseDto> getPercentileStatistics(
+            @RequestParam Categories category,
+            @RequestHeader(AUTHORIZATION) String token,
+            @LoginUserId Long userId) {
+
+        Double percentile = statisticService.getPercentileStatistics(
+                userId, Date.valueOf(LocalDate.now()), category
+        );
+
+        return ResponseEntity.status(OK)
+                .body(
+                        StatisticPercentileResponseDto.builder()
+                                .category(category)
+                                .percentile(percentile)
+                                .build()
+                );
+    }
+
 }
@@ -1,15 +1,18 @@
 package com.mybudget.controller;
 
+import com.mybudget.config.JwtPrincipal;
 import com.mybudget.dto.*;
 import com.mybudget.service.UserService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.OK;
 
@@ -68,4 +71,25 @@ public class UserController {
 
         return ResponseEntity.status(OK).body(UserSignInResponseDto.from(userSignInDto));
     }
+
+    @PostMapping("/token/refresh")
+    @ApiOperation(value = "토큰 재발급", notes = "리프레시 토큰으로 액세스 토큰과 리프레시 토큰 재발급")
+    public ResponseEntity<UserTokenRefreshResponseDto> refreshToken(
+            @Valid @RequestBody UserTokenRefreshRequestDto userTokenRefreshRequestDto) {
+
+        UserTokenRefreshDto userTokenRefreshDto = userService.refreshToken(userTokenRefreshRequestDto);
+
+        return ResponseEntity.status(OK).body(UserTokenRefreshResponseDto.from(userTokenRefreshDto));
+    }
+
+    @PostMapping("/sign-out")
+    @ApiOperation(value = "사용자 로그아웃", notes = "액세스 토큰을 폐기하고 리프레시 토큰 삭제")
+    public ResponseEntity<Void> signOut(
+            @RequestHeader(AUTHORIZATION) String token,
+            @AuthenticationPrincipal JwtPrincipal principal) {
+
+        userService.signOut(principal);
+
+        return ResponseEntity.status(OK).build();
+    }
 }
@@ -0,0 +1,28 @@
+package com.mybudget.domain;
+
+import com.mybudget.enums.Categories;
+import lombok.*;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+
+/**
+ * 카테고리별 전체 사용자의 예산 합계와 건수
+ * 예산 설정, 수정, 삭제 시 같은 트랜잭션에서 증분 갱신되며 카테고리 예산 비율은 이 테이블만 읽어 계산합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+public class BudgetCategoryTotal {
+    @Id
+    @Enumerated(EnumType.STRING)
+    private Categories category;
+
+    @Setter
+    private BigDecimal totalAmount;
+
+    @Setter
+    private Long budgetCount;
+}
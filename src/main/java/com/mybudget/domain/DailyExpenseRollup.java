@@ -0,0 +1,47 @@
+package com.mybudget.domain;
+
+import com.mybudget.enums.Categories;
+import lombok.*;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.DayOfWeek;
+
+/**
+ * 사용자, 지출일, 카테고리, 합계제외 여부별 지출 합계와 건수
+ * 지출 생성, 수정, 삭제 시 같은 트랜잭션에서 증분 갱신되며 통계 조회는 이 테이블만 읽습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_daily_expense_rollup",
+                columnNames = {"user_id", "expense_date", "category", "excluding"})
+}, indexes = {
+        @Index(name = "idx_daily_expense_rollup_user_day_of_week",
+                columnList = "user_id, day_of_week, expense_date")
+})
+public class DailyExpenseRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private User user;
+
+    private Date expenseDate;
+
+    private Categories category;
+
+    private Boolean excluding;
+
+    @Enumerated(EnumType.STRING)
+    private DayOfWeek dayOfWeek;
+
+    private BigDecimal totalAmount;
+
+    private Long expenseCount;
+}
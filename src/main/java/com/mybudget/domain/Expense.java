@@ -15,6 +15,15 @@ import java.time.DayOfWeek;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_expense_user_date", columnList = "user_id, expense_date"),
+        @Index(name = "idx_expense_user_date_summary",
+                columnList = "user_id, expense_date, category, excluding, amount"),
+        @Index(name = "idx_expense_user_day_of_week",
+                columnList = "user_id, day_of_week, expense_date, amount"),
+        @Index(name = "idx_expense_date_excluding_user_ratio",
+                columnList = "expense_date, excluding, user_id, expense_ratio")
+})
 public class Expense extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,55 @@
+package com.mybudget.domain;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.sql.Date;
+
+/**
+ * 사용자 ID 범위를 청크 단위로 처리하는 배치 작업의 파티션별 진행 상황
+ * 작업은 사용자 ID 범위 [fromUserId, toUserId] 파티션으로 나뉘어 병렬로 처리되며,
+ * 청크가 커밋될 때마다 같은 트랜잭션에서 마지막으로 처리한 사용자 ID 를 기록하므로
+ * 작업이 중단되어도 다음 실행 시 파티션별로 이어서 처리할 수 있습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_job_checkpoint", columnNames = {"job_name", "run_date", "partition_no"})
+})
+public class JobCheckpoint extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String jobName;
+
+    private Date runDate;
+
+    private Integer partitionNo;
+
+    private Long fromUserId;
+
+    private Long toUserId;
+
+    @Setter
+    private Long lastUserId;
+
+    @Setter
+    private Boolean completed;
+
+    public static JobCheckpoint from(String jobName, Date runDate,
+                                     Integer partitionNo, Long fromUserId, Long toUserId) {
+        return JobCheckpoint.builder()
+                .jobName(jobName)
+                .runDate(runDate)
+                .partitionNo(partitionNo)
+                .fromUserId(fromUserId)
+                .toUserId(toUserId)
+                .lastUserId(fromUserId - 1)
+                .completed(false)
+                .build();
+    }
+}
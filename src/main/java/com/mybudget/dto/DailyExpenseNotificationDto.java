@@ -0,0 +1,27 @@
+package com.mybudget.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DailyExpenseNotificationDto {
+    private Long userId;
+
+    private String email;
+
+    private List<AmountsOfCategoryDto> amountsPerCategory;
+
+    private BigDecimal totalAmount;
+
+    private BigDecimal expectedExpense;
+
+    private BigDecimal ratio;
+}
@@ -0,0 +1,23 @@
+package com.mybudget.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DailyExpenseRecommendationDto {
+    private Long userId;
+
+    private String email;
+
+    private List<AmountsOfCategoryDto> amountsPerCategory;
+
+    private BigDecimal totalAmount;
+}
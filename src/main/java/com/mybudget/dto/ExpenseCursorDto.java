@@ -0,0 +1,68 @@
+package com.mybudget.dto;
+
+import com.mybudget.exception.CustomException;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.util.Base64;
+
+import static com.mybudget.exception.ErrorCode.INVALID_CURSOR;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ExpenseCursorDto {
+    private static final String DELIMITER = ":";
+
+    private Date expenseDate;
+
+    private Long id;
+
+    public static ExpenseCursorDto from(ExpenseDto expenseDto) {
+        return ExpenseCursorDto.builder()
+                .expenseDate(expenseDto.getExpenseDate())
+                .id(expenseDto.getId())
+                .build();
+    }
+
+    /**
+     * 커서를 클라이언트에 전달할 불투명 토큰으로 변환
+     *
+     * @return (지출일, 지출 ID)를 담은 URL-safe Base64 문자열
+     */
+    public String encode() {
+        String raw = expenseDate.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 토큰을 커서로 변환
+     *
+     * @param cursor encode()로 생성된 토큰
+     * @return 마지막으로 조회한 지출의 (지출일, 지출 ID)
+     * @throws CustomException 토큰 형식이 올바르지 않은 경우 예외 발생
+     */
+    public static ExpenseCursorDto decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = raw.split(DELIMITER);
+
+            if (values.length != 2) {
+                throw new CustomException(INVALID_CURSOR);
+            }
+
+            return ExpenseCursorDto.builder()
+                    .expenseDate(Date.valueOf(values[0]))
+                    .id(Long.parseLong(values[1]))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.mybudget.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Builder
+public class ExpenseListDto {
+    private Slice<ExpenseDto> expenses;
+    private BigDecimal totalAmount;
+    private List<AmountsOfCategoryDto> amountsPerCategory;
+}
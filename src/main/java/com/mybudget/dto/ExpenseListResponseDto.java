@@ -4,7 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -14,7 +14,24 @@ import java.util.List;
 @NoArgsConstructor
 @Builder
 public class ExpenseListResponseDto {
-    private Page<ExpenseDto> expenses;
+    private Slice<ExpenseDto> expenses;
+    private String nextCursor;
     private BigDecimal totalAmount;
     private List<AmountsOfCategoryDto> amountsPerCategory;
+
+    public static ExpenseListResponseDto from(ExpenseListDto expenseListDto) {
+        Slice<ExpenseDto> expenses = expenseListDto.getExpenses();
+        List<ExpenseDto> content = expenses.getContent();
+
+        // 다음 데이터가 있는 경우 마지막 지출로 다음 커서를 생성
+        String nextCursor = expenses.hasNext() && !content.isEmpty() ?
+                ExpenseCursorDto.from(content.get(content.size() - 1)).encode() : null;
+
+        return ExpenseListResponseDto.builder()
+                .expenses(expenses)
+                .nextCursor(nextCursor)
+                .totalAmount(expenseListDto.getTotalAmount())
+                .amountsPerCategory(expenseListDto.getAmountsPerCategory())
+                .build();
+    }
 }
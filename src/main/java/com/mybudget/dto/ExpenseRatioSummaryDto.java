@@ -0,0 +1,44 @@
+package com.mybudget.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.sql.Date;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ExpenseRatioSummaryDto {
+    private Date expenseDate;
+
+    private Double ratioSum;
+
+    private Long count;
+
+    /**
+     * 다른 집계를 뺀 집계 반환
+     * 전체 사용자 집계에서 특정 사용자의 기여분을 제외할 때 사용합니다.
+     *
+     * @param other 뺄 집계
+     * @return 뺀 결과 집계
+     */
+    public ExpenseRatioSummaryDto subtract(ExpenseRatioSummaryDto other) {
+        return ExpenseRatioSummaryDto.builder()
+                .expenseDate(expenseDate)
+                .ratioSum(ratioSum - other.getRatioSum())
+                .count(count - other.getCount())
+                .build();
+    }
+
+    /**
+     * 지출 비율 평균 반환
+     *
+     * @return 지출 비율 평균, 집계된 지출이 없는 경우 null
+     */
+    public Double average() {
+        return count > 0 ? ratioSum / count : null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.mybudget.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserBudgetTotalDto {
+    private Long userId;
+
+    private BigDecimal totalAmount;
+}
@@ -0,0 +1,23 @@
+package com.mybudget.dto;
+
+import com.mybudget.enums.Categories;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserCategoryAmountDto {
+    private Long userId;
+
+    private String email;
+
+    private Categories category;
+
+    private BigDecimal totalAmount;
+}
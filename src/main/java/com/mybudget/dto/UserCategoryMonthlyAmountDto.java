@@ -0,0 +1,25 @@
+package com.mybudget.dto;
+
+import com.mybudget.enums.Categories;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserCategoryMonthlyAmountDto {
+    private Long userId;
+
+    private Categories category;
+
+    private Integer year;
+
+    private Integer month;
+
+    private BigDecimal totalAmount;
+}
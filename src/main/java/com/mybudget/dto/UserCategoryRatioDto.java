@@ -0,0 +1,19 @@
+package com.mybudget.dto;
+
+import com.mybudget.enums.Categories;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserCategoryRatioDto {
+    private Long userId;
+
+    private Categories category;
+
+    private Double averageRatio;
+}
@@ -0,0 +1,13 @@
+package com.mybudget.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class UserTokenRefreshDto {
+    private String accessToken;
+    private String refreshToken;
+}
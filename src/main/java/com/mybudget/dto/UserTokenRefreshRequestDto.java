@@ -0,0 +1,17 @@
+package com.mybudget.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserTokenRefreshRequestDto {
+    @NotBlank(message = "리프레시 토큰을 입력해주세요.")
+    private String refreshToken;
+}
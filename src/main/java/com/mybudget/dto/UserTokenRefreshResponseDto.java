@@ -0,0 +1,23 @@
+package com.mybudget.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserTokenRefreshResponseDto {
+
+    private String accessToken;
+    private String refreshToken;
+
+    public static UserTokenRefreshResponseDto from(UserTokenRefreshDto userTokenRefreshDto) {
+        return UserTokenRefreshResponseDto.builder()
+                .accessToken(userTokenRefreshDto.getAccessToken())
+                .refreshToken(userTokenRefreshDto.getRefreshToken())
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.http.HttpStatus;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 
 @RequiredArgsConstructor
@@ -18,6 +19,7 @@ public enum ErrorCode {
     EXISTING_USER(BAD_REQUEST, "이미 가입한 사용자 입니다."),
     INVALID_OTP(BAD_REQUEST, "유효하지 않은 인증번호 입니다."),
     INVALID_PASSWORD(BAD_REQUEST, "비밀번호가 일치하지 않습니다."),
+    INVALID_TOKEN(UNAUTHORIZED, "유효하지 않은 토큰입니다."),
     //budget
     BUDGET_AMOUNT_NOT_MATCH(BAD_REQUEST, "예산의 총액과 각 예산의 총액이 일치하지 않습니다."),
     BUDGET_HASNT_BEEN_SET(BAD_REQUEST, "예산이 설정 되지 않은 사용자 입니다."),
@@ -28,7 +30,8 @@ public enum ErrorCode {
     BUDGET_AMOUNT_TOO_SMALL(BAD_REQUEST, "최소 예산은 1000원 입니다."),
     INVALID_BUDGET_DATE(BAD_REQUEST,"시작일은 종료일보다 빠를 수 없습니다."),
     EXPENSE_NOT_FOUND(BAD_REQUEST,"지출 정보를 찾을 수 없습니다."),
-    NOT_MY_EXPENSE(BAD_REQUEST, "본인의 지출만 수정/삭제할 수 있습니다.");
+    NOT_MY_EXPENSE(BAD_REQUEST, "본인의 지출만 수정/삭제할 수 있습니다."),
+    INVALID_CURSOR(BAD_REQUEST, "유효하지 않은 커서입니다.");
 
     private final HttpStatus status;
     private final String message;
@@ -0,0 +1,9 @@
+package com.mybudget.repository;
+
+import com.mybudget.domain.Budget;
+
+import java.util.List;
+
+public interface BudgetBatchRepository {
+    void insertAll(List<Budget> budgets);
+}
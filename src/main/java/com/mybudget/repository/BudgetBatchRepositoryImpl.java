@@ -0,0 +1,36 @@
+package com.mybudget.repository;
+
+import com.mybudget.domain.Budget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Repository
+public class BudgetBatchRepositoryImpl implements BudgetBatchRepository {
+    private static final String INSERT_BUDGET_QUERY =
+            "INSERT INTO budget (user_id, category, amount, start_date, end_date) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 예산 목록을 하나의 JDBC 배치로 저장합니다.
+     * Budget 은 IDENTITY 전략이라 Hibernate 가 INSERT 를 배치로 묶지 않으므로 JdbcTemplate 로 직접 실행합니다.
+     * 영속성 컨텍스트를 거치지 않으므로 저장한 예산의 ID 는 채워지지 않습니다.
+     *
+     * @param budgets 저장할 예산 목록
+     */
+    @Override
+    public void insertAll(List<Budget> budgets) {
+        jdbcTemplate.batchUpdate(INSERT_BUDGET_QUERY, budgets, budgets.size(), (statement, budget) -> {
+            statement.setLong(1, budget.getUser().getId());
+            // category 는 @Enumerated(EnumType.STRING) 으로 저장됨
+            statement.setString(2, budget.getCategory().name());
+            statement.setBigDecimal(3, budget.getAmount());
+            statement.setDate(4, budget.getStartDate());
+            statement.setDate(5, budget.getEndDate());
+        });
+    }
+}
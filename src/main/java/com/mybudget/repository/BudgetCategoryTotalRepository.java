@@ -0,0 +1,39 @@
+package com.mybudget.repository;
+
+import com.mybudget.domain.BudgetCategoryTotal;
+import com.mybudget.enums.Categories;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface BudgetCategoryTotalRepository extends JpaRepository<BudgetCategoryTotal, Categories> {
+
+    /**
+     * 모든 카테고리 예산 합계를 쓰기 잠금(SELECT ... FOR UPDATE)으로 조회합니다.
+     * 잠금을 해제할 때까지 다른 트랜잭션의 addAmount 는 대기하며, 전체를 읽으므로 새 카테고리 행의 추가도 대기합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM BudgetCategoryTotal t")
+    List<BudgetCategoryTotal> findAllForUpdate();
+
+    /**
+     * 해당 카테고리의 예산 합계와 건수에 증분을 더합니다.
+     * 행이 없으면 증분 값으로 새로 생성하므로 예산 설정, 수정, 삭제 모두 이 쿼리 하나로 반영됩니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO budget_category_total (category, total_amount, budget_count) " +
+            "VALUES (:category, :amount, :count) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "total_amount = total_amount + VALUES(total_amount), " +
+            "budget_count = budget_count + VALUES(budget_count)",
+            nativeQuery = true)
+    void addAmount(@Param("category") String category,
+                   @Param("amount") BigDecimal amount,
+                   @Param("count") long count);
+}
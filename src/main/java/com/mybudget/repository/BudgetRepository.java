@@ -1,30 +1,42 @@
 package com.mybudget.repository;
 
 import com.mybudget.domain.Budget;
+import com.mybudget.domain.BudgetCategoryTotal;
 import com.mybudget.domain.User;
-import com.mybudget.enums.Categories;
+import com.mybudget.dto.UserBudgetTotalDto;
+import com.mybudget.dto.UserCategoryAmountDto;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
-import java.math.BigDecimal;
 import java.sql.Date;
 import java.util.List;
-import java.util.Optional;
 
-public interface BudgetRepository extends JpaRepository<Budget, Long> {
+public interface BudgetRepository extends JpaRepository<Budget, Long>, BudgetBatchRepository {
     List<Budget> findByUser(User user);
 
-    List<Budget> findByUserAndCategory(User user, Categories category);
-
-    @Query("SELECT SUM(e.amount) FROM Budget e")
-    BigDecimal getTotalAmount();
-
-    @Query("SELECT SUM(e.amount) FROM Budget e WHERE e.category = :category")
-    BigDecimal getAmountOfCategory(@Param("category") Categories category);
-
-    Optional<Budget> findByCategory(Categories category);
-
-    @Query("SELECT b FROM Budget b WHERE b.user = :user AND b.startDate <= :date AND b.endDate >= :date")
-    List<Budget> findByUserAndDate(@Param("user") User user, @Param("date") Date date);
+    /**
+     * 카테고리별 예산 합계와 건수를 예산 테이블에서 직접 집계
+     * 증분 갱신되는 카테고리별 예산 합계(budget_category_total)를 검증, 보정할 때만 사용합니다.
+     */
+    @Query("SELECT new com.mybudget.domain.BudgetCategoryTotal(b.category, SUM(b.amount), COUNT(b)) " +
+            "FROM Budget b WHERE b.category IS NOT NULL GROUP BY b.category")
+    List<BudgetCategoryTotal> getCategoryTotals();
+
+    @Query("SELECT new com.mybudget.dto.UserBudgetTotalDto(b.user.id, SUM(b.amount)) FROM Budget b " +
+            "WHERE b.startDate <= :date AND b.endDate >= :date " +
+            "AND b.user.id BETWEEN :fromUserId AND :toUserId " +
+            "GROUP BY b.user.id ORDER BY b.user.id")
+    List<UserBudgetTotalDto> getBudgetTotalsPerUser(@Param("date") Date date,
+                                                    @Param("fromUserId") Long fromUserId,
+                                                    @Param("toUserId") Long toUserId);
+
+    @Query("SELECT new com.mybudget.dto.UserCategoryAmountDto(u.id, u.email, b.category, SUM(b.amount)) " +
+            "FROM Budget b JOIN b.user u " +
+            "WHERE b.startDate <= :date AND b.endDate >= :date " +
+            "AND u.id BETWEEN :fromUserId AND :toUserId " +
+            "GROUP BY u.id, u.email, b.category ORDER BY u.id, b.category")
+    List<UserCategoryAmountDto> getBudgetTotalsPerUserAndCategory(@Param("date") Date date,
+                                                                  @Param("fromUserId") Long fromUserId,
+                                                                  @Param("toUserId") Long toUserId);
 }
@@ -0,0 +1,32 @@
+package com.mybudget.repository;
+
+import com.mybudget.dto.AmountsOfCategoryDto;
+import com.mybudget.dto.UserCategoryMonthlyAmountDto;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.util.List;
+
+public interface DailyExpenseRollupQRepository {
+    List<AmountsOfCategoryDto> getAmountsOfCategoryByPeriod(Long userId,
+                                                            Date startDate,
+                                                            Date endDate);
+
+    BigDecimal getTotalAmountByPeriod(Long userId,
+                                      Date startDate,
+                                      Date endDate);
+
+    BigDecimal getAmountAverageByDayOfWeek(Long userId,
+                                           Date endDate,
+                                           DayOfWeek dayOfWeek);
+
+    BigDecimal getAmountOfTodayByDayOfWeek(Long userId,
+                                           Date today,
+                                           DayOfWeek dayOfWeekOfToday);
+
+    List<UserCategoryMonthlyAmountDto> getMonthlyAmountsPerUserAndCategory(Date startDate,
+                                                                           Date endDate,
+                                                                           Long fromUserId,
+                                                                           Long toUserId);
+}
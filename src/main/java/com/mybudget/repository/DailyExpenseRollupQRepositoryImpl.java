@@ -0,0 +1,186 @@
+package com.mybudget.repository;
+
+import com.mybudget.domain.QDailyExpenseRollup;
+import com.mybudget.dto.AmountsOfCategoryDto;
+import com.mybudget.dto.UserCategoryMonthlyAmountDto;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Repository
+public class DailyExpenseRollupQRepositoryImpl implements DailyExpenseRollupQRepository {
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /**
+     * 지정된 기간 내의 카테고리별 지출 합계를 가져옵니다.
+     * 합계제외 처리한 지출도 포함합니다.
+     *
+     * @param userId    사용자 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @return 카테고리별 지출 합계 목록
+     */
+    @Override
+    public List<AmountsOfCategoryDto> getAmountsOfCategoryByPeriod(Long userId,
+                                                                   Date startDate,
+                                                                   Date endDate) {
+        QDailyExpenseRollup rollup = QDailyExpenseRollup.dailyExpenseRollup;
+
+        return jpaQueryFactory
+                .select(Projections.constructor(AmountsOfCategoryDto.class,
+                        rollup.category,
+                        rollup.totalAmount.sum()))
+                .from(rollup)
+                .where(createRollupForPeriod(rollup, userId, startDate, endDate))
+                .groupBy(rollup.category)
+                .orderBy(rollup.category.asc())
+                .fetch();
+    }
+
+    /**
+     * 지정된 기간 내의 합계제외 처리하지 않은 지출 총액을 계산합니다.
+     *
+     * @param userId    사용자 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @return 지정된 기간 내의 지출 총액, 지출이 없는 경우 null
+     */
+    @Override
+    public BigDecimal getTotalAmountByPeriod(Long userId, Date startDate, Date endDate) {
+        QDailyExpenseRollup rollup = QDailyExpenseRollup.dailyExpenseRollup;
+
+        return jpaQueryFactory.select(rollup.totalAmount.sum())
+                .from(rollup)
+                .where(createRollupForPeriod(rollup, userId, startDate, endDate)
+                        .and(rollup.excluding.eq(false)))
+                .fetchOne();
+    }
+
+    /**
+     * 사용자 ID 범위의 사용자별, 카테고리별, 월별 지출 합계를 가져옵니다.
+     * 합계제외 처리한 지출은 포함하지 않습니다.
+     *
+     * @param startDate  시작 날짜
+     * @param endDate    종료 날짜
+     * @param fromUserId 시작 사용자 ID (포함)
+     * @param toUserId   끝 사용자 ID (포함)
+     * @return 사용자 ID 순으로 정렬된 사용자, 카테고리, 월별 지출 합계 목록
+     */
+    @Override
+    public List<UserCategoryMonthlyAmountDto> getMonthlyAmountsPerUserAndCategory(Date startDate,
+                                                                                  Date endDate,
+                                                                                  Long fromUserId,
+                                                                                  Long toUserId) {
+        QDailyExpenseRollup rollup = QDailyExpenseRollup.dailyExpenseRollup;
+        NumberExpression<Integer> year = rollup.expenseDate.year();
+        NumberExpression<Integer> month = rollup.expenseDate.month();
+
+        return jpaQueryFactory
+                .select(Projections.constructor(UserCategoryMonthlyAmountDto.class,
+                        rollup.user.id,
+                        rollup.category,
+                        year,
+                        month,
+                        rollup.totalAmount.sum()))
+                .from(rollup)
+                .where(rollup.user.id.between(fromUserId, toUserId)
+                        .and(rollup.expenseDate.between(startDate, endDate))
+                        .and(rollup.excluding.eq(false)))
+                .groupBy(rollup.user.id, rollup.category, year, month)
+                .orderBy(rollup.user.id.asc())
+                .fetch();
+    }
+
+    /**
+     * 종료일 이전까지의 해당 요일에 대한 지출 평균을 계산합니다.
+     *
+     * @param userId    사용자 ID
+     * @param endDate   종료일
+     * @param dayOfWeek 해당 요일
+     * @return 종료일 이전까지의 해당 요일에 대한 지출 평균
+     */
+    @Override
+    public BigDecimal getAmountAverageByDayOfWeek(Long userId, Date endDate, DayOfWeek dayOfWeek) {
+        QDailyExpenseRollup rollup = QDailyExpenseRollup.dailyExpenseRollup;
+
+        return getAmountAverage(rollup, rollup.user.id.eq(userId)
+                .and(rollup.expenseDate.before(endDate)) // 종료일 이전
+                .and(rollup.dayOfWeek.eq(dayOfWeek)));   // 해당 요일
+    }
+
+    /**
+     * 오늘의 특정 요일에 대한 지출을 계산합니다.
+     *
+     * @param userId           사용자 ID
+     * @param today            오늘의 날짜
+     * @param dayOfWeekOfToday 오늘의 요일
+     * @return 오늘의 특정 요일에 대한 지출
+     */
+    @Override
+    public BigDecimal getAmountOfTodayByDayOfWeek(Long userId, Date today, DayOfWeek dayOfWeekOfToday) {
+        QDailyExpenseRollup rollup = QDailyExpenseRollup.dailyExpenseRollup;
+
+        return getAmountAverage(rollup, rollup.user.id.eq(userId)
+                .and(rollup.expenseDate.eq(today))            // 오늘의 날짜
+                .and(rollup.dayOfWeek.eq(dayOfWeekOfToday))); // 오늘의 요일
+    }
+
+    /**
+     * 조건에 해당하는 일별 합계의 총액과 건수를 한 번에 조회하여 지출 건당 평균을 계산합니다.
+     *
+     * @param rollup    QueryDSL의 QDailyExpenseRollup
+     * @param predicate 일별 합계를 필터링하는 조건식
+     * @return 지출 건당 평균, 지출이 없는 경우 1
+     */
+    private BigDecimal getAmountAverage(QDailyExpenseRollup rollup, BooleanExpression predicate) {
+        NumberExpression<BigDecimal> amountSum = rollup.totalAmount.sum();
+        NumberExpression<Long> countSum = rollup.expenseCount.sum();
+
+        Tuple result = jpaQueryFactory.select(amountSum, countSum)
+                .from(rollup)
+                .where(predicate)
+                .fetchOne();
+
+        BigDecimal totalAmount = result == null ? null : result.get(amountSum);
+        Long count = result == null ? null : result.get(countSum);
+
+        // 평균 계산: 총액 / 건수
+        if (count != null && count != 0) {
+            return totalAmount != null ?
+                    totalAmount.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP) :
+                    BigDecimal.ONE; // totalAmount이 null인 경우 기본값 1 반환
+        } else {
+            return BigDecimal.ONE; // count가 null이거나 0인 경우 기본값 1 반환
+        }
+    }
+
+    /**
+     * 지정된 기간 내의 일별 합계를 필터링하는 조건식을 생성합니다.
+     * 지출이 모두 삭제되어 건수가 0이 된 행은 제외합니다.
+     *
+     * @param rollup    QueryDSL의 QDailyExpenseRollup
+     * @param userId    사용자 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @return 지정된 기간 내의 일별 합계를 필터링하는 조건식
+     */
+    private BooleanExpression createRollupForPeriod(QDailyExpenseRollup rollup,
+                                                    Long userId,
+                                                    Date startDate,
+                                                    Date endDate) {
+        return rollup.user.id.eq(userId)
+                .and(rollup.expenseDate.between(startDate, endDate))
+                .and(rollup.expenseCount.gt(0L));
+    }
+}
@@ -0,0 +1,34 @@
+package com.mybudget.repository;
+
+import com.mybudget.domain.DailyExpenseRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+
+public interface DailyExpenseRollupRepository
+        extends JpaRepository<DailyExpenseRollup, Long>, DailyExpenseRollupQRepository {
+
+    /**
+     * 해당 (사용자, 지출일, 카테고리, 합계제외 여부)의 합계와 건수에 증분을 더합니다.
+     * 행이 없으면 증분 값으로 새로 생성하므로 지출 생성, 수정, 삭제 모두 이 쿼리 하나로 반영됩니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO daily_expense_rollup " +
+            "(user_id, expense_date, category, excluding, day_of_week, total_amount, expense_count) " +
+            "VALUES (:userId, :expenseDate, :category, :excluding, :dayOfWeek, :amount, :count) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "total_amount = total_amount + VALUES(total_amount), " +
+            "expense_count = expense_count + VALUES(expense_count)",
+            nativeQuery = true)
+    void addAmount(@Param("userId") Long userId,
+                   @Param("expenseDate") Date expenseDate,
+                   @Param("category") int category,
+                   @Param("excluding") boolean excluding,
+                   @Param("dayOfWeek") String dayOfWeek,
+                   @Param("amount") BigDecimal amount,
+                   @Param("count") long count);
+}
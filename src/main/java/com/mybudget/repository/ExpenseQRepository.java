@@ -1,64 +1,48 @@
 package com.mybudget.repository;
 
-import com.mybudget.domain.Expense;
-import com.mybudget.dto.AmountsOfCategoryDto;
+import com.mybudget.dto.ExpenseCursorDto;
+import com.mybudget.dto.ExpenseListDto;
+import com.mybudget.dto.ExpenseRatioSummaryDto;
+import com.mybudget.dto.UserCategoryAmountDto;
+import com.mybudget.dto.UserCategoryRatioDto;
 import com.mybudget.enums.Categories;
+import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.sql.Date;
-import java.time.DayOfWeek;
 import java.util.List;
 
 public interface ExpenseQRepository {
-    List<Expense> getExpensesByPeriod(Long userId,
-                                      Date startDate,
-                                      Date endDate,
-                                      BigDecimal minimumAmount,
-                                      BigDecimal maximumAmount);
-
-    List<AmountsOfCategoryDto> getAmountsByPeriod(Long userId,
-                                                  Date startDate,
-                                                  Date endDate,
-                                                  BigDecimal minimumAmount,
-                                                  BigDecimal maximumAmount);
-
-    BigDecimal getTotalAmountByPeriod(Long userId,
-                                      Date startDate,
-                                      Date endDate,
-                                      BigDecimal minimumAmount,
-                                      BigDecimal maximumAmount);
-
-    List<Expense> getExpensesByPeriodWithCategory(Long userId,
-                                                  Date startDate,
-                                                  Date endDate,
-                                                  Categories category,
-                                                  BigDecimal minimumAmount,
-                                                  BigDecimal maximumAmount);
-
-
-    List<AmountsOfCategoryDto> getAmountsByPeriodWithCategory(Long userId,
-                                                              Date startDate,
-                                                              Date endDate,
-                                                              Categories category,
-                                                              BigDecimal minimumAmount,
-                                                              BigDecimal maximumAmount);
-
-    BigDecimal getTotalAmountByPeriodWithCategory(Long userId,
-                                                  Date startDate,
-                                                  Date endDate,
-                                                  Categories category,
-                                                  BigDecimal minimumAmount,
-                                                  BigDecimal maximumAmount);
-
-    List<Expense> getExpensesByMonth(Long userId,
-                                     Date firstDate,
-                                     Date lastDate);
-
-    BigDecimal getAmountAverageByDayOfWeek(Long userId,
-                                           Date endDate,
-                                           DayOfWeek dayOfWeek);
-
-    BigDecimal getAmountOfTodayByDayOfWeek(Long userId,
-                                           Date today,
-                                           DayOfWeek dayOfWeekOfToday);
+    ExpenseListDto getExpenseListByPeriod(Long userId,
+                                          Date startDate,
+                                          Date endDate,
+                                          Categories category,
+                                          BigDecimal minimumAmount,
+                                          BigDecimal maximumAmount,
+                                          Pageable pageable);
+
+    ExpenseListDto getExpenseListByPeriodAfterCursor(Long userId,
+                                                     Date startDate,
+                                                     Date endDate,
+                                                     Categories category,
+                                                     BigDecimal minimumAmount,
+                                                     BigDecimal maximumAmount,
+                                                     ExpenseCursorDto cursor,
+                                                     int size);
+
+    Double getExpenseRatioAverageOfOthers(Long userId, Date date);
+
+    ExpenseRatioSummaryDto getExpenseRatioSummary(Date date);
+
+    ExpenseRatioSummaryDto getExpenseRatioSummaryOfUser(Long userId, Date date);
+
+    ExpenseRatioSummaryDto getExpenseRatioSummaryOfUserByCategory(Long userId,
+                                                                  Date date,
+                                                                  Categories category);
+
+    List<UserCategoryRatioDto> getExpenseRatioAveragesPerUserAndCategory(Date date);
+
+    List<UserCategoryAmountDto> getExpenseSumsPerUserAndCategory(Date date,
+                                                                 Long fromUserId,
+                                                                 Long toUserId);
 }
@@ -1,357 +1,395 @@
 package com.mybudget.repository;
 
-import com.mybudget.domain.Expense;
 import com.mybudget.domain.QExpense;
 import com.mybudget.dto.AmountsOfCategoryDto;
+import com.mybudget.dto.ExpenseCursorDto;
+import com.mybudget.dto.ExpenseDto;
+import com.mybudget.dto.ExpenseListDto;
+import com.mybudget.dto.ExpenseRatioSummaryDto;
+import com.mybudget.dto.UserCategoryAmountDto;
+import com.mybudget.dto.UserCategoryRatioDto;
 import com.mybudget.enums.Categories;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.sql.Date;
-import java.time.DayOfWeek;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.function.LongFunction;
 import java.util.stream.Collectors;
 
-import static com.querydsl.core.types.dsl.Expressions.constant;
-
 @RequiredArgsConstructor
 @Repository
 public class ExpenseQRepositoryImpl implements ExpenseQRepository {
     private final JPAQueryFactory jpaQueryFactory;
-    private final List<Categories> categories = Arrays.asList(Categories.values());
 
     /**
-     * 지정된 기간 내의 지출 데이터를 가져오는 메서드입니다.
+     * 지정된 기간 내의 지출 목록 중 요청한 페이지와 카테고리별 합계, 총액을 함께 가져오는 메서드
      *
      * @param userId        사용자 ID
      * @param startDate     시작 날짜
      * @param endDate       종료 날짜
+     * @param category      카테고리 (null 인 경우 전체 카테고리)
      * @param minimumAmount 최소 금액
      * @param maximumAmount 최대 금액
-     * @return 지출 데이터 목록
+     * @param pageable      페이지 정보
+     * @return 요청한 페이지의 지출 데이터, 카테고리별 합계, 총액
      */
     @Override
-    public List<Expense> getExpensesByPeriod(Long userId,
-                                             Date startDate,
-                                             Date endDate,
-                                             BigDecimal minimumAmount,
-                                             BigDecimal maximumAmount) {
+    public ExpenseListDto getExpenseListByPeriod(Long userId,
+                                                 Date startDate,
+                                                 Date endDate,
+                                                 Categories category,
+                                                 BigDecimal minimumAmount,
+                                                 BigDecimal maximumAmount,
+                                                 Pageable pageable) {
         QExpense expense = QExpense.expense;
 
-        return jpaQueryFactory.selectFrom(expense)
-                .where(expense.user.id.eq(userId)
-                        .and(expense.expenseDate.between(startDate, endDate))
-                        .and(expense.amount.between(minimumAmount, maximumAmount)))
-                .orderBy(expense.expenseDate.desc())
-                .fetch();
+        BooleanExpression predicate = createExpenseListPredicate(
+                expense, userId, startDate, endDate, category, minimumAmount, maximumAmount);
+
+        return getExpenseList(expense, predicate, totalCount -> {
+            // 요청한 페이지가 전체 건수를 넘어가면 목록 쿼리를 생략
+            if (totalCount <= pageable.getOffset()) {
+                return new PageImpl<>(Collections.emptyList(), pageable, totalCount);
+            }
+
+            List<ExpenseDto> content = jpaQueryFactory.select(expenseDto(expense))
+                    .from(expense)
+                    .where(predicate)
+                    .orderBy(expense.expenseDate.desc(), expense.id.desc())
+                    .offset(pageable.getOffset())
+                    .limit(pageable.getPageSize())
+                    .fetch();
+
+            return new PageImpl<>(content, pageable, totalCount);
+        });
     }
 
     /**
-     * 지정된 기간 내의 지출 데이터를 가져오는 메서드
+     * 커서 이후의 지출 목록을 가져오는 메서드
+     * 목록은 (지출일, 지출 ID) 기준 seek 조건으로 조회하므로 OFFSET 으로 앞선 행을 건너뛰지 않아
+     * 몇 번째 페이지든 조회 비용이 일정합니다.
+     * 카테고리별 합계와 총액은 기간 전체를 집계해야 하므로 커서 없이 조회한 첫 페이지에서만 계산하고,
+     * 커서 페이지에서는 seek 쿼리 하나만 실행합니다.
      *
      * @param userId        사용자 ID
      * @param startDate     시작 날짜
      * @param endDate       종료 날짜
-     * @param category      카테고리
+     * @param category      카테고리 (null 인 경우 전체 카테고리)
      * @param minimumAmount 최소 금액
      * @param maximumAmount 최대 금액
-     * @return 지출 데이터 목록
+     * @param cursor        마지막으로 조회한 지출의 (지출일, 지출 ID)
+     * @param size          조회할 건수
+     * @return 커서 이후의 지출 데이터 (카테고리별 합계, 총액은 null)
      */
     @Override
-    public List<Expense> getExpensesByPeriodWithCategory(Long userId,
-                                                         Date startDate,
-                                                         Date endDate,
-                                                         Categories category,
-                                                         BigDecimal minimumAmount,
-                                                         BigDecimal maximumAmount) {
+    public ExpenseListDto getExpenseListByPeriodAfterCursor(Long userId,
+                                                            Date startDate,
+                                                            Date endDate,
+                                                            Categories category,
+                                                            BigDecimal minimumAmount,
+                                                            BigDecimal maximumAmount,
+                                                            ExpenseCursorDto cursor,
+                                                            int size) {
         QExpense expense = QExpense.expense;
 
-        return jpaQueryFactory.selectFrom(expense)
-                .where(expense.user.id.eq(userId)
-                        .and(expense.expenseDate.between(startDate, endDate))
-                        .and(expense.amount.between(minimumAmount, maximumAmount))
-                        .and(expense.category.eq(category)))
-                .orderBy(expense.expenseDate.desc())
+        BooleanExpression predicate = createExpenseListPredicate(
+                expense, userId, startDate, endDate, category, minimumAmount, maximumAmount);
+
+        // expenseDate <= :date 조건은 인덱스 범위 탐색을 위해 함께 지정
+        BooleanExpression seekPredicate = expense.expenseDate.loe(cursor.getExpenseDate())
+                .and(expense.expenseDate.lt(cursor.getExpenseDate())
+                        .or(expense.expenseDate.eq(cursor.getExpenseDate())
+                                .and(expense.id.lt(cursor.getId()))));
+
+        // 다음 데이터 존재 여부를 확인하기 위해 요청 건수보다 하나 더 조회
+        List<ExpenseDto> content = jpaQueryFactory.select(expenseDto(expense))
+                .from(expense)
+                .where(predicate.and(seekPredicate))
+                .orderBy(expense.expenseDate.desc(), expense.id.desc())
+                .limit(size + 1L)
                 .fetch();
+
+        boolean hasNext = content.size() > size;
+
+        return ExpenseListDto.builder()
+                .expenses(new SliceImpl<>(
+                        hasNext ? content.subList(0, size) : content,
+                        PageRequest.of(0, size),
+                        hasNext
+                ))
+                .build();
     }
 
     /**
-     * 카테고리별 지출 데이터를 가져오는 메서드
+     * 카테고리, 합계제외 여부별 건수와 합계를 한 번의 GROUP BY 쿼리로 계산한 뒤,
+     * 그 결과로 목록의 전체 건수, 카테고리별 합계, 총액을 구성하는 메서드입니다.
+     * 별도의 count / 카테고리별 합계 / 총액 쿼리가 필요 없으므로 목록 쿼리를 포함해
+     * 최대 두 번의 쿼리로 응답을 구성합니다.
      *
-     * @param userId    사용자 ID
-     * @param startDate 시작 날짜
-     * @param endDate   종료 날짜
-     * @return 카테고리별 지출 데이터 목록
+     * @param expense        QueryDSL의 QExpense
+     * @param predicate      지출 목록을 필터링하는 데 사용되는 조건식
+     * @param expensesLoader 전체 건수를 받아 지출 목록을 조회하는 함수
+     * @return 지출 목록, 카테고리별 합계, 총액
      */
-    @Override
-    public List<AmountsOfCategoryDto> getAmountsByPeriod(Long userId,
-                                                         Date startDate,
-                                                         Date endDate,
-                                                         BigDecimal minimumAmount,
-                                                         BigDecimal maximumAmount) {
-        QExpense expense = QExpense.expense;
+    private ExpenseListDto getExpenseList(QExpense expense,
+                                          BooleanExpression predicate,
+                                          LongFunction<Slice<ExpenseDto>> expensesLoader) {
+        NumberExpression<Long> count = expense.count();
+        NumberExpression<BigDecimal> amountSum = expense.amount.sum();
+
+        List<Tuple> summaries = jpaQueryFactory
+                .select(expense.category, expense.excluding, count, amountSum)
+                .from(expense)
+                .where(predicate)
+                .groupBy(expense.category, expense.excluding)
+                .fetch();
 
-        BooleanExpression predicate = createExpensForAll(
-                expense, userId, startDate, endDate, minimumAmount, maximumAmount);
+        long totalCount = 0L;
+        BigDecimal totalAmount = null;
+        Map<Categories, BigDecimal> amountsPerCategory = new EnumMap<>(Categories.class);
 
-        return getAmountsOfCategoryDtos(expense, predicate);
-    }
+        for (Tuple summary : summaries) {
+            totalCount += summary.get(count);
 
-    /**
-     * 카테고리별 지출 데이터를 가져오는 메서드
-     *
-     * @param userId    사용자 ID
-     * @param startDate 시작 날짜
-     * @param endDate   종료 날짜
-     * @return 카테고리별 지출 데이터 목록
-     */
-    @Override
-    public List<AmountsOfCategoryDto> getAmountsByPeriodWithCategory(Long userId,
-                                                                     Date startDate,
-                                                                     Date endDate,
-                                                                     Categories category,
-                                                                     BigDecimal minimumAmount,
-                                                                     BigDecimal maximumAmount) {
-        QExpense expense = QExpense.expense;
+            // 합계제외 처리한 지출은 목록에는 포함되지만 합계에서는 제외
+            BigDecimal amount = summary.get(amountSum);
+            if (!Boolean.FALSE.equals(summary.get(expense.excluding)) || amount == null) {
+                continue;
+            }
 
-        BooleanExpression predicate = createExpenseForACategory(
-                expense, userId, startDate, endDate, category, minimumAmount, maximumAmount);
+            totalAmount = totalAmount == null ? amount : totalAmount.add(amount);
 
-        return getAmountsOfCategoryDtos(expense, predicate);
-    }
+            Categories category = summary.get(expense.category);
+            if (category != null) {
+                amountsPerCategory.merge(category, amount, BigDecimal::add);
+            }
+        }
 
-    /**
-     * 카테고리별 지출 데이터를 가져오는 메서드입니다.
-     *
-     * @param expense   QueryDSL의 QExpense
-     * @param predicate 지출 데이터를 필터링하는 데 사용되는 조건식
-     * @return 카테고리별 지출 데이터의 목록
-     */
-    private List<AmountsOfCategoryDto> getAmountsOfCategoryDtos(QExpense expense, BooleanExpression predicate) {
-        return categories.stream()
-                .map(eachCategory -> {
-                    BooleanExpression categoryPredicate = predicate.and(expense.category.eq(eachCategory));
-
-                    BigDecimal totalAmount = jpaQueryFactory
-                            .select(expense.amount.sum())
-                            .from(expense)
-                            .where(categoryPredicate)
-                            .fetchOne();
-
-                    return totalAmount != null ?
-                            AmountsOfCategoryDto.builder()
-                                    .category(eachCategory)
-                                    .totalAmount(totalAmount)
-                                    .build() : null;
-                })
-                .filter(Objects::nonNull)
+        // EnumMap 은 카테고리 선언 순서로 순회하므로 기존 응답 순서가 유지됨
+        List<AmountsOfCategoryDto> amountsOfCategoryDtos = amountsPerCategory.entrySet().stream()
+                .map(entry -> AmountsOfCategoryDto.builder()
+                        .category(entry.getKey())
+                        .totalAmount(entry.getValue())
+                        .build())
                 .collect(Collectors.toList());
+
+        return ExpenseListDto.builder()
+                .expenses(expensesLoader.apply(totalCount))
+                .totalAmount(totalAmount)
+                .amountsPerCategory(amountsOfCategoryDtos)
+                .build();
     }
 
     /**
-     * 지정된 기간 내의 지출 총액을 계산하는 메서드입니다.
+     * 지출 조회 결과를 ExpenseDto 로 바로 매핑하는 프로젝션을 생성합니다.
+     * 엔티티를 영속성 컨텍스트에 올리지 않으므로 스냅샷 생성, 사용자 프록시 생성 없이
+     * 필요한 컬럼만 조회합니다.
      *
-     * @param userId        사용자 ID
-     * @param startDate     시작 날짜
-     * @param endDate       종료 날짜
-     * @param minimumAmount 최소 금액
-     * @param maximumAmount 최대 금액
-     * @return 지정된 기간 내의 지출 총액
+     * @param expense QueryDSL의 QExpense
+     * @return ExpenseDto 생성자 프로젝션
      */
-    @Override
-    public BigDecimal getTotalAmountByPeriod(Long userId,
-                                             Date startDate,
-                                             Date endDate,
-                                             BigDecimal minimumAmount,
-                                             BigDecimal maximumAmount) {
-
-        QExpense expense = QExpense.expense;
-
-        BooleanExpression predicate = createExpensForAll(
-                expense, userId, startDate, endDate, minimumAmount, maximumAmount);
-
-        return jpaQueryFactory.select(expense.amount.sum())
-                .from(expense)
-                .where(predicate)
-                .fetchOne();
+    private ConstructorExpression<ExpenseDto> expenseDto(QExpense expense) {
+        return Projections.constructor(ExpenseDto.class,
+                expense.id,
+                expense.description,
+                expense.category,
+                expense.amount,
+                expense.expenseDate,
+                expense.excluding);
     }
 
     /**
-     * 지정된 기간 및 카테고리 내의 지출 총액을 계산하는 메서드입니다.
+     * 지출 목록을 필터링하는 조건식을 생성합니다.
+     * 합계제외 처리한 지출도 목록에는 포함되므로 합계제외 여부로는 필터링하지 않습니다.
      *
+     * @param expense       QueryDSL의 QExpense
      * @param userId        사용자 ID
      * @param startDate     시작 날짜
      * @param endDate       종료 날짜
-     * @param category      카테고리
+     * @param category      카테고리 (null 인 경우 전체 카테고리)
      * @param minimumAmount 최소 금액
      * @param maximumAmount 최대 금액
-     * @return 지정된 기간 및 카테고리 내의 지출 총액
+     * @return 지출 목록을 필터링하는 조건식
      */
-    @Override
-    public BigDecimal getTotalAmountByPeriodWithCategory(Long userId,
+    private BooleanExpression createExpenseListPredicate(QExpense expense,
+                                                         Long userId,
                                                          Date startDate,
                                                          Date endDate,
                                                          Categories category,
                                                          BigDecimal minimumAmount,
                                                          BigDecimal maximumAmount) {
+        return expense.user.id.eq(userId)
+                .and(expense.expenseDate.between(startDate, endDate))
+                .and(expense.amount.between(minimumAmount, maximumAmount))
+                .and(category == null ? null : expense.category.eq(category));
+    }
 
+    /**
+     * 해당 날짜에 다른 사용자들이 등록한 지출의 예산 대비 지출 비율 평균을 계산합니다.
+     * (지출일, 합계제외 여부, 사용자 ID, 지출 비율) 인덱스만으로 집계하므로
+     * 전체 지출 건수가 아닌 해당 날짜의 지출 건수에 비례하는 비용으로 조회합니다.
+     *
+     * @param userId 제외할 사용자 ID
+     * @param date   날짜
+     * @return 다른 사용자들의 지출 비율 평균, 지출이 없는 경우 null
+     */
+    @Override
+    public Double getExpenseRatioAverageOfOthers(Long userId, Date date) {
         QExpense expense = QExpense.expense;
 
-        BooleanExpression predicate = createExpenseForACategory(
-                expense, userId, startDate, endDate, category, minimumAmount, maximumAmount);
-
-        return jpaQueryFactory.select(expense.amount.sum())
+        return jpaQueryFactory.select(expense.expenseRatio.avg())
                 .from(expense)
-                .where(predicate)
+                .where(expense.expenseDate.eq(date)
+                        .and(expense.excluding.eq(false))
+                        .and(expense.user.id.ne(userId)))
                 .fetchOne();
     }
 
     /**
-     * 지정된 기간 내의 모든 지출 데이터를 필터링하는 조건식을 생성합니다.
+     * 해당 날짜에 전체 사용자가 등록한 지출의 예산 대비 지출 비율 합계와 건수를 계산합니다.
      *
-     * @param expense       QueryDSL의 QExpense
-     * @param userId        사용자 ID
-     * @param startDate     시작 날짜
-     * @param endDate       종료 날짜
-     * @param minimumAmount 최소 금액
-     * @param maximumAmount 최대 금액
-     * @return 지정된 기간 내의 지출 데이터를 필터링하는 조건식
+     * @param date 날짜
+     * @return 전체 사용자의 지출 비율 합계와 건수
      */
-    private BooleanExpression createExpensForAll(QExpense expense,
-                                                 Long userId,
-                                                 Date startDate,
-                                                 Date endDate,
-                                                 BigDecimal minimumAmount,
-                                                 BigDecimal maximumAmount) {
-        return expense.user.id.eq(userId)
-                .and(expense.expenseDate.between(startDate, endDate))
-                .and(expense.amount.between(constant(minimumAmount), constant(maximumAmount)))
-                .and(expense.excluding.eq(false));
+    @Override
+    public ExpenseRatioSummaryDto getExpenseRatioSummary(Date date) {
+        QExpense expense = QExpense.expense;
+
+        return getExpenseRatioSummary(expense, date, expense.expenseDate.eq(date)
+                .and(expense.excluding.eq(false)));
     }
 
     /**
-     * 지정된 기간 및 카테고리 내의 지출 데이터를 필터링하는 조건식을 생성합니다.
+     * 해당 날짜에 사용자가 등록한 지출의 예산 대비 지출 비율 합계와 건수를 계산합니다.
      *
-     * @param expense       QueryDSL의 QExpense
-     * @param userId        사용자 ID
-     * @param startDate     시작 날짜
-     * @param endDate       종료 날짜
-     * @param category      카테고리
-     * @param minimumAmount 최소 금액
-     * @param maximumAmount 최대 금액
-     * @return 지정된 기간 및 카테고리 내의 지출 데이터를 필터링하는 조건식
+     * @param userId 사용자 ID
+     * @param date   날짜
+     * @return 사용자의 지출 비율 합계와 건수
      */
-    private BooleanExpression createExpenseForACategory(QExpense expense,
-                                                        Long userId,
-                                                        Date startDate,
-                                                        Date endDate,
-                                                        Categories category,
-                                                        BigDecimal minimumAmount,
-                                                        BigDecimal maximumAmount) {
-        return expense.user.id.eq(userId)
-                .and(expense.expenseDate.between(startDate, endDate))
-                .and(expense.amount.between(constant(minimumAmount), constant(maximumAmount)))
-                .and(expense.category.eq(category))
-                .and(expense.excluding.eq(false));
+    @Override
+    public ExpenseRatioSummaryDto getExpenseRatioSummaryOfUser(Long userId, Date date) {
+        QExpense expense = QExpense.expense;
+
+        return getExpenseRatioSummary(expense, date, expense.expenseDate.eq(date)
+                .and(expense.excluding.eq(false))
+                .and(expense.user.id.eq(userId)));
     }
 
     /**
-     * 특정 월의 지출 목록을 가져옵니다.
+     * 해당 날짜에 사용자가 특정 카테고리로 등록한 지출의 예산 대비 지출 비율 합계와 건수를 계산합니다.
      *
-     * @param userId    지출 목록을 가져올 사용자의 ID입니다.
-     * @param firstDate 해당 월의 시작 날짜입니다.
-     * @param lastDate  해당 월의 끝 날짜입니다.
-     * @return 사용자의 특정 월에 대한 지출 목록입니다.
+     * @param userId   사용자 ID
+     * @param date     날짜
+     * @param category 카테고리
+     * @return 사용자의 카테고리 지출 비율 합계와 건수
      */
     @Override
-    public List<Expense> getExpensesByMonth(Long userId, Date firstDate, Date lastDate) {
+    public ExpenseRatioSummaryDto getExpenseRatioSummaryOfUserByCategory(Long userId,
+                                                                         Date date,
+                                                                         Categories category) {
         QExpense expense = QExpense.expense;
 
-        return jpaQueryFactory.selectFrom(expense)
-                .where(expense.user.id.eq(userId)
-                        .and(expense.expenseDate.between(firstDate, lastDate)))
-                .fetch();
+        return getExpenseRatioSummary(expense, date, expense.expenseDate.eq(date)
+                .and(expense.excluding.eq(false))
+                .and(expense.user.id.eq(userId))
+                .and(expense.category.eq(category)));
     }
 
     /**
-     * 종료일 이전까지의 해당 요일에 대한 지출 평균을 계산합니다.
+     * 해당 날짜의 사용자, 카테고리별 지출 비율 평균을 한 번의 GROUP BY 쿼리로 계산합니다.
      *
-     * @param userId    사용자 ID
-     * @param endDate   종료일
-     * @param dayOfWeek 해당 요일
-     * @return 종료일 이전까지의 해당 요일에 대한 지출 평균
+     * @param date 날짜
+     * @return 사용자 ID, 카테고리, 지출 비율 평균 목록
      */
     @Override
-    public BigDecimal getAmountAverageByDayOfWeek(Long userId, Date endDate, DayOfWeek dayOfWeek) {
+    public List<UserCategoryRatioDto> getExpenseRatioAveragesPerUserAndCategory(Date date) {
         QExpense expense = QExpense.expense;
 
-        // 종료일 이전까지의 해당 요일에 대한 총 지출액
-        BigDecimal totalAmount = jpaQueryFactory.select(expense.amount.sum())
+        return jpaQueryFactory
+                .select(Projections.constructor(UserCategoryRatioDto.class,
+                        expense.user.id,
+                        expense.category,
+                        expense.expenseRatio.avg()))
                 .from(expense)
-                .where(expense.user.id.eq(userId)
-                        .and(expense.expenseDate.before(endDate)) // 종료일 이전
-                        .and(expense.dayOfWeek.eq(dayOfWeek)))   // 해당 요일
-                .fetchOne();
+                .where(expense.expenseDate.eq(date)
+                        .and(expense.excluding.eq(false))
+                        .and(expense.expenseRatio.isNotNull()))
+                .groupBy(expense.user.id, expense.category)
+                .fetch();
+    }
+
+    /**
+     * 조건에 해당하는 지출의 지출 비율 합계와 건수를 한 번의 쿼리로 계산합니다.
+     *
+     * @param expense   QueryDSL의 QExpense
+     * @param date      날짜
+     * @param predicate 지출 데이터를 필터링하는 데 사용되는 조건식
+     * @return 지출 비율 합계와 건수, 지출이 없는 경우 합계와 건수 0
+     */
+    private ExpenseRatioSummaryDto getExpenseRatioSummary(QExpense expense,
+                                                          Date date,
+                                                          BooleanExpression predicate) {
+        NumberExpression<Double> ratioSum = expense.expenseRatio.sum();
+        NumberExpression<Long> count = expense.expenseRatio.count();
 
-        // 종료일까지의 해당 요일에 대한 지출 건수
-        Long count = jpaQueryFactory.select(expense.count())
+        Tuple result = jpaQueryFactory.select(ratioSum, count)
                 .from(expense)
-                .where(expense.user.id.eq(userId)
-                        .and(expense.expenseDate.before(endDate)) // 종료일 이전
-                        .and(expense.dayOfWeek.eq(dayOfWeek)))   // 해당 요일
+                .where(predicate)
                 .fetchOne();
 
-        // 평균 계산: 총액 / 건수
-        if (count != null && count != 0) {
-            return totalAmount != null ?
-                    totalAmount.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP) :
-                    BigDecimal.ONE; // totalAmount이 null인 경우 기본값 1 반환
-        } else {
-            return BigDecimal.ONE; // count가 null이거나 0인 경우 기본값 1 반환
-        }
+        Double sum = result == null ? null : result.get(ratioSum);
+        Long total = result == null ? null : result.get(count);
+
+        return ExpenseRatioSummaryDto.builder()
+                .expenseDate(date)
+                .ratioSum(sum == null ? 0.0 : sum)
+                .count(total == null ? 0L : total)
+                .build();
     }
 
     /**
-     * 오늘의 특정 요일에 대한 지출을 계산합니다.
+     * 해당 날짜의 사용자 ID 범위 내 사용자, 카테고리별 지출 합계를 사용자 ID 순으로 가져옵니다.
+     * 사용자마다 지출을 따로 조회하지 않고 한 번의 GROUP BY 쿼리로 범위 내 사용자를 집계합니다.
      *
-     * @param userId           사용자 ID
-     * @param today            오늘의 날짜
-     * @param dayOfWeekOfToday 오늘의 요일
-     * @return 오늘의 특정 요일에 대한 지출
+     * @param date       날짜
+     * @param fromUserId 시작 사용자 ID (포함)
+     * @param toUserId   끝 사용자 ID (포함)
+     * @return 사용자 ID, 이메일, 카테고리, 지출 합계 목록
      */
     @Override
-    public BigDecimal getAmountOfTodayByDayOfWeek(Long userId,
-                                                  Date today,
-                                                  DayOfWeek dayOfWeekOfToday) {
+    public List<UserCategoryAmountDto> getExpenseSumsPerUserAndCategory(Date date,
+                                                                        Long fromUserId,
+                                                                        Long toUserId) {
         QExpense expense = QExpense.expense;
 
-        BigDecimal sum = jpaQueryFactory.select(expense.amount.sum())
+        return jpaQueryFactory
+                .select(Projections.constructor(UserCategoryAmountDto.class,
+                        expense.user.id,
+                        expense.user.email,
+                        expense.category,
+                        expense.amount.sum()))
                 .from(expense)
-                .where(expense.user.id.eq(userId)
-                        .and(expense.expenseDate.eq(today))        // 오늘의 날짜
-                        .and(expense.dayOfWeek.eq(dayOfWeekOfToday))) // 오늘의 요일
-                .fetchOne();
-
-        Long count = jpaQueryFactory.select(expense.count())
-                .from(expense)
-                .where(expense.user.id.eq(userId)
-                        .and(expense.expenseDate.eq(today))        // 오늘의 날짜
-                        .and(expense.dayOfWeek.eq(dayOfWeekOfToday))) // 오늘의 요일
-                .fetchOne();
-
-        // 평균 계산: 총액 / 건수
-        if (count != null && count != 0) {
-            return sum != null ?
-                    sum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP) :
-                    BigDecimal.ONE; // sum이 null인 경우 기본값 1 반환
-        } else {
-            return BigDecimal.ONE; // count가 null이거나 0인 경우 기본값 1 반환
-        }
+                .where(expense.expenseDate.eq(date)
+                        .and(expense.user.id.between(fromUserId, toUserId))
+                        .and(expense.amount.between(BigDecimal.ZERO, BigDecimal.valueOf(1000000000L))))
+                .groupBy(expense.user.id, expense.user.email, expense.category)
+                .orderBy(expense.user.id.asc(), expense.category.asc())
+                .fetch();
     }
-}
\ No newline at end of file
+}
@@ -3,5 +3,6 @@ package com.mybudget.repository;
 import com.mybudget.domain.Expense;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface ExpenseRepository extends JpaRepository<Expense, Long>, ExpenseQRepository {
+public interface ExpenseRepository extends JpaRepository<Expense, Long>, ExpenseQRepository,
+        ExpenseStreamRepository {
 }
@@ -0,0 +1,13 @@
+package com.mybudget.repository;
+
+import com.mybudget.dto.ExpenseDto;
+
+import java.sql.Date;
+import java.util.function.Consumer;
+
+public interface ExpenseStreamRepository {
+    void streamExpensesByPeriod(Long userId,
+                                Date startDate,
+                                Date endDate,
+                                Consumer<ExpenseDto> consumer);
+}
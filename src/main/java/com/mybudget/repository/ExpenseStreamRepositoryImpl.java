@@ -0,0 +1,72 @@
+package com.mybudget.repository;
+
+import com.mybudget.dto.ExpenseDto;
+import com.mybudget.enums.Categories;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+@Repository
+public class ExpenseStreamRepositoryImpl implements ExpenseStreamRepository {
+    private static final String EXPENSES_BY_PERIOD_QUERY =
+            "SELECT id, description, category, amount, expense_date, excluding " +
+                    "FROM expense " +
+                    "WHERE user_id = ? AND expense_date BETWEEN ? AND ? " +
+                    "ORDER BY expense_date, id";
+
+    private static final Categories[] CATEGORIES = Categories.values();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 지정된 기간 내의 지출 데이터를 한 건씩 consumer 에 전달합니다.
+     * MySQL 드라이버는 fetchSize 가 Integer.MIN_VALUE 인 forward-only, read-only 결과셋을
+     * 서버에서 한 행씩 스트리밍하므로 조회 건수와 관계없이 메모리 사용량이 일정합니다.
+     * 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로
+     * consumer 에서는 조회 결과를 쓰기만 해야 합니다.
+     *
+     * @param userId    사용자 ID
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @param consumer  조회한 지출 데이터를 처리하는 함수
+     */
+    @Override
+    public void streamExpensesByPeriod(Long userId,
+                                       Date startDate,
+                                       Date endDate,
+                                       Consumer<ExpenseDto> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    EXPENSES_BY_PERIOD_QUERY,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY
+            );
+            statement.setFetchSize(Integer.MIN_VALUE);
+            statement.setLong(1, userId);
+            statement.setDate(2, startDate);
+            statement.setDate(3, endDate);
+            return statement;
+        }, resultSet -> {
+            // category 는 @Enumerated 없이 ORDINAL 로 저장됨
+            // wasNull 은 마지막으로 읽은 컬럼 기준이므로 category 를 읽은 직후에 확인
+            int category = resultSet.getInt("category");
+            Categories categories = resultSet.wasNull() ? null : CATEGORIES[category];
+
+            consumer.accept(ExpenseDto.builder()
+                    .id(resultSet.getLong("id"))
+                    .description(resultSet.getString("description"))
+                    .category(categories)
+                    .amount(resultSet.getBigDecimal("amount"))
+                    .expenseDate(resultSet.getDate("expense_date"))
+                    // getBoolean 은 NULL 을 false 로 읽으므로 JPA 조회와 같게 null 로 유지
+                    .excluding(resultSet.getObject("excluding", Boolean.class))
+                    .build());
+        });
+    }
+}
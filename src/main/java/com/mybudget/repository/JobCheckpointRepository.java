@@ -0,0 +1,13 @@
+package com.mybudget.repository;
+
+import com.mybudget.domain.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.sql.Date;
+import java.util.List;
+
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, Long> {
+    List<JobCheckpoint> findByJobNameAndRunDateOrderByPartitionNo(String jobName, Date runDate);
+
+    List<JobCheckpoint> findByRunDateAndCompletedFalse(Date runDate);
+}
@@ -2,18 +2,36 @@ package com.mybudget.repository;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
 @Repository
 @RequiredArgsConstructor
 public class TokenRedisRepository {
+    private static final long TTL_SECONDS = TimeUnit.DAYS.toSeconds(7);
+
+    // 저장된 값이 기대한 값일 때만 교체 (동시에 같은 토큰으로 요청해도 한 번만 교체됨)
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) return 1 " +
+                    "else return 0 end",
+            Long.class);
+
     private final StringRedisTemplate redisTemplate;
     public void save(String key, String value) {
         redisTemplate.opsForValue().set(key, value , 7 , TimeUnit.DAYS);
     }
 
+    public boolean replace(String key, String expectedValue, String newValue) {
+        Long result = redisTemplate.execute(REPLACE_SCRIPT, Collections.singletonList(key),
+                expectedValue, newValue, String.valueOf(TTL_SECONDS));
+        return result != null && result == 1L;
+    }
+
     public void delete(String key) {
         redisTemplate.delete(key);
     }
@@ -1,10 +1,39 @@
 package com.mybudget.repository;
 
 import com.mybudget.domain.User;
+import com.mybudget.enums.UserStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long>{
     Optional<User> findByEmail(String email);
+
+    /**
+     * 사용자를 쓰기 잠금(SELECT ... FOR UPDATE)으로 조회합니다.
+     * 같은 사용자의 예산 설정을 순서대로 처리하여, 동시에 설정한 예산끼리 기간이 겹치지 않도록 합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT u.userStatus FROM User u WHERE u.id = :id")
+    Optional<UserStatus> findUserStatusById(@Param("id") Long id);
+
+    @Query("SELECT u.id FROM User u WHERE u.id > :lastUserId AND u.id <= :toUserId ORDER BY u.id")
+    List<Long> findIdsBetween(@Param("lastUserId") Long lastUserId,
+                              @Param("toUserId") Long toUserId,
+                              Pageable pageable);
+
+    @Query("SELECT MIN(u.id) FROM User u")
+    Long findMinId();
+
+    @Query("SELECT MAX(u.id) FROM User u")
+    Long findMaxId();
 }
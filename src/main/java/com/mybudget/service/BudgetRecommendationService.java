@@ -1,58 +1,100 @@
 package com.mybudget.service;
 
-import com.mybudget.domain.Budget;
+import com.mybudget.component.AfterCommit;
+import com.mybudget.domain.BudgetCategoryTotal;
 import com.mybudget.domain.CategoryRatio;
 import com.mybudget.dto.BudgetDto;
+import com.mybudget.dto.UserCategoryMonthlyAmountDto;
 import com.mybudget.enums.Categories;
 import com.mybudget.exception.CustomException;
 import com.mybudget.exception.ErrorCode;
+import com.mybudget.repository.BudgetCategoryTotalRepository;
 import com.mybudget.repository.BudgetRepository;
 import com.mybudget.repository.CategoryRatioRepository;
+import com.mybudget.repository.DailyExpenseRollupRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class BudgetRecommendationService {
+    public static final String CATEGORY_RATIO_CHANNEL = "budget:category-ratio";
+
+    private static final String PERSONAL_RATIO_KEY_PREFIX = "budget:recommendation:";
+    private static final long PERSONAL_RATIO_TTL_SECONDS = TimeUnit.DAYS.toSeconds(2);
+    // 개인 추천 비율 계산에 사용하는 최근 지출 개월 수 (이번 달 포함)
+    private static final int HISTORY_MONTHS = 6;
+    // 한 달 이전의 지출은 이 비율만큼 가중치를 낮춤
+    private static final double RECENCY_WEIGHT = 0.7;
+    // 개인 추천 비율과 전체 카테고리 비율을 섞을 때 개인 추천 비율의 비중
+    private static final BigDecimal PERSONAL_RATIO_WEIGHT = BigDecimal.valueOf(0.7);
+
     private final BudgetRepository budgetRepository;
     private final CategoryRatioRepository categoryRatioRepository;
+    private final BudgetCategoryTotalRepository budgetCategoryTotalRepository;
+    private final DailyExpenseRollupRepository dailyExpenseRollupRepository;
+    private final StringRedisTemplate redisTemplate;
     private final List<Categories> CATEGORIES = Arrays.asList(Categories.values());
 
+    // 카테고리별 예산 비율 스냅샷 (변경하지 않고 통째로 교체)
+    private final AtomicReference<Map<Categories, Double>> ratioSnapshot = new AtomicReference<>();
+
     /**
      * 예산 비율을 설정.  각 카테고리의 예산 비율을 계산하여 CategoryRatio 엔티티에 저장
+     * 카테고리별 예산 합계는 예산 설정, 수정, 삭제 시 증분 갱신된 값을 읽으므로 예산 테이블을 조회하지 않습니다.
+     * 트랜잭션이 커밋되면 비율 스냅샷을 교체하고 Redis pub/sub 으로 다른 서버에 전파합니다.
      */
     @Transactional
     public void setRatiosPerBudgets() {
 
-        // 전체 예산의 총액을 가져옵니다.
-        BigDecimal totalAmount = budgetRepository.getTotalAmount();
+        // 카테고리별 예산 합계와 전체 예산의 총액
+        Map<Categories, BigDecimal> amountsOfCategory = new EnumMap<>(Categories.class);
+        budgetCategoryTotalRepository.findAll().forEach(categoryTotal ->
+                amountsOfCategory.put(categoryTotal.getCategory(), categoryTotal.getTotalAmount()));
+        BigDecimal totalAmount = amountsOfCategory.values().stream()
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        // 각 카테고리에 대해 예산 총액과 전체 예산에 대한 비율을 계산
-        CATEGORIES.forEach(category -> {
-            BigDecimal amountOfCategory = BigDecimal.ZERO;
-            BigDecimal ratio = BigDecimal.ZERO;
+        Map<Categories, CategoryRatio> categoryRatios = categoryRatioRepository.findAll().stream()
+                .collect(Collectors.toMap(CategoryRatio::getCategory, Function.identity()));
 
-            Optional<Budget> budgetOptional = budgetRepository.findByCategory(category);
+        Map<Categories, Double> ratios = new LinkedHashMap<>();
 
-            if (budgetOptional.isPresent()) {
-                amountOfCategory = budgetRepository.getAmountOfCategory(category);
-                ratio = amountOfCategory.divide(totalAmount, 2, RoundingMode.HALF_UP);
-            }
+        // 각 카테고리에 대해 전체 예산에 대한 비율을 계산
+        CATEGORIES.forEach(category -> {
+            BigDecimal amountOfCategory = amountsOfCategory.getOrDefault(category, BigDecimal.ZERO);
+            BigDecimal ratio = totalAmount.compareTo(BigDecimal.ZERO) > 0 ?
+                    amountOfCategory.divide(totalAmount, 2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
 
             // 해당 카테고리의 비율을 CategoryRatio 엔티티에 저장하거나 업데이트
-            Optional<CategoryRatio> targetCategory = categoryRatioRepository.findByCategory(category);
+            CategoryRatio targetCategory = categoryRatios.get(category);
 
-            if (targetCategory.isPresent()) {
+            if (targetCategory != null) {
                 // 이미 존재하는 경우 비율을 업데이트
-                targetCategory.get().setRatio(ratio.doubleValue());
+                targetCategory.setRatio(ratio.doubleValue());
             } else {
                 // 존재하지 않는 경우 새로운 CategoryRatio 엔티티 생성 및 저장
                 categoryRatioRepository.save(
@@ -61,34 +103,281 @@ public class BudgetRecommendationService {
                                 .ratio(ratio.doubleValue())
                                 .build());
             }
+
+            ratios.put(category, ratio.doubleValue());
+        });
+
+        AfterCommit.run(() -> {
+            ratioSnapshot.set(Collections.unmodifiableMap(ratios));
+            publishRatios(ratios);
+        });
+    }
+
+    /**
+     * 증분 갱신된 카테고리별 예산 합계를 예산 테이블의 GROUP BY 집계와 비교하여 보정
+     * 정상적으로는 차이가 없어야 하며, 차이가 있는 카테고리는 로그를 남기고 집계 값으로 덮어씁니다.
+     * <p>
+     * 집계하는 사이 커밋된 예산 변경의 증분을 덮어쓰지 않도록 예산 합계 행을 먼저 쓰기 잠금으로 읽습니다.
+     * REPEATABLE READ 의 스냅샷은 잠금 이후 첫 일반 조회(집계)에서 만들어지므로, 집계에는 잠금 전에 커밋된 변경이 모두 포함되고
+     * 잠금 이후의 변경은 보정이 커밋될 때까지 증분 반영을 기다렸다가 보정된 값에 더해집니다.
+     */
+    @Transactional
+    public void reconcileCategoryTotals() {
+        Map<Categories, BudgetCategoryTotal> runningTotals = budgetCategoryTotalRepository.findAllForUpdate().stream()
+                .collect(Collectors.toMap(BudgetCategoryTotal::getCategory, Function.identity()));
+        Map<Categories, BudgetCategoryTotal> actualTotals = budgetRepository.getCategoryTotals().stream()
+                .collect(Collectors.toMap(BudgetCategoryTotal::getCategory, Function.identity()));
+
+        CATEGORIES.forEach(category -> {
+            BudgetCategoryTotal actual = actualTotals.getOrDefault(category,
+                    new BudgetCategoryTotal(category, BigDecimal.ZERO, 0L));
+            BudgetCategoryTotal running = runningTotals.get(category);
+
+            if (running == null) {
+                if (actual.getBudgetCount() > 0) {
+                    log.warn(category + " 카테고리 예산 합계가 없어 " + actual.getTotalAmount() + "원으로 보정합니다.");
+                    budgetCategoryTotalRepository.save(actual);
+                }
+                return;
+            }
+
+            if (running.getTotalAmount().compareTo(actual.getTotalAmount()) != 0 ||
+                    !running.getBudgetCount().equals(actual.getBudgetCount())) {
+                log.warn(category + " 카테고리 예산 합계 " + running.getTotalAmount() + "원(" +
+                        running.getBudgetCount() + "건)을 " + actual.getTotalAmount() + "원(" +
+                        actual.getBudgetCount() + "건)으로 보정합니다.");
+                running.setTotalAmount(actual.getTotalAmount());
+                running.setBudgetCount(actual.getBudgetCount());
+            }
         });
     }
 
     /**
      * 추천 예산 목록을 생성. 주어진 총 금액을 기반으로 각 카테고리에 추천되는 예산을 생성해 반환.
+     * 사용자의 지출 이력으로 미리 계산된 개인 추천 비율이 있으면 Redis 키 하나만 조회해 전체 카테고리 비율과 섞어 사용하고,
+     * 없으면 메모리의 전체 카테고리 비율 스냅샷을 사용하므로 DB 는 조회하지 않습니다.
      *
+     * @param userId 사용자 ID
      * @param amount 총 예산 금액
      * @return 추천 예산 목록 (각 카테고리별 추천 예산 리스트)
      * @throws CustomException 주어진 금액이 너무 적을 때 발생하는 예외
      */
-    public List<BudgetDto> getRecommendationBudgets(Long amount) {
+    public List<BudgetDto> getRecommendationBudgets(Long userId, Long amount) {
         if (amount < 1000) {
             throw new CustomException(ErrorCode.BUDGET_AMOUNT_TOO_SMALL);
         }
 
-        List<CategoryRatio> categoryRatios = categoryRatioRepository.findAll();
+        Map<Categories, Double> globalRatios = getRatioSnapshot();
+        Map<Categories, Double> ratios = getPersonalRatios(userId)
+                .map(personalRatios -> blendRatios(personalRatios, globalRatios))
+                .orElse(globalRatios);
 
-        return categoryRatios.stream()
+        return ratios.entrySet().stream()
                 .map(categoryRatio -> {
                     BigDecimal budgetAmount = BigDecimal.valueOf(amount)
-                            .multiply(BigDecimal.valueOf(categoryRatio.getRatio()))
+                            .multiply(BigDecimal.valueOf(categoryRatio.getValue()))
                             .setScale(0, RoundingMode.HALF_UP);
 
                     return BudgetDto.builder()
-                            .category(categoryRatio.getCategory())
+                            .category(categoryRatio.getKey())
                             .amount(budgetAmount)
                             .build();
                 })
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 사용자 ID 범위의 사용자별 개인 추천 비율을 계산하여 Redis 에 저장
+     * 최근 HISTORY_MONTHS 개월의 카테고리별 지출 합계를 지출 일별 합계 테이블에서 한 번의 GROUP BY 로 가져온 뒤,
+     * 오래된 달일수록 RECENCY_WEIGHT 배씩 가중치를 낮춰 카테고리별 비율을 계산합니다.
+     * 결과는 파이프라인으로 한 번에 기록하며, 지출이 없는 사용자는 전체 카테고리 비율을 사용합니다.
+     *
+     * @param runDate    기준일
+     * @param fromUserId 시작 사용자 ID (포함)
+     * @param toUserId   끝 사용자 ID (포함)
+     */
+    public void calculatePersonalRatios(Date runDate, Long fromUserId, Long toUserId) {
+        YearMonth currentMonth = YearMonth.from(runDate.toLocalDate());
+        Date startDate = Date.valueOf(currentMonth.minusMonths(HISTORY_MONTHS - 1).atDay(1));
+
+        // 사용자 ID 순으로 정렬된 사용자, 카테고리, 월별 지출 합계
+        List<UserCategoryMonthlyAmountDto> monthlyAmounts = dailyExpenseRollupRepository
+                .getMonthlyAmountsPerUserAndCategory(startDate, runDate, fromUserId, toUserId);
+
+        Map<String, String> personalRatios = new HashMap<>();
+        int index = 0;
+
+        while (index < monthlyAmounts.size()) {
+            Long userId = monthlyAmounts.get(index).getUserId();
+
+            // 같은 사용자의 카테고리별 가중 지출 합계
+            Map<Categories, BigDecimal> weightedAmounts = new EnumMap<>(Categories.class);
+            for (; index < monthlyAmounts.size() &&
+                    monthlyAmounts.get(index).getUserId().equals(userId); index++) {
+                UserCategoryMonthlyAmountDto monthlyAmount = monthlyAmounts.get(index);
+                long monthsAgo = YearMonth.of(monthlyAmount.getYear(), monthlyAmount.getMonth())
+                        .until(currentMonth, ChronoUnit.MONTHS);
+                BigDecimal weight = BigDecimal.valueOf(Math.pow(RECENCY_WEIGHT, monthsAgo));
+
+                weightedAmounts.merge(monthlyAmount.getCategory(),
+                        monthlyAmount.getTotalAmount().multiply(weight), BigDecimal::add);
+            }
+
+            BigDecimal weightedTotal = weightedAmounts.values().stream()
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            if (weightedTotal.compareTo(BigDecimal.ZERO) <= 0) {
+                continue;
+            }
+
+            Map<Categories, Double> ratios = new LinkedHashMap<>();
+            weightedAmounts.forEach((category, weightedAmount) -> ratios.put(category,
+                    weightedAmount.divide(weightedTotal, 2, RoundingMode.HALF_UP).doubleValue()));
+
+            personalRatios.put(PERSONAL_RATIO_KEY_PREFIX + userId, formatRatios(ratios));
+        }
+
+        if (personalRatios.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            personalRatios.forEach((key, ratios) ->
+                    stringConnection.setEx(key, PERSONAL_RATIO_TTL_SECONDS, ratios));
+            return null;
+        });
+    }
+
+    /**
+     * 다른 서버가 Redis pub/sub 으로 전파한 카테고리별 예산 비율로 스냅샷 교체
+     *
+     * @param message "카테고리=비율" 을 쉼표로 이어 붙인 메시지
+     */
+    public void applyPublishedRatios(String message) {
+        Map<Categories, Double> ratios = parseRatios(message);
+
+        ratioSnapshot.set(ratios);
+        log.info("카테고리별 예산 비율 스냅샷을 교체했습니다. " + ratios);
+    }
+
+    /**
+     * 카테고리별 예산 비율 스냅샷 반환
+     * 아직 스냅샷이 없으면 DB 에서 읽어 만듭니다.
+     *
+     * @return 카테고리별 예산 비율
+     */
+    private Map<Categories, Double> getRatioSnapshot() {
+        Map<Categories, Double> snapshot = ratioSnapshot.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        Map<Categories, Double> ratios = new LinkedHashMap<>();
+        categoryRatioRepository.findAll().forEach(categoryRatio ->
+                ratios.put(categoryRatio.getCategory(), categoryRatio.getRatio()));
+
+        // 그 사이 다른 스레드가 교체했으면 그 스냅샷을 사용
+        ratioSnapshot.compareAndSet(null, Collections.unmodifiableMap(ratios));
+        return ratioSnapshot.get();
+    }
+
+    /**
+     * 사용자의 개인 추천 비율 조회
+     * Redis 를 사용할 수 없으면 전체 카테고리 비율을 사용하도록 빈 값을 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 카테고리별 개인 추천 비율, 없는 경우 빈 값
+     */
+    private Optional<Map<Categories, Double>> getPersonalRatios(Long userId) {
+        try {
+            return Optional.ofNullable(redisTemplate.opsForValue().get(PERSONAL_RATIO_KEY_PREFIX + userId))
+                    .map(BudgetRecommendationService::parseRatios);
+        } catch (RuntimeException e) {
+            log.warn("개인 추천 비율 조회에 실패했습니다. 전체 카테고리 비율을 사용합니다.", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 개인 추천 비율에 전체 카테고리 비율을 섞음
+     * 개인 추천 비율에는 사용자가 최근 지출한 카테고리만 있으므로 그대로 쓰면 나머지 카테고리의 추천 예산이 0 이 됩니다.
+     * 카테고리마다 개인 비율을 PERSONAL_RATIO_WEIGHT, 전체 비율을 나머지 비중으로 더하므로 결과의 합도 1 이 됩니다.
+     * 전체 카테고리 비율이 아직 없으면 개인 추천 비율을 그대로 사용합니다.
+     *
+     * @param personalRatios 카테고리별 개인 추천 비율
+     * @param globalRatios   카테고리별 전체 예산 비율
+     * @return 카테고리 순서로 정렬된 섞은 비율
+     */
+    private static Map<Categories, Double> blendRatios(Map<Categories, Double> personalRatios,
+                                                      Map<Categories, Double> globalRatios) {
+        double globalTotal = globalRatios.values().stream().mapToDouble(Double::doubleValue).sum();
+        if (globalTotal <= 0) {
+            return personalRatios;
+        }
+
+        BigDecimal globalWeight = BigDecimal.ONE.subtract(PERSONAL_RATIO_WEIGHT);
+        Map<Categories, Double> blended = new LinkedHashMap<>();
+
+        for (Categories category : Categories.values()) {
+            Double personalRatio = personalRatios.get(category);
+            Double globalRatio = globalRatios.get(category);
+            if (personalRatio == null && globalRatio == null) {
+                continue;
+            }
+
+            BigDecimal personal = BigDecimal.valueOf(personalRatio == null ? 0.0 : personalRatio);
+            BigDecimal global = BigDecimal.valueOf(globalRatio == null ? 0.0 : globalRatio);
+            BigDecimal ratio = PERSONAL_RATIO_WEIGHT.multiply(personal)
+                    .add(globalWeight.multiply(global))
+                    .setScale(2, RoundingMode.HALF_UP);
+            blended.put(category, ratio.doubleValue());
+        }
+
+        return blended;
+    }
+
+    /**
+     * 카테고리별 예산 비율을 다른 서버에 전파
+     * 전파에 실패해도 이 서버의 스냅샷은 이미 교체되었으므로 로그만 남깁니다.
+     *
+     * @param ratios 카테고리별 예산 비율
+     */
+    private void publishRatios(Map<Categories, Double> ratios) {
+        try {
+            redisTemplate.convertAndSend(CATEGORY_RATIO_CHANNEL, formatRatios(ratios));
+        } catch (RuntimeException e) {
+            log.warn("카테고리별 예산 비율 전파에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 카테고리별 예산 비율을 "카테고리=비율" 을 쉼표로 이어 붙인 문자열로 변환
+     *
+     * @param ratios 카테고리별 예산 비율
+     * @return 변환된 문자열
+     */
+    private static String formatRatios(Map<Categories, Double> ratios) {
+        return ratios.entrySet().stream()
+                .map(categoryRatio -> categoryRatio.getKey() + "=" + categoryRatio.getValue())
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * "카테고리=비율" 을 쉼표로 이어 붙인 문자열을 변경할 수 없는 카테고리별 예산 비율로 변환
+     *
+     * @param value 변환할 문자열
+     * @return 카테고리별 예산 비율
+     */
+    private static Map<Categories, Double> parseRatios(String value) {
+        Map<Categories, Double> ratios = new LinkedHashMap<>();
+
+        if (!value.isEmpty()) {
+            for (String entry : value.split(",")) {
+                String[] categoryRatio = entry.split("=");
+                ratios.put(Categories.valueOf(categoryRatio[0]), Double.parseDouble(categoryRatio[1]));
+            }
+        }
+
+        return Collections.unmodifiableMap(ratios);
+    }
 }
@@ -1,5 +1,6 @@
 package com.mybudget.service;
 
+import com.mybudget.component.ActiveBudgetCache;
 import com.mybudget.domain.Budget;
 import com.mybudget.domain.User;
 import com.mybudget.dto.BudgetDto;
@@ -8,16 +9,22 @@ import com.mybudget.dto.BudgetSettingRequestDto;
 import com.mybudget.enums.Categories;
 import com.mybudget.exception.CustomException;
 import com.mybudget.exception.ErrorCode;
+import com.mybudget.repository.BudgetCategoryTotalRepository;
 import com.mybudget.repository.BudgetRepository;
 import com.mybudget.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
+import java.math.BigDecimal;
 import java.sql.Date;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import static com.mybudget.exception.ErrorCode.USER_INFO_NOT_FOUND;
@@ -27,6 +34,8 @@ import static com.mybudget.exception.ErrorCode.USER_INFO_NOT_FOUND;
 public class BudgetService {
     private final UserRepository userRepository;
     private final BudgetRepository budgetRepository;
+    private final BudgetCategoryTotalRepository budgetCategoryTotalRepository;
+    private final ActiveBudgetCache activeBudgetCache;
 
     /**
      * 모든 카테고리 반환
@@ -37,21 +46,35 @@ public class BudgetService {
 
     /**
      * 사용자의 예산을 설정
+     * 사용자의 기존 예산을 한 번만 조회하여 카테고리별로 시작일 순 정렬된 기간 목록을 만들고,
+     * 새 예산을 하나씩 검사하며 추가하므로 같은 요청 안의 예산끼리 겹치는 경우도 검사합니다.
+     * 검사를 모두 통과한 예산은 하나의 JDBC 배치로 저장하고, 카테고리별 예산 합계는 카테고리당 한 번만 갱신합니다.
+     * 같은 사용자의 예산 설정 요청이 동시에 들어와도 서로의 예산을 보고 검사하도록 사용자 행을 잠그고 조회합니다.
      *
      * @param userId                  사용자 ID
      * @param budgetSettingRequestDto 예산 설정 요청 DTO
-     * @throws CustomException 유저 정보가 없을 때 발생하는 예외
+     * @throws CustomException 유저 정보가 없을 때, 예산 기간이 잘못되었거나 겹칠 때 발생하는 예외
      */
     @Transactional
     public void createBudget(Long userId,
                              BudgetSettingRequestDto budgetSettingRequestDto) {
 
-        User user = userRepository.findById(userId)
+        User user = userRepository.findByIdForUpdate(userId)
                 .orElseThrow(() -> new CustomException(USER_INFO_NOT_FOUND));
 
-        List<BudgetDto> budgetDtos = budgetSettingRequestDto.getBudgets();
+        // 카테고리별 예산 기간 (시작일 -> 종료일)
+        Map<Categories, TreeMap<LocalDate, LocalDate>> periodsPerCategory = new EnumMap<>(Categories.class);
+        budgetRepository.findByUser(user).forEach(existingBudget ->
+                periodsPerCategory.computeIfAbsent(existingBudget.getCategory(), category -> new TreeMap<>())
+                        .merge(dateToLocalDate(existingBudget.getStartDate()),
+                                dateToLocalDate(existingBudget.getEndDate()),
+                                (end1, end2) -> end1.isAfter(end2) ? end1 : end2));
 
-        budgetDtos.forEach(budgetDto -> {
+        List<Budget> newBudgets = new ArrayList<>();
+        Map<Categories, BigDecimal> newAmountsPerCategory = new EnumMap<>(Categories.class);
+        Map<Categories, Long> newCountsPerCategory = new EnumMap<>(Categories.class);
+
+        budgetSettingRequestDto.getBudgets().forEach(budgetDto -> {
             LocalDate newBudgetStart = dateToLocalDate(budgetDto.getStartDate());
             LocalDate newBudgetEnd = dateToLocalDate(budgetDto.getEndDate());
 
@@ -59,26 +82,41 @@ public class BudgetService {
                 throw new CustomException(ErrorCode.INVALID_BUDGET_DATE);
             }
 
-            List<Budget> existingBudgets = budgetRepository.findByUserAndCategory(
-                    user, budgetDto.getCategory()
-            );
-
-            existingBudgets.forEach(existingBudget -> {
-                LocalDate existingBudgetStart =
-                        dateToLocalDate(existingBudget.getStartDate());
-                LocalDate existingBudgetEnd =
-                        dateToLocalDate(existingBudget.getEndDate());
-
-                if ((newBudgetStart.isBefore(existingBudgetEnd) ||
-                        newBudgetStart.isEqual(existingBudgetEnd)) &&
-                        (newBudgetEnd.isAfter(existingBudgetStart) ||
-                                newBudgetEnd.isEqual(existingBudgetStart))) {
-                    throw new CustomException(ErrorCode.BUDGET_ALREADY_EXISTS);
-                }
-            });
-
-            budgetRepository.save(Budget.from(user, budgetDto));
+            TreeMap<LocalDate, LocalDate> periods =
+                    periodsPerCategory.computeIfAbsent(budgetDto.getCategory(), category -> new TreeMap<>());
+
+            if (overlaps(periods, newBudgetStart, newBudgetEnd)) {
+                throw new CustomException(ErrorCode.BUDGET_ALREADY_EXISTS);
+            }
+            periods.put(newBudgetStart, newBudgetEnd);
+
+            newBudgets.add(Budget.from(user, budgetDto));
+            newAmountsPerCategory.merge(budgetDto.getCategory(), budgetDto.getAmount(), BigDecimal::add);
+            newCountsPerCategory.merge(budgetDto.getCategory(), 1L, Long::sum);
         });
+
+        budgetRepository.insertAll(newBudgets);
+        newAmountsPerCategory.forEach((category, amount) ->
+                budgetCategoryTotalRepository.addAmount(
+                        category.name(), amount, newCountsPerCategory.get(category)));
+
+        activeBudgetCache.invalidate(userId);
+    }
+
+    /**
+     * 새 예산 기간이 기존 예산 기간과 겹치는지 검사 (시작일, 종료일 포함)
+     * 새 종료일 이전에 시작하는 기간 중 종료일이 새 시작일 이후인 기간이 있으면 겹칩니다.
+     * 검사 이전에 저장된 데이터에는 서로 겹치는 기간(긴 기간 안의 짧은 기간 등)이 있을 수 있으므로
+     * 인접한 두 기간만 보지 않고 해당하는 기간을 모두 확인합니다.
+     *
+     * @param periods  시작일 순으로 정렬된 기존 예산 기간 (시작일 -> 종료일)
+     * @param newStart 새 예산 시작일
+     * @param newEnd   새 예산 종료일
+     * @return 겹치는 경우 true
+     */
+    private boolean overlaps(TreeMap<LocalDate, LocalDate> periods, LocalDate newStart, LocalDate newEnd) {
+        return periods.headMap(newEnd, true).values().stream()
+                .anyMatch(end -> !end.isBefore(newStart));
     }
 
     /**
@@ -138,7 +176,12 @@ public class BudgetService {
             throw new CustomException(ErrorCode.NOT_MY_BUDGET);
         }
 
+        // 카테고리별 예산 합계에는 변경된 금액만큼만 반영
+        budgetCategoryTotalRepository.addAmount(budget.getCategory().name(),
+                budgetEditRequestDto.getAmount().subtract(budget.getAmount()), 0);
+
         budget.setAmount(budgetEditRequestDto.getAmount());
+        activeBudgetCache.invalidate(userId);
     }
 
     /**
@@ -148,6 +191,7 @@ public class BudgetService {
      * @param budgetId 삭제할 예산 ID
      * @throws CustomException 예산이 찾아지지 않을 경우 예외 발생
      */
+    @Transactional
     public void deleteBudget(Long userId, Long budgetId) {
         User user = getUser(userId);
 
@@ -158,6 +202,8 @@ public class BudgetService {
         }
 
         budgetRepository.delete(budget);
+        budgetCategoryTotalRepository.addAmount(budget.getCategory().name(), budget.getAmount().negate(), -1);
+        activeBudgetCache.invalidate(userId);
     }
 
     /**
@@ -0,0 +1,122 @@
+package com.mybudget.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.mybudget.dto.ExpenseDto;
+import com.mybudget.enums.ExportFormat;
+import com.mybudget.repository.ExpenseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+
+@RequiredArgsConstructor
+@Service
+public class ExpenseExportService {
+    private static final String CSV_HEADER = "id,expenseDate,category,amount,excluding,description";
+
+    private final ExpenseRepository expenseRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 지정된 기간의 지출 내역을 요청한 형식으로 출력 스트림에 기록
+     * 지출 내역을 목록으로 모으지 않고 조회되는 대로 한 줄씩 기록하므로
+     * 기간이 길어져도 메모리 사용량이 늘어나지 않습니다.
+     *
+     * @param userId       사용자 식별자
+     * @param startDate    시작 날짜
+     * @param endDate      종료 날짜
+     * @param format       내보내기 형식 (CSV, NDJSON)
+     * @param outputStream 지출 내역을 기록할 출력 스트림
+     * @throws IOException 출력 스트림에 기록하지 못한 경우
+     */
+    public void exportExpenses(Long userId,
+                               Date startDate,
+                               Date endDate,
+                               ExportFormat format,
+                               OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try {
+            expenseRepository.streamExpensesByPeriod(userId, startDate, endDate, expense -> {
+                try {
+                    writer.write(format == ExportFormat.CSV ? toCsv(expense) : toJson(expense));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+    }
+
+    /**
+     * 지출 내역을 CSV 한 줄로 변환
+     *
+     * @param expense 지출 내역
+     * @return CSV 한 줄
+     */
+    private String toCsv(ExpenseDto expense) {
+        return String.join(",",
+                String.valueOf(expense.getId()),
+                String.valueOf(expense.getExpenseDate()),
+                expense.getCategory() == null ? "" : expense.getCategory().name(),
+                expense.getAmount() == null ? "" : expense.getAmount().toPlainString(),
+                expense.getExcluding() == null ? "" : expense.getExcluding().toString(),
+                escapeCsv(expense.getDescription()));
+    }
+
+    /**
+     * 쉼표, 큰따옴표, 줄바꿈이 포함된 값을 큰따옴표로 감싸고 내부의 큰따옴표를 이스케이프
+     * 스프레드시트가 수식으로 실행하지 않도록 =, +, -, @, 탭, CR 로 시작하는 값은 앞에 작은따옴표를 붙입니다.
+     *
+     * @param value CSV 필드 값
+     * @return 이스케이프된 CSV 필드 값
+     */
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    /**
+     * 지출 내역을 JSON 한 줄로 변환
+     *
+     * @param expense 지출 내역
+     * @return JSON 한 줄
+     * @throws IOException JSON 으로 변환하지 못한 경우
+     */
+    private String toJson(ExpenseDto expense) throws IOException {
+        ObjectNode node = objectMapper.createObjectNode()
+                .put("id", expense.getId())
+                .put("expenseDate", String.valueOf(expense.getExpenseDate()))
+                .put("category", expense.getCategory() == null ? null : expense.getCategory().name())
+                .put("amount", expense.getAmount())
+                .put("excluding", expense.getExcluding())
+                .put("description", expense.getDescription());
+
+        return objectMapper.writeValueAsString(node);
+    }
+}
@@ -1,18 +1,21 @@
 package com.mybudget.service;
 
-import com.mybudget.domain.Budget;
+import com.mybudget.component.ActiveBudgetCache;
+import com.mybudget.component.AfterCommit;
+import com.mybudget.component.ExpenseRatioSketch;
+import com.mybudget.component.ExpenseRatioSnapshot;
 import com.mybudget.domain.Expense;
 import com.mybudget.domain.User;
 import com.mybudget.dto.*;
 import com.mybudget.enums.Categories;
 import com.mybudget.exception.CustomException;
 import com.mybudget.repository.BudgetRepository;
+import com.mybudget.repository.DailyExpenseRollupRepository;
 import com.mybudget.repository.ExpenseRepository;
 import com.mybudget.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,12 +25,10 @@ import java.math.RoundingMode;
 import java.sql.Date;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Collectors;
 
 import static com.mybudget.exception.ErrorCode.*;
 
@@ -38,6 +39,10 @@ public class ExpenseService {
     private final ExpenseRepository expenseRepository;
     private final BudgetRepository budgetRepository;
     private final UserRepository userRepository;
+    private final DailyExpenseRollupRepository dailyExpenseRollupRepository;
+    private final ExpenseRatioSketch expenseRatioSketch;
+    private final ActiveBudgetCache activeBudgetCache;
+    private final ExpenseRatioSnapshot expenseRatioSnapshot;
 
     /**
      * 사용자의 지출 내역 생성
@@ -51,17 +56,76 @@ public class ExpenseService {
 
         User user = getUser(userId);
 
-        List<Budget> budgets = budgetRepository.findByUserAndDate(
-                user, expenseCreationRequestDto.getExpenseDate()
-        );
+        BigDecimal budgetTotalAmount = BigDecimal.ONE.add(activeBudgetCache.getBudgetAmount(
+                user, expenseCreationRequestDto.getExpenseDate(), expenseCreationRequestDto.getCategory()
+        ));
+
+        Expense expense = Expense.from(user, expenseCreationRequestDto, budgetTotalAmount);
+
+        expenseRepository.save(expense);
+
+        addToRollup(expense, expense.getAmount(), 1L);
+        addToSketch(expense);
+    }
+
+    /**
+     * 합계제외 처리하지 않은 지출이 바뀐 경우 사용자의 지출 비율 평균을 날짜, 카테고리별 분포에 다시 반영
+     *
+     * @param expense 지출
+     */
+    private void addToSketch(Expense expense) {
+        if (Boolean.FALSE.equals(expense.getExcluding())) {
+            refreshExpenseRatioAfterCommit(expense);
+        }
+    }
 
-        BigDecimal budgetTotalAmount = budgets.stream()
-                .filter(budget -> budget.getCategory().equals(expenseCreationRequestDto.getCategory()))
-                .map(Budget::getAmount)
-                .reduce(BigDecimal.ONE, BigDecimal::add);
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 사용자의 지출 비율 평균을 날짜, 카테고리별 분포에 다시 반영하고 사용자의 지출 변경 시각 기록
+     * 분포는 트랜잭션 밖의 Redis 이므로 롤백된 지출이 남지 않도록 커밋 후에 커밋된 지출로 평균을 계산하며,
+     * 커밋 전에 엔티티가 바뀌어도 영향이 없도록 값은 지금 꺼내 둡니다.
+     *
+     * @param expense 지출
+     */
+    private void refreshExpenseRatioAfterCommit(Expense expense) {
+        Long userId = expense.getUser().getId();
+        Date expenseDate = expense.getExpenseDate();
+        Categories category = expense.getCategory();
+
+        AfterCommit.run(() -> {
+            expenseRatioSketch.refresh(expenseDate, category, userId);
+            expenseRatioSnapshot.markWritten(expenseDate, userId);
+        });
+    }
+
+    /**
+     * 지출의 (사용자, 지출일, 카테고리, 합계제외 여부)에 해당하는 일별 합계에 증분 반영
+     * 지출 변경과 같은 트랜잭션에서 실행되므로 일별 합계는 항상 지출 테이블과 일치합니다.
+     *
+     * @param expense 지출
+     * @param amount  더할 금액 (차감 시 음수)
+     * @param count   더할 건수 (차감 시 음수)
+     */
+    private void addToRollup(Expense expense, BigDecimal amount, long count) {
+        addToRollup(expense, expense.getExcluding(), amount, count);
+    }
 
-        expenseRepository.save(
-                Expense.from(user, expenseCreationRequestDto, budgetTotalAmount)
+    /**
+     * 지정한 합계제외 여부의 일별 합계에 증분 반영
+     *
+     * @param expense   지출
+     * @param excluding 반영할 일별 합계의 합계제외 여부
+     * @param amount    더할 금액 (차감 시 음수)
+     * @param count     더할 건수 (차감 시 음수)
+     */
+    private void addToRollup(Expense expense, Boolean excluding, BigDecimal amount, long count) {
+        dailyExpenseRollupRepository.addAmount(
+                expense.getUser().getId(),
+                expense.getExpenseDate(),
+                expense.getCategory().ordinal(),
+                Boolean.TRUE.equals(excluding),
+                expense.getExpenseDate().toLocalDate().getDayOfWeek().name(),
+                amount,
+                count
         );
     }
 
@@ -100,47 +164,78 @@ public class ExpenseService {
                                               Integer size) {
 
         // 최대 및 최소 금액을 설정합니다. 값이 없는 경우 기본값은 Long.MAX_VALUE 및 Long.MIN_VALUE입니다.
-        BigDecimal minAmount = minimumAmount == null ? BigDecimal.ZERO : minimumAmount;
-        BigDecimal maxAmount = maximumAmount == null ? BigDecimal.valueOf(1000000000L) : maximumAmount;
-
-        // 지출 목록을 가져옵니다. 지출을 ExpenseDto로 매핑한 후 리스트로 변환합니다.
-        List<ExpenseDto> expenses = (
-                category == null ?
-                        expenseRepository.getExpensesByPeriod(
-                                userId, startDate, endDate, minAmount, maxAmount) :
-                        expenseRepository.getExpensesByPeriodWithCategory(
-                                userId, startDate, endDate, category, minAmount, maxAmount)
-        ).stream().map(ExpenseDto::from).collect(Collectors.toList());
-
-        // 카테고리별 금액을 가져옵니다.
-        List<AmountsOfCategoryDto> amountsPerCategories = category == null ?
-                expenseRepository.getAmountsByPeriod(
-                        userId, startDate, endDate, minAmount, maxAmount) :
-                expenseRepository.getAmountsByPeriodWithCategory(
-                        userId, startDate, endDate, category, minAmount, maxAmount);
-
-        // 지정된 기간 동안의 총 지출 금액을 가져옵니다.
-        BigDecimal totalAmount = category == null ?
-                expenseRepository.getTotalAmountByPeriod(
-                        userId, startDate, endDate, minAmount, maxAmount) :
-                expenseRepository.getTotalAmountByPeriodWithCategory(
-                        userId, startDate, endDate, category, minAmount, maxAmount
-                );
-
+        BigDecimal minAmount = getMinimumAmount(minimumAmount);
+        BigDecimal maxAmount = getMaximumAmount(maximumAmount);
 
         // 페이지네이션을 설정합니다.
-        Pageable pageable = Pageable.ofSize(size).withPage(page);
+        Pageable pageable = PageRequest.of(page, size);
+
+        // 요청한 페이지의 지출, 카테고리별 금액, 총 지출 금액을 함께 가져옵니다.
+        ExpenseListDto expenseListDto = expenseRepository.getExpenseListByPeriod(
+                userId, startDate, endDate, category, minAmount, maxAmount, pageable
+        );
 
-        // 가져온 지출 목록으로 페이지를 생성합니다.
-        Page<ExpenseDto> expenseDtoPage = new PageImpl<>(expenses, pageable, expenses.size());
+        return ExpenseListResponseDto.from(expenseListDto);
+    }
+
+    /**
+     * 커서 이후의 지출 목록 반환
+     * OFFSET 대신 마지막으로 조회한 (지출일, 지출 ID) 기준으로 조회하므로
+     * 스크롤 깊이와 관계없이 페이지당 조회 비용이 일정합니다.
+     * 카테고리별 지출 금액과 총 지출 금액은 커서 없이 조회한 첫 페이지 응답에만 포함됩니다.
+     *
+     * @param userId        사용자 ID
+     * @param startDate     조회 시작일
+     * @param endDate       조회 종료일
+     * @param minimumAmount 최소 금액 필터링을 위한 Optional 매개변수
+     * @param maximumAmount 최대 금액 필터링을 위한 Optional 매개변수
+     * @param category      카테고리 필터링을 위한 Optional 매개변수
+     * @param cursor        이전 응답의 nextCursor
+     * @param size          페이지 크기
+     * @return 커서 이후의 지출 목록과 다음 커서를 포함한 응답 DTO
+     * @throws CustomException 커서 형식이 올바르지 않은 경우 예외 발생
+     */
+    @Transactional(readOnly = true)
+    public ExpenseListResponseDto getExpensesByCursor(Long userId,
+                                                      Date startDate,
+                                                      Date endDate,
+                                                      BigDecimal minimumAmount,
+                                                      BigDecimal maximumAmount,
+                                                      Categories category,
+                                                      String cursor,
+                                                      Integer size) {
+
+        BigDecimal minAmount = getMinimumAmount(minimumAmount);
+        BigDecimal maxAmount = getMaximumAmount(maximumAmount);
+
+        ExpenseCursorDto expenseCursorDto = ExpenseCursorDto.decode(cursor);
+
+        // 커서 이후의 지출만 가져옵니다.
+        ExpenseListDto expenseListDto = expenseRepository.getExpenseListByPeriodAfterCursor(
+                userId, startDate, endDate, category, minAmount, maxAmount, expenseCursorDto, size
+        );
+
+        return ExpenseListResponseDto.from(expenseListDto);
+    }
 
+    /**
+     * 최소 금액 필터의 기본값 적용
+     *
+     * @param minimumAmount 요청한 최소 금액
+     * @return 요청한 최소 금액, 없는 경우 0
+     */
+    private BigDecimal getMinimumAmount(BigDecimal minimumAmount) {
+        return minimumAmount == null ? BigDecimal.ZERO : minimumAmount;
+    }
 
-        // 지출 목록, 카테고리별 금액, 총 지출 금액을 포함하는 응답 DTO를 생성하여 반환합니다.
-        return ExpenseListResponseDto.builder()
-                .expenses(expenseDtoPage)
-                .amountsPerCategory(amountsPerCategories)
-                .totalAmount(totalAmount)
-                .build();
+    /**
+     * 최대 금액 필터의 기본값 적용
+     *
+     * @param maximumAmount 요청한 최대 금액
+     * @return 요청한 최대 금액, 없는 경우 10억
+     */
+    private BigDecimal getMaximumAmount(BigDecimal maximumAmount) {
+        return maximumAmount == null ? BigDecimal.valueOf(1000000000L) : maximumAmount;
     }
 
     /**
@@ -164,6 +259,9 @@ public class ExpenseService {
             throw new CustomException(NOT_MY_EXPENSE);
         }
 
+        BigDecimal previousAmount = expense.getAmount();
+        Boolean previousExcluding = expense.getExcluding();
+
         // 수정 요청에 따라 지출 정보 업데이트
         if (expenseModificationRequestDto.getDescription() != null) {
             expense.setDescription(expenseModificationRequestDto.getDescription());
@@ -176,6 +274,17 @@ public class ExpenseService {
         if (expenseModificationRequestDto.getExcluding() != null) {
             expense.setExcluding(expenseModificationRequestDto.getExcluding());
         }
+
+        // 일별 합계 갱신: 합계제외 여부가 바뀌면 이전 행에서 빼고 새 행에 더함
+        if (Boolean.TRUE.equals(previousExcluding) != Boolean.TRUE.equals(expense.getExcluding())) {
+            addToRollup(expense, previousExcluding, previousAmount.negate(), -1L);
+            addToRollup(expense, expense.getAmount(), 1L);
+
+            // 지출 비율 분포에는 합계제외 처리하지 않은 지출만 포함
+            refreshExpenseRatioAfterCommit(expense);
+        } else if (previousAmount.compareTo(expense.getAmount()) != 0) {
+            addToRollup(expense, expense.getAmount().subtract(previousAmount), 0L);
+        }
     }
 
     /**
@@ -210,149 +319,205 @@ public class ExpenseService {
 
         // 지출 삭제
         expenseRepository.delete(expense);
+
+        addToRollup(expense, expense.getAmount().negate(), -1L);
+        addToSketch(expense);
     }
 
     /**
      * 이 메서드는 오늘의 지출 내역을 조회하고, 사용자별로 예상 소비 금액에 대한 알림을 제공합니다.
-     * 사용자 목록을 가져온 후 각 사용자에 대해 오늘의 지출 내역을 확인하고,
-     * 예상 소비 금액 대비 실제 소비 금액의 비율을 계산하여 알림을 보냅니다.
+     * 사용자별 카테고리 지출 합계와 사용자별 예산 합계를 각각 한 번의 GROUP BY 쿼리로 가져온 뒤,
+     * 두 결과를 사용자 ID 순으로 한 번 순회하며 병합하여 예상 소비 금액 대비 실제 소비 금액의 비율을 계산합니다.
+     * 사용자 ID 범위 단위로 호출되며, 범위 크기와 관계없이 쿼리는 두 번만 실행됩니다.
      * 프로젝트 기간이 매우짧은 프로젝트인 관계로 로그로 알림을 대체하였습니다.
      *
      * @Transactional(readOnly = true)으로 선언되었으며, 읽기 전용 트랜잭션으로 동작합니다.
+     * @param today      기준일
+     * @param fromUserId 시작 사용자 ID (포함)
+     * @param toUserId   끝 사용자 ID (포함)
+     * @return 오늘 지출이 있는 사용자별 알림 내용
      */
     @Transactional(readOnly = true)
-    public void notifyTodayExpense() {
-        // 사용자 목록 조회
-        List<User> users = userRepository.findAll();
-
-        // 카테고리별 지출 내역을 저장하는 맵
-        Map<Categories, BigDecimal> categoriesBigDecimalMap = new HashMap<>();
-
-        // 오늘 지출 내역 여부를 확인하는 AtomicBoolean
-        AtomicBoolean noExpenseToday = new AtomicBoolean(true);
-
-        // 각 사용자에 대해 지출 내역을 확인하고 맵에 저장
-        users.forEach(user -> {
-            // 오늘의 지출 내역을 가져와 맵에 추가
-            expenseRepository.getExpensesByPeriod(
-                    user.getId(),
-                    Date.valueOf(LocalDate.now()),
-                    Date.valueOf(LocalDate.now()),
-                    BigDecimal.ZERO,
-                    BigDecimal.valueOf(1000000000L)
-            ).forEach(expense -> {
-                categoriesBigDecimalMap.put(
-                        expense.getCategory(),
-                        categoriesBigDecimalMap.getOrDefault(
-                                expense.getCategory(), BigDecimal.ZERO
-                        ).add(expense.getAmount())
-                );
-            });
-
-            // 각 카테고리별 지출 금액을 계산하고 지출이 있을 경우 정보를 로깅하고 플래그를 설정
-            AtomicReference<BigDecimal> totalAmount = new AtomicReference<>(BigDecimal.ZERO);
-            categoriesBigDecimalMap.keySet().forEach(categories -> {
-                if (categoriesBigDecimalMap.get(categories).compareTo(BigDecimal.ZERO) > 0) {
-                    log.info(user.getEmail() + "님의 " +
-                            categories + " 카테고리 지출 금액은 " +
-                            categoriesBigDecimalMap.get(categories) + "원 입니다.");
-                    totalAmount.set(totalAmount.get().add(categoriesBigDecimalMap.get(categories)));
-                    noExpenseToday.set(false);
+    public List<DailyExpenseNotificationDto> notifyTodayExpense(Date today, Long fromUserId, Long toUserId) {
+        // 사용자 ID 순으로 정렬된 사용자, 카테고리별 지출 합계와 사용자별 예산 합계
+        List<UserCategoryAmountDto> expenseSums =
+                expenseRepository.getExpenseSumsPerUserAndCategory(today, fromUserId, toUserId);
+        List<UserBudgetTotalDto> budgetTotals =
+                budgetRepository.getBudgetTotalsPerUser(today, fromUserId, toUserId);
+
+        List<DailyExpenseNotificationDto> notifications = new ArrayList<>();
+        int budgetIndex = 0;
+        int index = 0;
+
+        while (index < expenseSums.size()) {
+            Long userId = expenseSums.get(index).getUserId();
+            String email = expenseSums.get(index).getEmail();
+
+            // 같은 사용자의 카테고리별 지출 합계를 모음 (사용자마다 새로 계산하므로 다른 사용자와 섞이지 않음)
+            List<AmountsOfCategoryDto> amountsPerCategory = new ArrayList<>();
+            BigDecimal totalAmount = BigDecimal.ZERO;
+            for (; index < expenseSums.size() && expenseSums.get(index).getUserId().equals(userId); index++) {
+                UserCategoryAmountDto expenseSum = expenseSums.get(index);
+                if (expenseSum.getTotalAmount().compareTo(BigDecimal.ZERO) > 0) {
+                    amountsPerCategory.add(AmountsOfCategoryDto.builder()
+                            .category(expenseSum.getCategory())
+                            .totalAmount(expenseSum.getTotalAmount())
+                            .build());
+                    totalAmount = totalAmount.add(expenseSum.getTotalAmount());
                 }
-            });
-
-            // 오늘 지출 내역이 있을 경우 예상 소비 금액 대비 실제 소비 금액의 비율 계산 후 알림
-            if (!noExpenseToday.get()) {
-                BigDecimal expectedAmount = budgetRepository.findByUserAndDate(user,
-                                Date.valueOf(LocalDate.now()))
-                        .stream().map(Budget::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
-                BigDecimal expectedExpense = expectedAmount.divide(BigDecimal.valueOf(30), 2, RoundingMode.HALF_UP);
-                BigDecimal ratio = totalAmount.get().divide(expectedExpense, 2,
-                        RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100));
-                log.info(user.getEmail() + "님의 오늘 예상 소비 금액은 " + expectedExpense +
-                        "원 이었습니다. 금일 실제 소비금액은 " + totalAmount + "원 입니다. " +
-                        "예상 소비금액 대비" + ratio + "% 지출했습니다.");
             }
-        });
+
+            if (amountsPerCategory.isEmpty()) {
+                continue;
+            }
+
+            // 예산 합계 목록도 사용자 ID 순이므로 현재 사용자까지 앞으로 이동
+            while (budgetIndex < budgetTotals.size() &&
+                    budgetTotals.get(budgetIndex).getUserId() < userId) {
+                budgetIndex++;
+            }
+            BigDecimal expectedAmount = budgetIndex < budgetTotals.size() &&
+                    budgetTotals.get(budgetIndex).getUserId().equals(userId) ?
+                    budgetTotals.get(budgetIndex).getTotalAmount() : BigDecimal.ZERO;
+
+            BigDecimal expectedExpense = expectedAmount.divide(BigDecimal.valueOf(30), 2, RoundingMode.HALF_UP);
+
+            // 오늘 유효한 예산이 없으면 비율을 계산하지 않음
+            BigDecimal ratio = expectedExpense.compareTo(BigDecimal.ZERO) == 0 ? null :
+                    totalAmount.divide(expectedExpense, 2, RoundingMode.HALF_UP)
+                            .multiply(BigDecimal.valueOf(100));
+
+            DailyExpenseNotificationDto notification = DailyExpenseNotificationDto.builder()
+                    .userId(userId)
+                    .email(email)
+                    .amountsPerCategory(amountsPerCategory)
+                    .totalAmount(totalAmount)
+                    .expectedExpense(expectedExpense)
+                    .ratio(ratio)
+                    .build();
+
+            logNotification(notification);
+            notifications.add(notification);
+        }
+
+        return notifications;
+    }
+
+    /**
+     * 사용자의 오늘 지출 알림 내용을 로그로 출력
+     *
+     * @param notification 사용자의 오늘 지출 알림 내용
+     */
+    private void logNotification(DailyExpenseNotificationDto notification) {
+        notification.getAmountsPerCategory().forEach(amount ->
+                log.info(notification.getEmail() + "님의 " +
+                        amount.getCategory() + " 카테고리 지출 금액은 " +
+                        amount.getTotalAmount() + "원 입니다."));
+
+        if (notification.getRatio() == null) {
+            log.info(notification.getEmail() + "님의 금일 실제 소비금액은 " +
+                    notification.getTotalAmount() + "원 입니다. 오늘 유효한 예산이 없습니다.");
+            return;
+        }
+
+        log.info(notification.getEmail() + "님의 오늘 예상 소비 금액은 " + notification.getExpectedExpense() +
+                "원 이었습니다. 금일 실제 소비금액은 " + notification.getTotalAmount() + "원 입니다. " +
+                "예상 소비금액 대비" + notification.getRatio() + "% 지출했습니다.");
     }
+
     /**
      * 이 메서드는 사용자에게 추천할 예상 지출을 계산하고, 각 카테고리에 대한 추천 금액 제공
+     * 사용자, 카테고리별 예산 합계와 오늘 지출 합계를 각각 한 번의 GROUP BY 쿼리로 가져온 뒤,
+     * 사용자 ID 순으로 한 번 순회하며 병합하여 남은 예산을 이번 달 남은 일수로 나눈 금액을 추천합니다.
+     * 사용자 ID 범위 단위로 호출되며, 범위 크기와 관계없이 쿼리는 두 번만 실행됩니다.
      * @Transactional(readOnly = true)로 선언되어 읽기 전용 트랜잭션으로 동작
+     *
+     * @param today      기준일
+     * @param fromUserId 시작 사용자 ID (포함)
+     * @param toUserId   끝 사용자 ID (포함)
+     * @return 오늘 예산 또는 지출이 있는 사용자별 추천 내용
      */
     @Transactional(readOnly = true)
-    public void recommendExpenses() {
-        // 사용자 목록 조회
-        List<User> users = userRepository.findAll();
-
-        // 카테고리별 지출 내역을 저장하는 맵
-        Map<Categories, BigDecimal> categoriesBigDecimalMap = new HashMap<>();
-
-        // 시작일을 추적하는 변수
-        AtomicReference<Date> startDate = new AtomicReference<>(null); // 초기값을 null로 설정
-
-        // 각 사용자에 대해 추천 지출 계산
-        users.forEach(user -> {
-            // 해당 사용자의 예산 가져오기
-            budgetRepository.findByUserAndDate(user, Date.valueOf(LocalDate.now()))
-                    .forEach(budget -> {
-                        // 카테고리별 지출 내역 계산
-                        categoriesBigDecimalMap.put(
-                                budget.getCategory(),
-                                categoriesBigDecimalMap.getOrDefault(
-                                        budget.getCategory(), BigDecimal.ZERO
-                                ).add(budget.getAmount())
-                        );
-
-                        // 시작일 업데이트
-                        Date budgetStartDate = budget.getStartDate();
-                        if (startDate.get() == null ||
-                                (budgetStartDate != null &&
-                                        budgetStartDate.before(startDate.get()))) {
-                            startDate.set(budgetStartDate);
-                        }
-                    });
-
-            // startDate가 null이면 현재 날짜로 설정
-            if (startDate.get() == null) {
-                startDate.set(Date.valueOf(LocalDate.now()));
+    public List<DailyExpenseRecommendationDto> recommendExpenses(Date today, Long fromUserId, Long toUserId) {
+        // 사용자 ID 순으로 정렬된 사용자, 카테고리별 예산 합계와 오늘 지출 합계
+        List<UserCategoryAmountDto> budgetSums =
+                budgetRepository.getBudgetTotalsPerUserAndCategory(today, fromUserId, toUserId);
+        List<UserCategoryAmountDto> expenseSums =
+                expenseRepository.getExpenseSumsPerUserAndCategory(today, fromUserId, toUserId);
+
+        // 이번 달의 남은 일수 계산
+        LocalDate date = today.toLocalDate();
+        LocalDate lastDate = date.withDayOfMonth(date.lengthOfMonth());
+        long daysLeftInThisMonth = ChronoUnit.DAYS.between(date, lastDate) + 1;
+
+        List<DailyExpenseRecommendationDto> recommendations = new ArrayList<>();
+        int budgetIndex = 0;
+        int expenseIndex = 0;
+
+        while (budgetIndex < budgetSums.size() || expenseIndex < expenseSums.size()) {
+            // 두 목록 중 더 작은 사용자 ID 부터 처리
+            UserCategoryAmountDto current = expenseIndex >= expenseSums.size() ||
+                    (budgetIndex < budgetSums.size() &&
+                            budgetSums.get(budgetIndex).getUserId() <= expenseSums.get(expenseIndex).getUserId()) ?
+                    budgetSums.get(budgetIndex) : expenseSums.get(expenseIndex);
+            Long userId = current.getUserId();
+
+            // 카테고리별 남은 예산 = 예산 합계 - 오늘 지출 합계 (사용자마다 새로 계산)
+            Map<Categories, BigDecimal> remainingAmounts = new EnumMap<>(Categories.class);
+            for (; budgetIndex < budgetSums.size() &&
+                    budgetSums.get(budgetIndex).getUserId().equals(userId); budgetIndex++) {
+                UserCategoryAmountDto budgetSum = budgetSums.get(budgetIndex);
+                remainingAmounts.merge(budgetSum.getCategory(), budgetSum.getTotalAmount(), BigDecimal::add);
+            }
+            for (; expenseIndex < expenseSums.size() &&
+                    expenseSums.get(expenseIndex).getUserId().equals(userId); expenseIndex++) {
+                UserCategoryAmountDto expenseSum = expenseSums.get(expenseIndex);
+                remainingAmounts.merge(expenseSum.getCategory(), expenseSum.getTotalAmount().negate(),
+                        BigDecimal::add);
             }
 
-            // 이번 달의 마지막 날짜 계산
-            LocalDate lastDate = LocalDate.now().withDayOfMonth(LocalDate.now().lengthOfMonth());
-            long daysLeftInThisMonth = ChronoUnit.DAYS.between(LocalDate.now(), lastDate) + 1;
-
-            // 사용자의 오늘의 지출 내역 조회하여 카테고리별 지출 내역 갱신
-            expenseRepository.getExpensesByPeriod(
-                    user.getId(),
-                    Date.valueOf(LocalDate.now()),
-                    Date.valueOf(LocalDate.now()),
-                    BigDecimal.ZERO,
-                    BigDecimal.valueOf(1000000000L)
-            ).forEach(expense -> {
-                categoriesBigDecimalMap.put(
-                        expense.getCategory(),
-                        categoriesBigDecimalMap.getOrDefault(
-                                expense.getCategory(), BigDecimal.ZERO
-                        ).subtract(expense.getAmount())
-                );
-            });
-
-            // 카테고리별 추천 금액 계산
-            AtomicReference<BigDecimal> totalRecommendationAmount = new AtomicReference<>(BigDecimal.ZERO);
-            categoriesBigDecimalMap.forEach((category, amount) -> {
-                if (amount.compareTo(BigDecimal.ZERO) < 0) {
-                    amount = BigDecimal.valueOf(1000);
-                }
+            // 카테고리별 추천 금액 계산 (예산을 초과한 카테고리는 1000원 기준)
+            List<AmountsOfCategoryDto> amountsPerCategory = new ArrayList<>();
+            BigDecimal totalRecommendationAmount = BigDecimal.ZERO;
+            for (Map.Entry<Categories, BigDecimal> entry : remainingAmounts.entrySet()) {
+                BigDecimal amount = entry.getValue().compareTo(BigDecimal.ZERO) < 0 ?
+                        BigDecimal.valueOf(1000) : entry.getValue();
                 BigDecimal dividedAmount = amount.divide(BigDecimal.valueOf(daysLeftInThisMonth), 2,
                         RoundingMode.HALF_UP);
-                log.info(user.getEmail() + "님, " + category +
-                        " 카테고리 추천 금액은 " + dividedAmount + "원 입니다.");
-                totalRecommendationAmount.set(totalRecommendationAmount.get().add(dividedAmount));
-            });
 
-            // 사용자의 총 추천 소비 금액 로깅
-            log.info(user.getEmail() + "총 추천 소비금액은 " + totalRecommendationAmount + "원입니다.");
-        });
+                amountsPerCategory.add(AmountsOfCategoryDto.builder()
+                        .category(entry.getKey())
+                        .totalAmount(dividedAmount)
+                        .build());
+                totalRecommendationAmount = totalRecommendationAmount.add(dividedAmount);
+            }
+
+            DailyExpenseRecommendationDto recommendation = DailyExpenseRecommendationDto.builder()
+                    .userId(userId)
+                    .email(current.getEmail())
+                    .amountsPerCategory(amountsPerCategory)
+                    .totalAmount(totalRecommendationAmount)
+                    .build();
+
+            logRecommendation(recommendation);
+            recommendations.add(recommendation);
+        }
+
+        return recommendations;
+    }
+
+    /**
+     * 사용자의 오늘 추천 지출 내용을 로그로 출력
+     *
+     * @param recommendation 사용자의 오늘 추천 지출 내용
+     */
+    private void logRecommendation(DailyExpenseRecommendationDto recommendation) {
+        recommendation.getAmountsPerCategory().forEach(amount ->
+                log.info(recommendation.getEmail() + "님, " + amount.getCategory() +
+                        " 카테고리 추천 금액은 " + amount.getTotalAmount() + "원 입니다."));
+
+        // 사용자의 총 추천 소비 금액 로깅
+        log.info(recommendation.getEmail() + "총 추천 소비금액은 " + recommendation.getTotalAmount() + "원입니다.");
     }
 
 }
\ No newline at end of file
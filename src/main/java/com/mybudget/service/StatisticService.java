@@ -1,8 +1,12 @@
 package com.mybudget.service;
 
-import com.mybudget.domain.Expense;
+import com.mybudget.component.ExpenseRatioSketch;
+import com.mybudget.component.ExpenseRatioSnapshot;
+import com.mybudget.dto.AmountsOfCategoryDto;
 import com.mybudget.dto.CategoryExpenseRatioDto;
+import com.mybudget.dto.ExpenseRatioSummaryDto;
 import com.mybudget.enums.Categories;
+import com.mybudget.repository.DailyExpenseRollupRepository;
 import com.mybudget.repository.ExpenseRepository;
 import com.mybudget.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +19,7 @@ import java.sql.Date;
 import java.text.DecimalFormat;
 import java.time.DayOfWeek;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -24,6 +29,9 @@ import java.util.stream.Collectors;
 public class StatisticService {
     private final ExpenseRepository expenseRepository;
     private final UserRepository userRepository;
+    private final DailyExpenseRollupRepository dailyExpenseRollupRepository;
+    private final ExpenseRatioSnapshot expenseRatioSnapshot;
+    private final ExpenseRatioSketch expenseRatioSketch;
 
     /**
      * 사용자의 통계 데이터를 가져오는 메서드
@@ -37,13 +45,15 @@ public class StatisticService {
         Date lastMonthStartDate = Date.valueOf(today.toLocalDate().minusMonths(2));
         Date lastMonthEndDate = Date.valueOf(today.toLocalDate().minusMonths(1).minusDays(1));
 
-        List<Expense> lastMonthExpenses = expenseRepository.getExpensesByMonth(
-                userId, lastMonthStartDate, lastMonthEndDate
-        );
+        List<AmountsOfCategoryDto> lastMonthExpenses =
+                dailyExpenseRollupRepository.getAmountsOfCategoryByPeriod(
+                        userId, lastMonthStartDate, lastMonthEndDate
+                );
 
-        List<Expense> thisMonthExpenses = expenseRepository.getExpensesByMonth(
-                userId, thisMonthStartDate, today
-        );
+        List<AmountsOfCategoryDto> thisMonthExpenses =
+                dailyExpenseRollupRepository.getAmountsOfCategoryByPeriod(
+                        userId, thisMonthStartDate, today
+                );
 
         Map<Categories, BigDecimal> thisMonthExpenseStatistic =
                 getExpenseStatistic(thisMonthExpenses);
@@ -87,17 +97,18 @@ public class StatisticService {
     }
 
     /**
-     * 이번 달 지출 목록을 받아 카테고리별 지출을 계산하여 맵으로 반환
+     * 카테고리별 지출 합계 목록을 맵으로 변환
      *
-     * @param thisMonthExpenses 이번 달의 지출 목록
+     * @param amountsOfCategory 일별 합계 테이블에서 집계한 카테고리별 지출 합계 목록
      * @return 카테고리별로 누적된 지출을 담은 맵
      */
-    private Map<Categories, BigDecimal> getExpenseStatistic(List<Expense> thisMonthExpenses) {
-        return thisMonthExpenses.stream()
-                .collect(Collectors.groupingBy(
-                        Expense::getCategory, // Expense 객체의 카테고리를 기준으로 그룹화
-                        Collectors.reducing(BigDecimal.ZERO, Expense::getAmount, BigDecimal::add)
-                        // 각 카테고리별로 지출 합계를 계산하여 맵에 추가
+    private Map<Categories, BigDecimal> getExpenseStatistic(List<AmountsOfCategoryDto> amountsOfCategory) {
+        return amountsOfCategory.stream()
+                .collect(Collectors.toMap(
+                        AmountsOfCategoryDto::getCategory,
+                        AmountsOfCategoryDto::getTotalAmount,
+                        BigDecimal::add,
+                        () -> new EnumMap<>(Categories.class)
                 ));
     }
 
@@ -116,11 +127,11 @@ public class StatisticService {
 
         // 해당 요일에 대한 평균 지출액
         BigDecimal amountByDayOfWeek =
-                expenseRepository.getAmountAverageByDayOfWeek(userId, today, dayOfWeekOfToday);
+                dailyExpenseRollupRepository.getAmountAverageByDayOfWeek(userId, today, dayOfWeekOfToday);
 
         // 해당 요일의 금일 지출액
         BigDecimal amountOfTodayByDayOfWeek =
-                expenseRepository.getAmountOfTodayByDayOfWeek(userId, today, dayOfWeekOfToday);
+                dailyExpenseRollupRepository.getAmountOfTodayByDayOfWeek(userId, today, dayOfWeekOfToday);
 
         // 만약 금일 지출액이 null이면 기본값 1로 설정
         amountOfTodayByDayOfWeek = amountOfTodayByDayOfWeek == null ?
@@ -144,12 +155,12 @@ public class StatisticService {
         Date lastMonthStartDate = Date.valueOf(today.toLocalDate().minusMonths(2));
         Date lastMonthEndDate = Date.valueOf(today.toLocalDate().minusMonths(1).minusDays(1));
 
-        BigDecimal thisMonthTotalAmount = expenseRepository.getTotalAmountByPeriod(
-                userId, thisMonthStartDate, today, BigDecimal.ZERO, BigDecimal.valueOf(1000000000)
+        BigDecimal thisMonthTotalAmount = dailyExpenseRollupRepository.getTotalAmountByPeriod(
+                userId, thisMonthStartDate, today
         );
 
-        BigDecimal lastMonthTotalAmount = expenseRepository.getTotalAmountByPeriod(
-                userId, lastMonthStartDate, lastMonthEndDate, BigDecimal.ZERO, BigDecimal.valueOf(1000000000)
+        BigDecimal lastMonthTotalAmount = dailyExpenseRollupRepository.getTotalAmountByPeriod(
+                userId, lastMonthStartDate, lastMonthEndDate
         );
 
         thisMonthTotalAmount = thisMonthTotalAmount == null ? BigDecimal.ONE : thisMonthTotalAmount;
@@ -162,28 +173,26 @@ public class StatisticService {
     /**
      * 주어진 사용자 ID와 날짜를 기준으로 다른 사용자들의 지출 비율과 해당 사용자의 지출 비율 계산,
      * 다른 사용자들의 평균 지출 비율 대비 해당 사용자의 지출 비율의 비율 반환
+     * 다른 사용자들의 평균은 전체 사용자 스냅샷에서 본인의 기여분을 빼서 계산하며,
+     * 스냅샷이 없거나 스냅샷 갱신 이후 본인이 지출을 변경한 경우에는 직접 집계합니다.
      * @param userId 사용자 ID
      * @param date 날짜
      * @return 다른 사용자들의 평균 지출 비율 대비 해당 사용자의 지출 비율의 비율 값 (소수점 한 자리까지)
      */
+    @Transactional(readOnly = true)
     public Double getOthersStatistics(Long userId, Date date) {
-        List<Expense> allExpenses = expenseRepository.findAll();
-
-        Double othersExpenseRatio = allExpenses.stream()
-                .filter(expense -> !expense.getUser().getId().equals(userId))
-                .filter(expense -> expense.getExpenseDate().equals(date))
-                .filter(expense -> expense.getExcluding().equals(false))
-                .mapToDouble(Expense::getExpenseRatio)
-                .average()
-                .orElse(100.0);
-
-        Double myExpenseRatio = allExpenses.stream()
-                .filter(expense -> expense.getUser().getId().equals(userId))
-                .filter(expense -> expense.getExpenseDate().equals(date))
-                .filter(expense -> expense.getExcluding().equals(false))
-                .mapToDouble(Expense::getExpenseRatio)
-                .average()
-                .orElse(1.0);
+        ExpenseRatioSummaryDto mySummary = expenseRepository.getExpenseRatioSummaryOfUser(userId, date);
+
+        // 본인 기여분이 스냅샷보다 커지는 경우는 없어야 하지만 음수 건수로 계산하지 않도록 직접 집계
+        Double othersExpenseRatio = expenseRatioSnapshot.get(date, userId)
+                .map(snapshot -> snapshot.subtract(mySummary))
+                .filter(othersSummary -> othersSummary.getCount() >= 0)
+                .map(othersSummary -> othersSummary.getCount() == 0 ? 100.0 : othersSummary.average())
+                .orElseGet(() -> expenseRepository.getExpenseRatioAverageOfOthers(userId, date));
+        othersExpenseRatio = othersExpenseRatio == null ? 100.0 : othersExpenseRatio;
+
+        Double myExpenseRatio = mySummary.average();
+        myExpenseRatio = myExpenseRatio == null ? 1.0 : myExpenseRatio;
 
         DecimalFormat format = new DecimalFormat("#.#");
 
@@ -192,4 +201,26 @@ public class StatisticService {
         );
     }
 
+    /**
+     * 해당 날짜, 카테고리에서 사용자의 평균 지출 비율이 다른 사용자들의 평균 지출 비율 분포의 몇 백분위인지 반환
+     * 분포는 지출 변경 시 사용자별 평균으로 갱신되는 히스토그램 스케치에서 읽으므로 사용자 수와 관계없이 일정한 비용으로 계산합니다.
+     *
+     * @param userId   사용자 ID
+     * @param date     날짜
+     * @param category 카테고리
+     * @return 백분위 (0 ~ 100, 소수점 한 자리까지), 해당 카테고리 지출이 없거나 다른 사용자가 없는 경우 null
+     */
+    @Transactional(readOnly = true)
+    public Double getPercentileStatistics(Long userId, Date date, Categories category) {
+        Double myExpenseRatio = expenseRepository
+                .getExpenseRatioSummaryOfUserByCategory(userId, date, category)
+                .average();
+
+        if (myExpenseRatio == null) {
+            return null;
+        }
+
+        return expenseRatioSketch.percentileRank(date, category, userId, myExpenseRatio);
+    }
+
 }
@@ -1,8 +1,11 @@
 package com.mybudget.service;
 
 import com.mybudget.component.EmailSender;
+import com.mybudget.component.RevokedTokenFilter;
 import com.mybudget.component.SmsSender;
+import com.mybudget.config.JwtPrincipal;
 import com.mybudget.config.JwtProvider;
+import com.mybudget.config.RefreshTokenClaims;
 import com.mybudget.domain.User;
 import com.mybudget.dto.*;
 import com.mybudget.enums.UserStatus;
@@ -38,6 +41,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
     private final TokenRedisRepository tokenRedisRepository;
+    private final RevokedTokenFilter revokedTokenFilter;
     private static final String OTP_KEY = "OTP: ";
     private static final String TOKEN_KEY = "TOKEN: ";
 
@@ -177,13 +181,84 @@ public class UserService {
         }
 
         String accessToken = jwtProvider.issueAccessToken(TokenIssuanceDto.from(user));
-        String refreshToken = jwtProvider.issueRefreshToken();
+        String refreshToken = jwtProvider.issueRefreshToken(user.getId());
 
         tokenRedisRepository.save(TOKEN_KEY + user.getId().toString(), refreshToken);
 
         return UserSignInDto.from(user, accessToken, refreshToken);
     }
 
+    /**
+     * 리프레시 토큰으로 액세스 토큰과 리프레시 토큰을 다시 발급 (리프레시 토큰 교체)
+     * 사용한 리프레시 토큰은 폐기하며, 이미 교체된 토큰이 다시 사용되면 탈취된 것으로 보고
+     * 사용자의 현재 리프레시 토큰도 삭제하여 다시 로그인하도록 합니다.
+     *
+     * @param userTokenRefreshRequestDto 토큰 재발급 요청 DTO
+     * @return 새 액세스 토큰과 리프레시 토큰
+     * @throws CustomException 유효하지 않거나 폐기, 교체된 리프레시 토큰인 경우 예외 발생
+     */
+    public UserTokenRefreshDto refreshToken(UserTokenRefreshRequestDto userTokenRefreshRequestDto) {
+        String refreshToken = userTokenRefreshRequestDto.getRefreshToken();
+        RefreshTokenClaims claims = jwtProvider.getRefreshTokenClaims(refreshToken);
+        String tokenKey = TOKEN_KEY + claims.getUserId().toString();
+
+        // 이미 교체되어 폐기된 토큰의 재사용
+        if (revokedTokenFilter.isRevoked(claims.getTokenId())) {
+            throw rejectReusedRefreshToken(tokenKey, claims);
+        }
+
+        User user = getUser(claims.getUserId());
+        if (DELETED.equals(user.getUserStatus())) {
+            throw new CustomException(USER_INFO_NOT_FOUND);
+        }
+
+        String newRefreshToken = jwtProvider.issueRefreshToken(user.getId());
+
+        // 저장된 토큰과 같을 때만 교체되므로 같은 토큰으로 동시에 요청해도 한 번만 재발급
+        if (!tokenRedisRepository.replace(tokenKey, refreshToken, newRefreshToken)) {
+            throw rejectReusedRefreshToken(tokenKey, claims);
+        }
+
+        revokedTokenFilter.revoke(claims.getTokenId(), claims.getExpiration());
+
+        return UserTokenRefreshDto.builder()
+                .accessToken(jwtProvider.issueAccessToken(TokenIssuanceDto.from(user)))
+                .refreshToken(newRefreshToken)
+                .build();
+    }
+
+    /**
+     * 로그아웃
+     * 사용 중인 액세스 토큰을 만료 전까지 폐기하고 리프레시 토큰을 삭제하여 더 이상 재발급할 수 없도록 합니다.
+     *
+     * @param principal 인증된 사용자의 인증 주체
+     * @throws CustomException 인증되지 않은 요청인 경우 예외 발생
+     */
+    public void signOut(JwtPrincipal principal) {
+        if (principal == null) {
+            throw new CustomException(INVALID_TOKEN);
+        }
+
+        if (principal.getTokenId() != null) {
+            revokedTokenFilter.revoke(principal.getTokenId(), principal.getExpiration());
+        }
+        tokenRedisRepository.delete(TOKEN_KEY + principal.getId().toString());
+    }
+
+    /**
+     * 교체된 리프레시 토큰이 다시 사용된 경우 사용자의 현재 리프레시 토큰을 삭제
+     * 정상 사용자와 탈취한 쪽 중 누가 먼저 교체했는지 알 수 없으므로 양쪽 모두 다시 로그인하도록 합니다.
+     *
+     * @param tokenKey 사용자의 리프레시 토큰 키
+     * @param claims   다시 사용된 리프레시 토큰의 클레임
+     * @return 던질 예외
+     */
+    private CustomException rejectReusedRefreshToken(String tokenKey, RefreshTokenClaims claims) {
+        tokenRedisRepository.delete(tokenKey);
+        revokedTokenFilter.revoke(claims.getTokenId(), claims.getExpiration());
+        return new CustomException(INVALID_TOKEN);
+    }
+
     private User getUserByEmail(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new CustomException(USER_INFO_NOT_FOUND));
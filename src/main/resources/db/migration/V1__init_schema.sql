@@ -0,0 +1,53 @@
+-- 마이그레이션 도입 이전 스키마 (JPA 엔티티 기준)
+-- 이미 테이블이 존재하는 DB 는 baseline-on-migrate 로 이 버전을 건너뜀
+CREATE TABLE IF NOT EXISTS `user`
+(
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    email        VARCHAR(255),
+    password     VARCHAR(255),
+    phone_number VARCHAR(255),
+    user_role    VARCHAR(255),
+    user_status  VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS budget
+(
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT,
+    category   VARCHAR(255),
+    amount     DECIMAL(19, 2),
+    start_date DATE,
+    end_date   DATE,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_budget_user FOREIGN KEY (user_id) REFERENCES `user` (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS category_ratio
+(
+    category   VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    ratio      DOUBLE,
+    PRIMARY KEY (category)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS expense
+(
+    id                  BIGINT NOT NULL AUTO_INCREMENT,
+    created_at          DATETIME(6),
+    updated_at          DATETIME(6),
+    user_id             BIGINT,
+    description         VARCHAR(255),
+    category            INTEGER,
+    amount              DECIMAL(19, 2),
+    expense_date        DATE,
+    budget_total_amount DECIMAL(19, 2),
+    day_of_week         VARCHAR(255),
+    expense_ratio       DOUBLE,
+    excluding           BIT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_expense_user FOREIGN KEY (user_id) REFERENCES `user` (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,10 @@
+-- 지출 목록 / 커서 조회
+-- InnoDB 보조 인덱스에는 PK(id)가 뒤에 붙으므로 ORDER BY expense_date DESC, id DESC 를 정렬 없이 처리
+CREATE INDEX idx_expense_user_date ON expense (user_id, expense_date);
+
+-- 카테고리별 합계, 총액 (createExpensForAll / createExpenseForACategory 조건)
+-- 조건과 집계 대상 컬럼을 모두 포함해 테이블 접근 없이 인덱스만으로 처리
+CREATE INDEX idx_expense_user_date_summary ON expense (user_id, expense_date, category, excluding, amount);
+
+-- 요일별 평균, 오늘 요일 지출
+CREATE INDEX idx_expense_user_day_of_week ON expense (user_id, day_of_week, expense_date, amount);
@@ -0,0 +1,39 @@
+-- 사용자, 지출일, 카테고리, 합계제외 여부별 지출 합계
+-- 지출 생성, 수정, 삭제 시 INSERT ... ON DUPLICATE KEY UPDATE 로 증분 갱신
+CREATE TABLE daily_expense_rollup
+(
+    id            BIGINT         NOT NULL AUTO_INCREMENT,
+    user_id       BIGINT         NOT NULL,
+    expense_date  DATE           NOT NULL,
+    category      INTEGER        NOT NULL,
+    excluding     BIT            NOT NULL,
+    day_of_week   VARCHAR(255)   NOT NULL,
+    total_amount  DECIMAL(19, 2) NOT NULL,
+    expense_count BIGINT         NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_daily_expense_rollup UNIQUE (user_id, expense_date, category, excluding),
+    CONSTRAINT fk_daily_expense_rollup_user FOREIGN KEY (user_id) REFERENCES `user` (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_daily_expense_rollup_user_day_of_week
+    ON daily_expense_rollup (user_id, day_of_week, expense_date);
+
+-- 기존 지출로 초기 합계 적재
+-- 요일은 애플리케이션이 저장한 expense.day_of_week 를 그대로 사용 (DAYNAME 은 lc_time_names 에 따라 달라짐)
+-- 요일이 비어 있는 지출은 DAYOFWEEK(1 = 일요일)로 DayOfWeek 이름을 만듦
+INSERT INTO daily_expense_rollup
+    (user_id, expense_date, category, excluding, day_of_week, total_amount, expense_count)
+SELECT user_id,
+       expense_date,
+       category,
+       COALESCE(excluding, 0),
+       COALESCE(MAX(day_of_week),
+                ELT(DAYOFWEEK(expense_date),
+                    'SUNDAY', 'MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY', 'SATURDAY')),
+       SUM(COALESCE(amount, 0)),
+       COUNT(*)
+FROM expense
+WHERE user_id IS NOT NULL
+  AND expense_date IS NOT NULL
+  AND category IS NOT NULL
+GROUP BY user_id, expense_date, category, COALESCE(excluding, 0);
@@ -0,0 +1,3 @@
+-- 다른 사용자와 비교 통계: 특정 날짜의 지출 비율 평균을 인덱스만으로 집계
+CREATE INDEX idx_expense_date_excluding_user_ratio
+    ON expense (expense_date, excluding, user_id, expense_ratio);
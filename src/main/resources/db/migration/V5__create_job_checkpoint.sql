@@ -0,0 +1,13 @@
+-- 청크 단위 배치 작업의 (작업, 실행일)별 진행 상황
+CREATE TABLE job_checkpoint
+(
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    job_name     VARCHAR(255) NOT NULL,
+    run_date     DATE         NOT NULL,
+    last_user_id BIGINT       NOT NULL,
+    completed    BIT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_job_checkpoint UNIQUE (job_name, run_date)
+) ENGINE = InnoDB;
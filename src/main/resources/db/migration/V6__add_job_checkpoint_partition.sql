@@ -0,0 +1,9 @@
+-- 배치 작업을 사용자 ID 범위 파티션으로 나누어 병렬 처리: 파티션별로 진행 상황을 기록
+ALTER TABLE job_checkpoint
+    ADD COLUMN partition_no INT    NOT NULL DEFAULT 0,
+    ADD COLUMN from_user_id BIGINT NOT NULL DEFAULT 1,
+    ADD COLUMN to_user_id   BIGINT NOT NULL DEFAULT 9223372036854775807;
+
+ALTER TABLE job_checkpoint
+    DROP INDEX uk_job_checkpoint,
+    ADD CONSTRAINT uk_job_checkpoint UNIQUE (job_name, run_date, partition_no);
@@ -0,0 +1,16 @@
+-- 카테고리별 전체 사용자의 예산 합계
+-- 예산 설정, 수정, 삭제 시 INSERT ... ON DUPLICATE KEY UPDATE 로 증분 갱신
+CREATE TABLE budget_category_total
+(
+    category     VARCHAR(255)   NOT NULL,
+    total_amount DECIMAL(19, 2) NOT NULL,
+    budget_count BIGINT         NOT NULL,
+    PRIMARY KEY (category)
+) ENGINE = InnoDB;
+
+-- 기존 예산으로 초기 합계 적재
+INSERT INTO budget_category_total (category, total_amount, budget_count)
+SELECT category, SUM(COALESCE(amount, 0)), COUNT(*)
+FROM budget
+WHERE category IS NOT NULL
+GROUP BY category;
@@ -0,0 +1,175 @@
+package com.mybudget.component;
+
+import com.mybudget.domain.Budget;
+import com.mybudget.domain.User;
+import com.mybudget.enums.Categories;
+import com.mybudget.repository.BudgetRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.mybudget.enums.Categories.EDUCATION;
+import static com.mybudget.enums.Categories.FOOD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("사용자별 예산 기간 캐시")
+class ActiveBudgetCacheTest {
+
+    @Mock
+    private BudgetRepository budgetRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ActiveBudgetCache activeBudgetCache;
+
+    private final User user = User.builder().id(1L).email("user1@test.com").build();
+
+    private final User otherUser = User.builder().id(2L).email("user2@test.com").build();
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        activeBudgetCache = new ActiveBudgetCache(budgetRepository, redisTemplate, meterRegistry, 1, 60000);
+
+        when(budgetRepository.findByUser(user)).thenReturn(Arrays.asList(
+                budget(user, FOOD, "2023-11-01", "2023-11-15", 100000),
+                budget(user, FOOD, "2023-11-16", "2023-11-30", 200000),
+                budget(user, EDUCATION, "2023-11-01", "2023-11-30", 50000)
+        ));
+        when(budgetRepository.findByUser(otherUser)).thenReturn(Collections.emptyList());
+    }
+
+    @Test
+    @DisplayName("날짜가 포함된 기간의 카테고리 예산 금액 조회")
+    void getBudgetAmount_period() {
+        //when
+        //then
+        // 기간의 시작일과 종료일을 포함하고, 기간 밖의 날짜는 0
+        assertThat(activeBudgetCache.getBudgetAmount(user, Date.valueOf("2023-11-15"), FOOD))
+                .isEqualByComparingTo(BigDecimal.valueOf(100000));
+        assertThat(activeBudgetCache.getBudgetAmount(user, Date.valueOf("2023-11-16"), FOOD))
+                .isEqualByComparingTo(BigDecimal.valueOf(200000));
+        assertThat(activeBudgetCache.getBudgetAmount(user, Date.valueOf("2023-11-20"), EDUCATION))
+                .isEqualByComparingTo(BigDecimal.valueOf(50000));
+        assertThat(activeBudgetCache.getBudgetAmount(user, Date.valueOf("2023-12-01"), FOOD))
+                .isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(activeBudgetCache.getBudgetAmount(user, Date.valueOf("2023-10-31"), FOOD))
+                .isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("날짜가 겹치는 기간에 포함되면 각 기간의 예산 금액을 합산")
+    void getBudgetAmount_overlapping() {
+        //given
+        when(budgetRepository.findByUser(otherUser)).thenReturn(Arrays.asList(
+                budget(otherUser, FOOD, "2023-11-01", "2023-11-30", 100000),
+                budget(otherUser, FOOD, "2023-11-10", "2023-11-20", 30000)
+        ));
+
+        //when
+        //then
+        assertThat(activeBudgetCache.getBudgetAmount(otherUser, Date.valueOf("2023-11-15"), FOOD))
+                .isEqualByComparingTo(BigDecimal.valueOf(130000));
+        assertThat(activeBudgetCache.getBudgetAmount(otherUser, Date.valueOf("2023-11-25"), FOOD))
+                .isEqualByComparingTo(BigDecimal.valueOf(100000));
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 사용자는 캐시에서 조회")
+    void getBudgetAmount_hit() {
+        //when
+        activeBudgetCache.getBudgetAmount(user, Date.valueOf("2023-11-01"), FOOD);
+        activeBudgetCache.getBudgetAmount(user, Date.valueOf("2023-11-20"), FOOD);
+
+        //then
+        verify(budgetRepository, times(1)).findByUser(user);
+        assertThat(meterRegistry.counter("budget.active-cache", "result", "miss").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("budget.active-cache", "result", "hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 사용자 제거")
+    void getBudgetAmount_eviction() {
+        //when
+        activeBudgetCache.getBudgetAmount(user, Date.valueOf("2023-11-01"), FOOD);
+        activeBudgetCache.getBudgetAmount(otherUser, Date.valueOf("2023-11-01"), FOOD);
+        activeBudgetCache.getBudgetAmount(user, Date.valueOf("2023-11-01"), FOOD);
+
+        //then
+        verify(budgetRepository, times(2)).findByUser(user);
+        assertThat(meterRegistry.counter("budget.active-cache.evictions").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화 후 다시 조회하고 다른 서버에 전파")
+    void invalidate() {
+        //given
+        activeBudgetCache.getBudgetAmount(user, Date.valueOf("2023-11-01"), FOOD);
+
+        //when
+        activeBudgetCache.invalidate(1L);
+        activeBudgetCache.getBudgetAmount(user, Date.valueOf("2023-11-01"), FOOD);
+
+        //then
+        verify(budgetRepository, times(2)).findByUser(user);
+        verify(redisTemplate).convertAndSend(ActiveBudgetCache.INVALIDATION_CHANNEL, "1");
+    }
+
+    @Test
+    @DisplayName("조회 중 무효화되면 조회한 예산을 캐시하지 않음")
+    void getBudgetAmount_invalidatedWhileLoading() {
+        //given
+        when(budgetRepository.findByUser(user)).thenAnswer(invocation -> {
+            activeBudgetCache.invalidate(1L);
+            return Collections.singletonList(budget(user, FOOD, "2023-11-01", "2023-11-30", 100000));
+        });
+
+        //when
+        activeBudgetCache.getBudgetAmount(user, Date.valueOf("2023-11-01"), FOOD);
+        activeBudgetCache.getBudgetAmount(user, Date.valueOf("2023-11-01"), FOOD);
+
+        //then
+        verify(budgetRepository, times(2)).findByUser(user);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 다시 조회")
+    void getBudgetAmount_expired() {
+        //given
+        ActiveBudgetCache expiringCache = new ActiveBudgetCache(budgetRepository, redisTemplate, meterRegistry, 10, 0);
+
+        //when
+        expiringCache.getBudgetAmount(user, Date.valueOf("2023-11-01"), FOOD);
+        expiringCache.getBudgetAmount(user, Date.valueOf("2023-11-01"), FOOD);
+
+        //then
+        verify(budgetRepository, times(2)).findByUser(user);
+    }
+
+    private Budget budget(User owner, Categories category,
+                          String startDate, String endDate, long amount) {
+        return Budget.builder()
+                .user(owner)
+                .category(category)
+                .amount(BigDecimal.valueOf(amount))
+                .startDate(Date.valueOf(startDate))
+                .endDate(Date.valueOf(endDate))
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.mybudget.component;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("트랜잭션 커밋 후 실행")
+class AfterCommitTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 없으면 바로 실행")
+    void run_withoutTransaction() {
+        //when
+        AfterCommit.run(executions::incrementAndGet);
+
+        //then
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 있으면 커밋된 뒤에 실행")
+    void run_afterCommit() {
+        //given
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when
+        AfterCommit.run(executions::incrementAndGet);
+
+        //then
+        assertThat(executions).hasValue(0);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("롤백되면 실행하지 않음")
+    void run_rollback() {
+        //given
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when
+        AfterCommit.run(executions::incrementAndGet);
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        //then
+        assertThat(executions).hasValue(0);
+    }
+}
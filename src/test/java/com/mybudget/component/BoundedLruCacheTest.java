@@ -0,0 +1,97 @@
+package com.mybudget.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("최대 크기 LRU 동시성 캐시")
+class BoundedLruCacheTest {
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목을 제거하고 제거 수를 알림")
+    void put_eviction() {
+        //given
+        AtomicInteger evictions = new AtomicInteger();
+        BoundedLruCache<String, Integer> cache = new BoundedLruCache<>(2, evictions::addAndGet);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        //when
+        cache.put("c", 3);
+
+        //then
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo(3);
+        assertThat(evictions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("현재 값이 같은 객체인 경우에만 제거")
+    void remove_value() {
+        //given
+        BoundedLruCache<String, String> cache = new BoundedLruCache<>(10);
+        String stale = new String("value");
+        cache.put("key", stale);
+        String fresh = new String("value");
+        cache.put("key", fresh);
+
+        //when
+        cache.remove("key", stale);
+
+        //then
+        assertThat(cache.get("key")).isSameAs(fresh);
+    }
+
+    @Test
+    @DisplayName("compute 결과가 null 이면 제거하고 현재 값과 같으면 유지")
+    void compute() {
+        //given
+        BoundedLruCache<String, Integer> cache = new BoundedLruCache<>(10);
+        cache.put("key", 1);
+
+        //when
+        //then
+        assertThat(cache.compute("key", (key, current) -> current)).isEqualTo(1);
+        assertThat(cache.compute("key", (key, current) -> current + 1)).isEqualTo(2);
+        assertThat(cache.compute("key", (key, current) -> null)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 저장, 조회해도 최대 크기를 유지")
+    void concurrent_bounded() throws Exception {
+        //given
+        int maxSize = 100;
+        BoundedLruCache<Integer, Integer> cache = new BoundedLruCache<>(maxSize);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            int offset = thread * 10000;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    cache.put(offset + i, i);
+                    cache.get(offset + i / 2);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        //then
+        assertThat(cache.size()).isLessThanOrEqualTo(maxSize);
+    }
+}
@@ -0,0 +1,285 @@
+package com.mybudget.component;
+
+import com.mybudget.domain.JobCheckpoint;
+import com.mybudget.repository.JobCheckpointRepository;
+import com.mybudget.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("청크 단위 작업 실행")
+class ChunkedJobRunnerTest {
+
+    private static final String JOB_NAME = "notifyTodayExpense";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PartitionLeaseManager partitionLeaseManager;
+
+    private ThreadPoolTaskExecutor jobExecutor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ChunkedJobRunner chunkedJobRunner;
+
+    // 저장된 파티션 체크포인트 (job_checkpoint 테이블 역할)
+    private final List<JobCheckpoint> checkpoints = new CopyOnWriteArrayList<>();
+
+    private final Date today = Date.valueOf(LocalDate.now());
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        jobExecutor = new ThreadPoolTaskExecutor();
+        jobExecutor.setCorePoolSize(2);
+        jobExecutor.setMaxPoolSize(2);
+        jobExecutor.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+
+        chunkedJobRunner = new ChunkedJobRunner(userRepository, jobCheckpointRepository,
+                transactionTemplate, jobExecutor, meterRegistry, partitionLeaseManager);
+        ReflectionTestUtils.setField(chunkedJobRunner, "chunkSize", 2);
+        ReflectionTestUtils.setField(chunkedJobRunner, "partitionsPerWorker", 1);
+        ReflectionTestUtils.setField(chunkedJobRunner, "leasePollIntervalMillis", 10L);
+        ReflectionTestUtils.setField(chunkedJobRunner, "maxAttempts", 2);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        when(jobCheckpointRepository.findByJobNameAndRunDateOrderByPartitionNo(JOB_NAME, today))
+                .thenAnswer(invocation -> new ArrayList<>(checkpoints));
+        when(jobCheckpointRepository.findById(any())).thenAnswer(invocation -> checkpoints.stream()
+                .filter(checkpoint -> Objects.equals(checkpoint.getId(), invocation.getArgument(0)))
+                .findFirst());
+        when(jobCheckpointRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jobCheckpointRepository.saveAll(any())).thenAnswer(invocation -> {
+            Iterable<JobCheckpoint> created = invocation.getArgument(0);
+            created.forEach(this::store);
+            return new ArrayList<>(checkpoints);
+        });
+        when(partitionLeaseManager.tryAcquire(any())).thenReturn(true);
+        when(partitionLeaseManager.renew(any())).thenReturn(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jobExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("성공 - 사용자 ID 범위 파티션, 청크 단위 병렬 처리")
+    void run_success() {
+        //given
+        // 사용자 ID 1 ~ 9 를 두 개의 파티션 [1, 5], [6, ∞) 으로 나눔
+        when(userRepository.findMinId()).thenReturn(1L);
+        when(userRepository.findMaxId()).thenReturn(9L);
+        when(userRepository.findIdsBetween(eq(0L), eq(5L), any())).thenReturn(Arrays.asList(1L, 2L));
+        when(userRepository.findIdsBetween(eq(2L), eq(5L), any())).thenReturn(Collections.singletonList(5L));
+        when(userRepository.findIdsBetween(eq(5L), eq(5L), any())).thenReturn(Collections.emptyList());
+        when(userRepository.findIdsBetween(eq(5L), eq(Long.MAX_VALUE), any())).thenReturn(Arrays.asList(7L, 9L));
+        when(userRepository.findIdsBetween(eq(9L), eq(Long.MAX_VALUE), any())).thenReturn(Collections.emptyList());
+
+        List<Long[]> chunks = Collections.synchronizedList(new ArrayList<>());
+
+        //when
+        chunkedJobRunner.run(JOB_NAME, today, (fromUserId, toUserId) ->
+                chunks.add(new Long[]{fromUserId, toUserId}));
+
+        //then
+        assertThat(chunks).containsExactlyInAnyOrder(
+                new Long[]{1L, 2L}, new Long[]{5L, 5L}, new Long[]{7L, 9L});
+        assertThat(meterRegistry.counter("job.partition.users",
+                "job", JOB_NAME, "partition", "0").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("job.partition.users",
+                "job", JOB_NAME, "partition", "1").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("성공 - 중단된 작업은 체크포인트부터 이어서 처리")
+    void run_resume() {
+        //given
+        // 0번 파티션은 완료, 1번 파티션은 사용자 ID 6 까지 처리된 상태
+        JobCheckpoint completed = JobCheckpoint.from(JOB_NAME, today, 0, 1L, 5L);
+        completed.setCompleted(true);
+        JobCheckpoint checkpoint = JobCheckpoint.from(JOB_NAME, today, 1, 6L, Long.MAX_VALUE);
+        checkpoint.setLastUserId(6L);
+        store(completed);
+        store(checkpoint);
+        when(userRepository.findIdsBetween(eq(6L), eq(Long.MAX_VALUE), any())).thenReturn(Arrays.asList(7L, 9L));
+        when(userRepository.findIdsBetween(eq(9L), eq(Long.MAX_VALUE), any())).thenReturn(Collections.emptyList());
+
+        List<Long[]> chunks = new ArrayList<>();
+
+        //when
+        chunkedJobRunner.run(JOB_NAME, today, (fromUserId, toUserId) ->
+                chunks.add(new Long[]{fromUserId, toUserId}));
+
+        //then
+        assertThat(chunks).containsExactly(new Long[]{7L, 9L});
+        assertThat(checkpoint.getLastUserId()).isEqualTo(9L);
+        assertThat(checkpoint.getCompleted()).isTrue();
+        verify(userRepository, never()).findIdsBetween(any(), eq(5L), any());
+        verify(userRepository, never()).findMinId();
+    }
+
+    @Test
+    @DisplayName("성공 - 이미 완료된 작업은 다시 실행하지 않음")
+    void run_completed() {
+        //given
+        JobCheckpoint checkpoint = JobCheckpoint.from(JOB_NAME, today, 0, 1L, Long.MAX_VALUE);
+        checkpoint.setCompleted(true);
+        store(checkpoint);
+
+        List<Long[]> chunks = new ArrayList<>();
+
+        //when
+        chunkedJobRunner.run(JOB_NAME, today, (fromUserId, toUserId) ->
+                chunks.add(new Long[]{fromUserId, toUserId}));
+
+        //then
+        assertThat(chunks).isEmpty();
+        verify(userRepository, never()).findIdsBetween(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("성공 - 다른 서버가 임대 중인 파티션은 처리하지 않음")
+    void run_leasedByOtherNode() {
+        //given
+        JobCheckpoint own = JobCheckpoint.from(JOB_NAME, today, 0, 1L, 5L);
+        JobCheckpoint others = JobCheckpoint.from(JOB_NAME, today, 1, 6L, Long.MAX_VALUE);
+        store(own);
+        store(others);
+        when(userRepository.findIdsBetween(eq(0L), eq(5L), any())).thenReturn(Arrays.asList(1L, 5L));
+        when(userRepository.findIdsBetween(eq(5L), eq(5L), any())).thenReturn(Collections.emptyList());
+        // 1번 파티션은 다른 서버가 임대 중이며, 대기하는 동안 그 서버가 완료함
+        when(partitionLeaseManager.tryAcquire(others)).thenAnswer(invocation -> {
+            others.setCompleted(true);
+            return false;
+        });
+
+        List<Long[]> chunks = Collections.synchronizedList(new ArrayList<>());
+
+        //when
+        chunkedJobRunner.run(JOB_NAME, today, (fromUserId, toUserId) ->
+                chunks.add(new Long[]{fromUserId, toUserId}));
+
+        //then
+        assertThat(chunks).containsExactly(new Long[]{1L, 5L});
+        assertThat(own.getCompleted()).isTrue();
+        verify(userRepository, never()).findIdsBetween(any(), eq(Long.MAX_VALUE), any());
+        verify(partitionLeaseManager).release(own);
+    }
+
+    @Test
+    @DisplayName("실패 - 임대가 만료되면 청크를 커밋하지 않고 멈춤")
+    void run_leaseLost() {
+        //given
+        JobCheckpoint checkpoint = JobCheckpoint.from(JOB_NAME, today, 0, 1L, Long.MAX_VALUE);
+        store(checkpoint);
+        when(userRepository.findIdsBetween(eq(0L), eq(Long.MAX_VALUE), any())).thenReturn(Arrays.asList(1L, 2L));
+        // 청크를 처리하는 사이 임대가 만료되어 다른 서버가 넘겨받아 완료함
+        when(partitionLeaseManager.renew(checkpoint)).thenAnswer(invocation -> {
+            checkpoint.setCompleted(true);
+            return false;
+        });
+
+        List<Long[]> chunks = new ArrayList<>();
+
+        //when
+        chunkedJobRunner.run(JOB_NAME, today, (fromUserId, toUserId) ->
+                chunks.add(new Long[]{fromUserId, toUserId}));
+
+        //then
+        assertThat(chunks).containsExactly(new Long[]{1L, 2L});
+        assertThat(checkpoint.getLastUserId()).isEqualTo(0L);
+        verify(jobCheckpointRepository, never()).save(checkpoint);
+    }
+
+    @Test
+    @DisplayName("성공 - 실패한 파티션은 체크포인트부터 다시 처리")
+    void run_retryFailedPartition() {
+        //given
+        JobCheckpoint checkpoint = JobCheckpoint.from(JOB_NAME, today, 0, 1L, Long.MAX_VALUE);
+        store(checkpoint);
+        when(userRepository.findIdsBetween(eq(0L), eq(Long.MAX_VALUE), any())).thenReturn(Arrays.asList(1L, 2L));
+        when(userRepository.findIdsBetween(eq(2L), eq(Long.MAX_VALUE), any())).thenReturn(Arrays.asList(3L, 4L));
+        when(userRepository.findIdsBetween(eq(4L), eq(Long.MAX_VALUE), any())).thenReturn(Collections.emptyList());
+
+        List<Long[]> chunks = new ArrayList<>();
+        AtomicBoolean failOnce = new AtomicBoolean(true);
+
+        //when
+        // 두 번째 청크가 한 번 실패
+        chunkedJobRunner.run(JOB_NAME, today, (fromUserId, toUserId) -> {
+            if (fromUserId == 3L && failOnce.getAndSet(false)) {
+                throw new IllegalStateException("청크 처리 실패");
+            }
+            chunks.add(new Long[]{fromUserId, toUserId});
+        });
+
+        //then
+        assertThat(chunks).containsExactly(new Long[]{1L, 2L}, new Long[]{3L, 4L});
+        assertThat(checkpoint.getCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패 - 최대 시도 횟수만큼 실패하면 작업을 멈춤")
+    void run_failedAttemptsExceeded() {
+        //given
+        JobCheckpoint checkpoint = JobCheckpoint.from(JOB_NAME, today, 0, 1L, Long.MAX_VALUE);
+        store(checkpoint);
+        when(userRepository.findIdsBetween(eq(0L), eq(Long.MAX_VALUE), any())).thenReturn(Arrays.asList(1L, 2L));
+
+        AtomicInteger attempts = new AtomicInteger();
+
+        //when
+        chunkedJobRunner.run(JOB_NAME, today, (fromUserId, toUserId) -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("청크 처리 실패");
+        });
+
+        //then
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(checkpoint.getCompleted()).isFalse();
+        assertThat(checkpoint.getLastUserId()).isEqualTo(0L);
+    }
+
+    private void store(JobCheckpoint checkpoint) {
+        ReflectionTestUtils.setField(checkpoint, "id", (long) checkpoints.size() + 1);
+        checkpoints.add(checkpoint);
+    }
+}
@@ -0,0 +1,120 @@
+package com.mybudget.component;
+
+import com.mybudget.config.JwtKeyRing;
+import com.mybudget.service.BudgetRecommendationService;
+import com.mybudget.service.ExpenseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("스케줄 작업")
+class CronSchedulerTest {
+
+    @Mock
+    private BudgetRecommendationService budgetRecommendationService;
+
+    @Mock
+    private ExpenseService expenseService;
+
+    @Mock
+    private ExpenseRatioSnapshot expenseRatioSnapshot;
+
+    @Mock
+    private ExpenseRatioSketch expenseRatioSketch;
+
+    @Mock
+    private ChunkedJobRunner chunkedJobRunner;
+
+    @Mock
+    private JwtKeyRing jwtKeyRing;
+
+    @Mock
+    private RevokedTokenFilter revokedTokenFilter;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private PartitionLeaseManager partitionLeaseManager;
+
+    private CronScheduler cronScheduler;
+
+    private final Date today = Date.valueOf(LocalDate.now());
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        cronScheduler = new CronScheduler(budgetRecommendationService, expenseService, expenseRatioSnapshot,
+                expenseRatioSketch, chunkedJobRunner, jwtKeyRing, revokedTokenFilter, taskScheduler,
+                partitionLeaseManager);
+    }
+
+    @Test
+    @DisplayName("성공 - 미완료 작업은 스케줄러 스레드에서 이어서 실행하고 리스너는 바로 반환")
+    void resumeIncompleteJobs() {
+        //given
+        when(chunkedJobRunner.getIncompleteJobNames(today))
+                .thenReturn(Collections.singletonList("notifyTodayExpense"));
+
+        //when
+        cronScheduler.resumeIncompleteJobs();
+
+        //then
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).execute(task.capture());
+        verify(chunkedJobRunner, never()).run(any(), any(), any());
+
+        task.getValue().run();
+        verify(chunkedJobRunner).run(eq("notifyTodayExpense"), eq(today), any());
+    }
+
+    @Test
+    @DisplayName("성공 - 실행 임대를 얻은 서버만 한 번 실행하는 작업을 실행")
+    void runOnce_leaseAcquired() {
+        //given
+        when(partitionLeaseManager.tryAcquireRun("rotateJwtSigningKey", today)).thenReturn(true);
+        when(partitionLeaseManager.tryAcquireRun("reconcileBudgetCategoryTotals", today)).thenReturn(true);
+        when(partitionLeaseManager.tryAcquireRun("calculateAndSaveCategoryRatio", today)).thenReturn(true);
+
+        //when
+        cronScheduler.rotateJwtSigningKey();
+        cronScheduler.reconcileBudgetCategoryTotals();
+        cronScheduler.calculateAndSaveCategoryRatio();
+
+        //then
+        verify(jwtKeyRing).rotate();
+        verify(budgetRecommendationService).reconcileCategoryTotals();
+        verify(budgetRecommendationService).setRatiosPerBudgets();
+    }
+
+    @Test
+    @DisplayName("성공 - 다른 서버가 실행 임대를 얻은 작업은 실행하지 않음")
+    void runOnce_leaseTaken() {
+        //given
+        when(partitionLeaseManager.tryAcquireRun(any(), any())).thenReturn(false);
+
+        //when
+        cronScheduler.rotateJwtSigningKey();
+        cronScheduler.reconcileBudgetCategoryTotals();
+        cronScheduler.calculateAndSaveCategoryRatio();
+
+        //then
+        verify(jwtKeyRing, never()).rotate();
+        verify(budgetRecommendationService, never()).reconcileCategoryTotals();
+        verify(budgetRecommendationService, never()).setRatiosPerBudgets();
+    }
+}
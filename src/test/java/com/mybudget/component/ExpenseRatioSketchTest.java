@@ -0,0 +1,176 @@
+package com.mybudget.component;
+
+import com.mybudget.dto.ExpenseRatioSummaryDto;
+import com.mybudget.dto.UserCategoryRatioDto;
+import com.mybudget.repository.ExpenseRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static com.mybudget.enums.Categories.FOOD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("지출 비율 분포 스케치")
+class ExpenseRatioSketchTest {
+
+    @Container
+    private static final GenericContainer<?> redis =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private static StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    private ExpenseRatioSketch expenseRatioSketch;
+
+    private final Date today = Date.valueOf(LocalDate.now());
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+        expenseRatioSketch = new ExpenseRatioSketch(redisTemplate, expenseRepository);
+    }
+
+    @Test
+    @DisplayName("성공 - 사용자별 평균 분포로 백분위 계산")
+    void percentileRank() {
+        //given
+        for (long userId = 1; userId <= 100; userId++) {
+            expenseRatioSketch.record(today, FOOD, userId, (double) userId);
+        }
+        expenseRatioSketch.flush();
+
+        //when
+        Double percentile = expenseRatioSketch.percentileRank(today, FOOD, 1000L, 25.0);
+
+        //then
+        assertThat(percentile).isBetween(23.0, 26.0);
+    }
+
+    @Test
+    @DisplayName("성공 - 평균이 바뀐 사용자는 이전 구간에서 새 구간으로 옮김")
+    void percentileRank_moved() {
+        //given
+        expenseRatioSketch.record(today, FOOD, 1L, 10.0);
+        expenseRatioSketch.flush();
+        expenseRatioSketch.record(today, FOOD, 1L, 90.0);
+        expenseRatioSketch.record(today, FOOD, 2L, 10.0);
+        expenseRatioSketch.flush();
+
+        //when
+        Double percentile = expenseRatioSketch.percentileRank(today, FOOD, 3L, 50.0);
+
+        //then
+        assertThat(percentile).isEqualTo(50.0);
+    }
+
+    @Test
+    @DisplayName("성공 - 본인의 평균은 분포에서 제외")
+    void percentileRank_excludes_caller() {
+        //given
+        expenseRatioSketch.record(today, FOOD, 1L, 10.0);
+        expenseRatioSketch.record(today, FOOD, 2L, 90.0);
+        expenseRatioSketch.flush();
+
+        //when
+        Double percentile = expenseRatioSketch.percentileRank(today, FOOD, 1L, 10.0);
+
+        //then
+        assertThat(percentile).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("성공 - 지출이 없어진 사용자는 분포에서 제거")
+    void refresh_removed() {
+        //given
+        expenseRatioSketch.record(today, FOOD, 1L, 10.0);
+        expenseRatioSketch.flush();
+        when(expenseRepository.getExpenseRatioSummaryOfUserByCategory(1L, today, FOOD))
+                .thenReturn(ExpenseRatioSummaryDto.builder().expenseDate(today).ratioSum(0.0).count(0L).build());
+
+        //when
+        expenseRatioSketch.refresh(today, FOOD, 1L);
+        expenseRatioSketch.flush();
+
+        //then
+        assertThat(expenseRatioSketch.percentileRank(today, FOOD, 2L, 50.0)).isNull();
+    }
+
+    @Test
+    @DisplayName("성공 - 시작 시 적재는 여러 서버가 실행해도 사용자마다 한 번만 반영")
+    void load_idempotent() {
+        //given
+        when(expenseRepository.getExpenseRatioAveragesPerUserAndCategory(today)).thenReturn(Arrays.asList(
+                new UserCategoryRatioDto(1L, FOOD, 10.0),
+                new UserCategoryRatioDto(2L, FOOD, 90.0)));
+        ExpenseRatioSketch otherNode = new ExpenseRatioSketch(redisTemplate, expenseRepository);
+
+        //when
+        expenseRatioSketch.load(today);
+        otherNode.load(today);
+
+        //then
+        assertThat(expenseRatioSketch.percentileRank(today, FOOD, 3L, 50.0)).isEqualTo(50.0);
+    }
+
+    @Test
+    @DisplayName("성공 - Redis 반영에 실패한 변경분은 다음 반영 때 다시 시도")
+    @SuppressWarnings("unchecked")
+    void flush_retry_after_failure() {
+        //given
+        StringRedisTemplate failingTemplate = mock(StringRedisTemplate.class);
+        doThrow(new RedisConnectionFailureException("down"))
+                .doReturn(1L)
+                .when(failingTemplate).execute(any(RedisScript.class), anyList(), any());
+        ExpenseRatioSketch sketch = new ExpenseRatioSketch(failingTemplate, expenseRepository);
+        sketch.record(today, FOOD, 1L, 10.0);
+
+        //when
+        sketch.flush();
+        sketch.flush();
+        sketch.flush();
+
+        //then
+        verify(failingTemplate, times(2)).execute(any(RedisScript.class), anyList(), any());
+    }
+}
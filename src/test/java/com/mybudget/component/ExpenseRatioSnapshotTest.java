@@ -0,0 +1,121 @@
+package com.mybudget.component;
+
+import com.mybudget.dto.ExpenseRatioSummaryDto;
+import com.mybudget.repository.ExpenseRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("지출 비율 스냅샷")
+class ExpenseRatioSnapshotTest {
+
+    @Container
+    private static final GenericContainer<?> redis =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private static StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    // 같은 스냅샷을 공유하는 두 서버
+    private ExpenseRatioSnapshot node1;
+
+    private ExpenseRatioSnapshot node2;
+
+    private final Date today = Date.valueOf(LocalDate.now());
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+        when(expenseRepository.getExpenseRatioSummary(today)).thenReturn(ExpenseRatioSummaryDto.builder()
+                .expenseDate(today)
+                .ratioSum(300.0)
+                .count(3L)
+                .build());
+
+        node1 = snapshot();
+        node2 = snapshot();
+    }
+
+    @Test
+    @DisplayName("성공 - 갱신 주기 안에는 한 서버만 집계하고 다른 서버는 Redis 의 스냅샷 사용")
+    void refresh_once_per_interval() {
+        //when
+        node1.refresh(today);
+        node2.refresh(today);
+
+        //then
+        verify(expenseRepository, times(1)).getExpenseRatioSummary(today);
+        assertThat(node2.get(today, 1L)).hasValueSatisfying(summary ->
+                assertThat(summary.getRatioSum()).isEqualTo(300.0));
+    }
+
+    @Test
+    @DisplayName("성공 - 스냅샷 갱신 이전의 지출 변경은 스냅샷에 포함")
+    void get_written_before_refresh() {
+        //given
+        node2.markWritten(today, 1L);
+
+        //when
+        node1.refresh(today);
+
+        //then
+        assertThat(node2.get(today, 1L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("실패 - 스냅샷 갱신 이후 다른 서버에서 지출을 변경한 사용자에게는 스냅샷을 사용하지 않음")
+    void get_written_after_refresh() {
+        //given
+        node1.refresh(today);
+
+        //when
+        node2.markWritten(today, 1L);
+
+        //then
+        assertThat(node1.get(today, 1L)).isEmpty();
+        assertThat(node1.get(today, 2L)).isPresent();
+    }
+
+    private ExpenseRatioSnapshot snapshot() {
+        ExpenseRatioSnapshot snapshot = new ExpenseRatioSnapshot(expenseRepository, redisTemplate);
+        ReflectionTestUtils.setField(snapshot, "refreshIntervalMillis", 60000L);
+        return snapshot;
+    }
+}
@@ -0,0 +1,117 @@
+package com.mybudget.component;
+
+import com.mybudget.domain.JobCheckpoint;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("파티션 Redis 임대")
+class PartitionLeaseManagerTest {
+
+    @Container
+    private static final GenericContainer<?> redis =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static final long LEASE_TTL_MILLIS = 500;
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private static StringRedisTemplate redisTemplate;
+
+    // 같은 파티션을 두고 경쟁하는 두 서버
+    private PartitionLeaseManager node1;
+
+    private PartitionLeaseManager node2;
+
+    private final JobCheckpoint partition =
+            JobCheckpoint.from("notifyTodayExpense", Date.valueOf(LocalDate.now()), 0, 1L, Long.MAX_VALUE);
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+        node1 = leaseManager();
+        node2 = leaseManager();
+    }
+
+    @Test
+    @DisplayName("성공 - 한 서버만 임대를 얻음")
+    void tryAcquire_exclusive() {
+        assertThat(node1.tryAcquire(partition)).isTrue();
+        assertThat(node2.tryAcquire(partition)).isFalse();
+        assertThat(node1.tryAcquire(partition)).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공 - 소유 서버만 임대를 연장, 반납")
+    void renewAndRelease_ownerOnly() {
+        node1.tryAcquire(partition);
+
+        assertThat(node2.renew(partition)).isFalse();
+        node2.release(partition);
+        assertThat(node2.tryAcquire(partition)).isFalse();
+
+        assertThat(node1.renew(partition)).isTrue();
+        node1.release(partition);
+        assertThat(node2.tryAcquire(partition)).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공 - 죽은 서버의 임대는 만료 후 다른 서버가 넘겨받음")
+    void tryAcquire_afterExpiry() throws InterruptedException {
+        node1.tryAcquire(partition);
+
+        Thread.sleep(LEASE_TTL_MILLIS * 2);
+
+        assertThat(node2.tryAcquire(partition)).isTrue();
+        // 넘겨받은 뒤에는 이전 서버가 연장할 수 없음
+        assertThat(node1.renew(partition)).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공 - 실행 임대는 실행일마다 한 서버만 얻고 반납하지 않음")
+    void tryAcquireRun_oncePerRunDate() {
+        Date today = Date.valueOf(LocalDate.now());
+
+        assertThat(node1.tryAcquireRun("rotateJwtSigningKey", today)).isTrue();
+        assertThat(node2.tryAcquireRun("rotateJwtSigningKey", today)).isFalse();
+        assertThat(node1.tryAcquireRun("rotateJwtSigningKey", today)).isFalse();
+
+        // 다른 실행일, 다른 작업은 따로 얻음
+        assertThat(node2.tryAcquireRun("rotateJwtSigningKey", Date.valueOf(LocalDate.now().plusDays(7)))).isTrue();
+        assertThat(node2.tryAcquireRun("reconcileBudgetCategoryTotals", today)).isTrue();
+    }
+
+    private PartitionLeaseManager leaseManager() {
+        PartitionLeaseManager leaseManager = new PartitionLeaseManager(redisTemplate);
+        ReflectionTestUtils.setField(leaseManager, "leaseTtlMillis", LEASE_TTL_MILLIS);
+        ReflectionTestUtils.setField(leaseManager, "runLeaseTtlMillis", 60000L);
+        return leaseManager;
+    }
+}
@@ -0,0 +1,108 @@
+package com.mybudget.component;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("폐기된 토큰 목록")
+class RevokedTokenFilterTest {
+
+    @Container
+    private static final GenericContainer<?> redis =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private static StringRedisTemplate redisTemplate;
+
+    // 같은 Redis 를 사용하는 두 서버
+    private RevokedTokenFilter node1;
+
+    private RevokedTokenFilter node2;
+
+    private final Date oneHourLater = new Date(System.currentTimeMillis() + 60 * 60 * 1000L);
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+        node1 = new RevokedTokenFilter(redisTemplate, 1000, 0.01, 60 * 60 * 1000L);
+        node2 = new RevokedTokenFilter(redisTemplate, 1000, 0.01, 60 * 60 * 1000L);
+        node1.sync();
+        node2.sync();
+    }
+
+    @Test
+    @DisplayName("성공 - 폐기한 서버에서는 바로 폐기됨")
+    void revoke_local() {
+        node1.revoke("revoked-jti", oneHourLater);
+
+        assertThat(node1.isRevoked("revoked-jti")).isTrue();
+        assertThat(node1.isRevoked("other-jti")).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공 - 다른 서버는 동기화 후 폐기됨")
+    void revoke_sync() {
+        node1.revoke("revoked-jti", oneHourLater);
+
+        assertThat(node2.isRevoked("revoked-jti")).isFalse();
+        node2.sync();
+        assertThat(node2.isRevoked("revoked-jti")).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공 - 만료된 토큰은 재구성 시 목록에서 제거")
+    void sync_removeExpired() {
+        RevokedTokenFilter rebuildingNode = new RevokedTokenFilter(redisTemplate, 1000, 0.01, 0);
+        rebuildingNode.revoke("expired-jti", new Date(System.currentTimeMillis() - 1));
+
+        rebuildingNode.sync();
+
+        assertThat(rebuildingNode.isRevoked("expired-jti")).isFalse();
+        assertThat(redisTemplate.opsForZSet().size("jwt:revoked")).isZero();
+    }
+
+    @Test
+    @DisplayName("성공 - 폐기하지 않은 토큰은 오탐률 이내로만 Bloom filter 에 있음")
+    void bloomFilter_falsePositiveRate() {
+        RevokedTokenFilter.BloomFilter bloomFilter = new RevokedTokenFilter.BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            bloomFilter.put("revoked-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            assertThat(bloomFilter.mightContain("revoked-" + (i % 1000))).isTrue();
+            if (bloomFilter.mightContain("valid-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
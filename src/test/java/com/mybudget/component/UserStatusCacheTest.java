@@ -0,0 +1,95 @@
+package com.mybudget.component;
+
+import com.mybudget.enums.UserStatus;
+import com.mybudget.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("사용자 상태 캐시")
+class UserStatusCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        when(userRepository.findUserStatusById(1L)).thenReturn(Optional.of(UserStatus.ACTIVE));
+        when(userRepository.findUserStatusById(2L)).thenReturn(Optional.empty());
+        when(userRepository.findUserStatusById(3L)).thenReturn(Optional.of(UserStatus.ACTIVE));
+    }
+
+    @Test
+    @DisplayName("만료 전에는 캐시된 상태 사용")
+    void getUserStatus_cached() {
+        //given
+        UserStatusCache userStatusCache = new UserStatusCache(userRepository, 60000, 100);
+
+        //when
+        userStatusCache.getUserStatus(1L);
+        Optional<UserStatus> userStatus = userStatusCache.getUserStatus(1L);
+
+        //then
+        assertThat(userStatus).contains(UserStatus.ACTIVE);
+        verify(userRepository, times(1)).findUserStatusById(1L);
+    }
+
+    @Test
+    @DisplayName("만료 후에는 다시 조회하여 변경된 상태 반영")
+    void getUserStatus_expired() {
+        //given
+        UserStatusCache userStatusCache = new UserStatusCache(userRepository, 0, 100);
+        userStatusCache.getUserStatus(1L);
+        when(userRepository.findUserStatusById(1L)).thenReturn(Optional.of(UserStatus.DELETED));
+
+        //when
+        Optional<UserStatus> userStatus = userStatusCache.getUserStatus(1L);
+
+        //then
+        assertThat(userStatus).contains(UserStatus.DELETED);
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 빈 값")
+    void getUserStatus_not_found() {
+        //given
+        UserStatusCache userStatusCache = new UserStatusCache(userRepository, 60000, 100);
+
+        //when
+        Optional<UserStatus> userStatus = userStatusCache.getUserStatus(2L);
+
+        //then
+        assertThat(userStatus).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 조회되지 않은 사용자를 제거하고 새 사용자는 캐시")
+    void getUserStatus_evicts_least_recently_used() {
+        //given
+        UserStatusCache userStatusCache = new UserStatusCache(userRepository, 60000, 2);
+        userStatusCache.getUserStatus(1L);
+        userStatusCache.getUserStatus(2L);
+        userStatusCache.getUserStatus(1L);
+
+        //when
+        userStatusCache.getUserStatus(3L);
+        userStatusCache.getUserStatus(3L);
+        userStatusCache.getUserStatus(1L);
+        userStatusCache.getUserStatus(2L);
+
+        //then
+        verify(userRepository, times(1)).findUserStatusById(3L);
+        verify(userRepository, times(1)).findUserStatusById(1L);
+        verify(userRepository, times(2)).findUserStatusById(2L);
+    }
+}
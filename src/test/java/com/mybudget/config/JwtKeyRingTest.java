@@ -0,0 +1,107 @@
+package com.mybudget.config;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.crypto.SecretKey;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("JWT 서명 키 목록")
+class JwtKeyRingTest {
+
+    @Container
+    private static final GenericContainer<?> redis =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Test
+    @DisplayName("성공 - 모든 서버가 같은 서명 키를 사용")
+    void init_sharedKey() {
+        JwtKeyRing node1 = keyRing("", "");
+        JwtKeyRing node2 = keyRing("", "");
+
+        assertThat(node2.getActiveKid()).isEqualTo(node1.getActiveKid());
+        assertThat(node2.getKey(node1.getActiveKid())).isEqualTo(node1.getActiveKey());
+    }
+
+    @Test
+    @DisplayName("성공 - 다른 서버가 교체한 키는 처음 보는 kid 로 다시 로드")
+    void getKey_reloadUnknownKid() {
+        JwtKeyRing node1 = keyRing("", "");
+        JwtKeyRing node2 = keyRing("", "");
+        SecretKey newKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+
+        // node2 가 교체를 전파받지 못한 상황
+        redisTemplate.opsForHash().put("jwt:keys", "29991231",
+                Base64.getEncoder().encodeToString(newKey.getEncoded()));
+        redisTemplate.opsForValue().set("jwt:active-kid", "29991231");
+
+        assertThat(node2.getKey("29991231")).isEqualTo(newKey);
+        assertThat(node2.getActiveKid()).isEqualTo("29991231");
+        // 이전 키는 검증용으로 남아 있음
+        assertThat(node2.getKey(node1.getActiveKid())).isEqualTo(node1.getActiveKey());
+        assertThat(node2.getKey("unknown")).isNull();
+    }
+
+    @Test
+    @DisplayName("성공 - 설정된 키는 Redis 없이 사용하고 교체하지 않음")
+    void init_configuredKeys() {
+        SecretKey oldKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        SecretKey activeKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        String configuredKeys = "old:" + Base64.getEncoder().encodeToString(oldKey.getEncoded())
+                + ",active:" + Base64.getEncoder().encodeToString(activeKey.getEncoded());
+
+        JwtKeyRing keyRing = keyRing(configuredKeys, "active");
+        keyRing.rotate();
+
+        assertThat(keyRing.getActiveKid()).isEqualTo("active");
+        assertThat(keyRing.getActiveKey()).isEqualTo(activeKey);
+        assertThat(keyRing.getKey("old")).isEqualTo(oldKey);
+        assertThat(redisTemplate.hasKey("jwt:keys")).isFalse();
+    }
+
+    private JwtKeyRing keyRing(String configuredKeys, String configuredActiveKid) {
+        JwtKeyRing keyRing = new JwtKeyRing(redisTemplate);
+        ReflectionTestUtils.setField(keyRing, "configuredKeys", configuredKeys);
+        ReflectionTestUtils.setField(keyRing, "configuredActiveKid", configuredActiveKid);
+        ReflectionTestUtils.setField(keyRing, "keyRetentionDays", 14L);
+        ReflectionTestUtils.setField(keyRing, "keyReloadIntervalMillis", 0L);
+        keyRing.init();
+        return keyRing;
+    }
+}
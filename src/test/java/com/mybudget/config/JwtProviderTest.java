@@ -0,0 +1,165 @@
+package com.mybudget.config;
+
+import com.mybudget.component.RevokedTokenFilter;
+import com.mybudget.component.UserStatusCache;
+import com.mybudget.dto.TokenIssuanceDto;
+import com.mybudget.enums.UserStatus;
+import com.mybudget.exception.CustomException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.Optional;
+
+import static com.mybudget.exception.ErrorCode.INVALID_TOKEN;
+import static com.mybudget.exception.ErrorCode.USER_INFO_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("JWT 인증")
+class JwtProviderTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private UserStatusCache userStatusCache;
+
+    @Mock
+    private JwtKeyRing jwtKeyRing;
+
+    @Mock
+    private RevokedTokenFilter revokedTokenFilter;
+
+    private JwtProvider jwtProvider;
+
+    private final SecretKey key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+
+    private final TokenIssuanceDto tokenIssuanceDto = TokenIssuanceDto.builder()
+            .id(1L)
+            .email("email@test.com")
+            .userRole(UserRole.ROLE_USER)
+            .build();
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        when(jwtKeyRing.getActiveKid()).thenReturn("k1");
+        when(jwtKeyRing.getKey("k1")).thenReturn(key);
+        when(userStatusCache.getUserStatus(1L)).thenReturn(Optional.of(UserStatus.ACTIVE));
+
+        jwtProvider = jwtProvider(true);
+    }
+
+    @Test
+    @DisplayName("성공 - 토큰의 클레임으로 인증 주체를 만들고 사용자는 조회하지 않음")
+    void getAuthentication_stateless() {
+        //given
+        String accessToken = jwtProvider.issueAccessToken(tokenIssuanceDto);
+
+        //when
+        Authentication authentication = jwtProvider.getAuthentication("Bearer " + accessToken);
+
+        //then
+        JwtPrincipal principal = (JwtPrincipal) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getEmail()).isEqualTo("email@test.com");
+        assertThat(principal.getUserRole()).isEqualTo(UserRole.ROLE_USER);
+        assertThat(principal.getTokenId()).isNotNull();
+        assertThat(principal.getExpiration()).isInTheFuture();
+        assertThat(authentication.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("USER");
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("실패 - 탈퇴한 사용자의 토큰")
+    void getAuthentication_stateless_deleted() {
+        //given
+        String accessToken = jwtProvider.issueAccessToken(tokenIssuanceDto);
+        when(userStatusCache.getUserStatus(1L)).thenReturn(Optional.of(UserStatus.DELETED));
+
+        //when
+        //then
+        assertThatThrownBy(() -> jwtProvider.getAuthentication(accessToken))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(USER_INFO_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("성공 - stateless 인증을 끄면 사용자를 조회하고 인증 주체는 그대로 사용")
+    void getAuthentication_userDetails() {
+        //given
+        jwtProvider = jwtProvider(false);
+        String accessToken = jwtProvider.issueAccessToken(tokenIssuanceDto);
+        when(userDetailsService.loadUserByUsername("email@test.com"))
+                .thenReturn(User.builder()
+                        .username("email@test.com")
+                        .password("password")
+                        .authorities(UserRole.ROLE_USER.getAuthorities())
+                        .build());
+
+        //when
+        Authentication authentication = jwtProvider.getAuthentication(accessToken);
+
+        //then
+        assertThat(authentication.getPrincipal()).isInstanceOf(JwtPrincipal.class);
+        assertThat(((JwtPrincipal) authentication.getPrincipal()).getId()).isEqualTo(1L);
+        verify(userDetailsService).loadUserByUsername("email@test.com");
+        verify(userStatusCache, never()).getUserStatus(any());
+    }
+
+    @Test
+    @DisplayName("실패 - 리프레시 토큰으로는 인증할 수 없음")
+    void getAuthentication_refreshToken() {
+        //given
+        String refreshToken = jwtProvider.issueRefreshToken(1L);
+
+        //when
+        //then
+        assertThatThrownBy(() -> jwtProvider.getAuthentication(refreshToken))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(INVALID_TOKEN.getMessage());
+    }
+
+    @Test
+    @DisplayName("실패 - 검증 캐시에 있는 토큰도 폐기되면 거부")
+    void getAuthentication_revoked() {
+        //given
+        String accessToken = jwtProvider.issueAccessToken(tokenIssuanceDto);
+        String tokenId = ((JwtPrincipal) jwtProvider.getAuthentication(accessToken).getPrincipal()).getTokenId();
+        when(revokedTokenFilter.isRevoked(tokenId)).thenReturn(true);
+
+        //when
+        //then
+        assertThatThrownBy(() -> jwtProvider.getAuthentication(accessToken))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(INVALID_TOKEN.getMessage());
+    }
+
+    private JwtProvider jwtProvider(boolean statelessAuthentication) {
+        JwtProvider provider =
+                new JwtProvider(userDetailsService, userStatusCache, jwtKeyRing, revokedTokenFilter);
+        ReflectionTestUtils.setField(provider, "issuer", "test");
+        ReflectionTestUtils.setField(provider, "statelessAuthentication", statelessAuthentication);
+        ReflectionTestUtils.setField(provider, "verifiedTokenCacheMaxSize", 100);
+        provider.init();
+        return provider;
+    }
+}
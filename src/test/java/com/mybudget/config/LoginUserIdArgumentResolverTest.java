@@ -0,0 +1,106 @@
+package com.mybudget.config;
+
+import com.mybudget.exception.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Date;
+
+import static com.mybudget.exception.ErrorCode.INVALID_TOKEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("로그인 사용자 ID 리졸버")
+class LoginUserIdArgumentResolverTest {
+
+    private final LoginUserIdArgumentResolver resolver = new LoginUserIdArgumentResolver();
+
+    private final JwtPrincipal principal = new JwtPrincipal(
+            1L, "email@test.com", UserRole.ROLE_USER, "jti", new Date(System.currentTimeMillis() + 60 * 1000L));
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("@LoginUserId 가 붙은 Long 파라미터만 지원")
+    void supportsParameter() throws NoSuchMethodException {
+        //given
+        MethodParameter userId = parameter(0);
+        MethodParameter budgetId = parameter(1);
+
+        //when
+        //then
+        assertThat(resolver.supportsParameter(userId)).isTrue();
+        assertThat(resolver.supportsParameter(budgetId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공 - 토큰의 클레임으로 인증한 경우 (stateless)")
+    void resolveArgument_stateless() throws NoSuchMethodException {
+        //given
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                principal, "", principal.getUserRole().getAuthorities()));
+
+        //when
+        Object userId = resolver.resolveArgument(parameter(0), null, null, null);
+
+        //then
+        assertThat(userId).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("성공 - 사용자를 조회하여 인증한 경우")
+    void resolveArgument_userDetails() throws NoSuchMethodException {
+        //given
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                principal, "", AuthorityUtils.createAuthorityList("USER")));
+
+        //when
+        Object userId = resolver.resolveArgument(parameter(0), null, null, null);
+
+        //then
+        assertThat(userId).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("실패 - 인증되지 않은 요청")
+    void resolveArgument_unauthenticated() {
+        //given
+        //when
+        //then
+        assertThatThrownBy(() -> resolver.resolveArgument(parameter(0), null, null, null))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(INVALID_TOKEN.getMessage());
+    }
+
+    @Test
+    @DisplayName("실패 - 익명 사용자")
+    void resolveArgument_anonymous() {
+        //given
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+                "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+        //when
+        //then
+        assertThatThrownBy(() -> resolver.resolveArgument(parameter(0), null, null, null))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(INVALID_TOKEN.getMessage());
+    }
+
+    private MethodParameter parameter(int index) throws NoSuchMethodException {
+        return new MethodParameter(
+                LoginUserIdArgumentResolverTest.class.getDeclaredMethod("handler", Long.class, Long.class), index);
+    }
+
+    @SuppressWarnings("unused")
+    private void handler(@LoginUserId Long userId, Long budgetId) {
+    }
+}
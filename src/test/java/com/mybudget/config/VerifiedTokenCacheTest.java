@@ -0,0 +1,63 @@
+package com.mybudget.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("검증된 토큰 캐시")
+class VerifiedTokenCacheTest {
+
+    private final JwtPrincipal principal = new JwtPrincipal(1L, "email@test.com", UserRole.ROLE_USER, "jti", null);
+
+    private final Date oneHourLater = new Date(System.currentTimeMillis() + 60 * 60 * 1000L);
+
+    @Test
+    @DisplayName("만료 전에는 저장한 인증 주체 반환")
+    void get_cached() {
+        //given
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(10);
+        verifiedTokenCache.put("token", principal, oneHourLater);
+
+        //when
+        JwtPrincipal cached = verifiedTokenCache.get("token");
+
+        //then
+        assertThat(cached).isSameAs(principal);
+        assertThat(verifiedTokenCache.get("other-token")).isNull();
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 지나면 반환하지 않음")
+    void get_expired() {
+        //given
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(10);
+        verifiedTokenCache.put("token", principal, new Date(System.currentTimeMillis() - 1));
+
+        //when
+        JwtPrincipal cached = verifiedTokenCache.get("token");
+
+        //then
+        assertThat(cached).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 토큰 제거")
+    void put_eviction() {
+        //given
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(2);
+        verifiedTokenCache.put("token1", principal, oneHourLater);
+        verifiedTokenCache.put("token2", principal, oneHourLater);
+        verifiedTokenCache.get("token1");
+
+        //when
+        verifiedTokenCache.put("token3", principal, oneHourLater);
+
+        //then
+        assertThat(verifiedTokenCache.get("token1")).isNotNull();
+        assertThat(verifiedTokenCache.get("token2")).isNull();
+        assertThat(verifiedTokenCache.get("token3")).isNotNull();
+    }
+}
@@ -0,0 +1,309 @@
+package com.mybudget.repository;
+
+import com.mybudget.dto.ExpenseCursorDto;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * QueryDSL 이 실제로 생성한 지출 쿼리의 실행 계획 테스트
+ * 리포지토리 메서드를 Hibernate 로 실행하면서 JDBC 로 보낸 SQL 과 바인딩한 파라미터를 기록하고,
+ * 같은 SQL 과 파라미터로 EXPLAIN 하여 인덱스를 사용하는지 확인합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("지출 쿼리 실행 계획 테스트")
+class ExpenseQueryPlanTest {
+
+    @Container
+    private static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    private static final int USER_COUNT = 20;
+    private static final int EXPENSES_PER_USER = 365;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2023, 1, 1);
+
+    private static final BigDecimal MINIMUM_AMOUNT = BigDecimal.ZERO;
+    private static final BigDecimal MAXIMUM_AMOUNT = BigDecimal.valueOf(1000000000);
+
+    private static final List<CapturedStatement> capturedStatements = new ArrayList<>();
+
+    private static Connection connection;
+
+    private static EntityManagerFactory entityManagerFactory;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword())
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(
+                mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO `user` (email, user_role, user_status) VALUES (?, 'ROLE_USER', 'ACTIVE')")) {
+            for (int i = 1; i <= USER_COUNT; i++) {
+                statement.setString(1, "user" + i + "@test.com");
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+
+        Random random = new Random(0);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO expense (user_id, category, amount, expense_date, day_of_week, " +
+                        "expense_ratio, excluding) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (long userId = 1; userId <= USER_COUNT; userId++) {
+                for (int day = 0; day < EXPENSES_PER_USER; day++) {
+                    LocalDate expenseDate = FIRST_DATE.plusDays(day);
+                    statement.setLong(1, userId);
+                    statement.setInt(2, random.nextInt(6));
+                    statement.setBigDecimal(3, BigDecimal.valueOf(random.nextInt(100000)));
+                    statement.setDate(4, Date.valueOf(expenseDate));
+                    statement.setString(5, expenseDate.getDayOfWeek().name());
+                    statement.setDouble(6, random.nextInt(100));
+                    statement.setBoolean(7, random.nextInt(10) == 0);
+                    statement.addBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE expense");
+        }
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(new RecordingDataSource(new DriverManagerDataSource(
+                mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword())));
+        factoryBean.setPackagesToScan("com.mybudget.domain");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        // 애플리케이션과 같은 테이블, 컬럼 이름을 사용하도록 Spring Boot 의 이름 전략 지정
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        entityManagerFactory.close();
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("지출 목록 - 페이지")
+    void explain_expense_page() throws SQLException {
+        List<CapturedStatement> statements = capture(repository -> repository.getExpenseListByPeriod(
+                1L, Date.valueOf("2023-03-01"), Date.valueOf("2023-03-31"), null,
+                MINIMUM_AMOUNT, MAXIMUM_AMOUNT, PageRequest.of(1, 5)));
+
+        // 카테고리별 합계 쿼리와 목록 쿼리
+        assertThat(statements).hasSize(2);
+        assertIndexScan(statements.get(0), "idx_expense_user_date_summary");
+        assertIndexScan(statements.get(1), "idx_expense_user_date", "idx_expense_user_date_summary");
+    }
+
+    @Test
+    @DisplayName("지출 목록 - 커서")
+    void explain_expense_cursor() throws SQLException {
+        List<CapturedStatement> statements = capture(repository -> repository.getExpenseListByPeriodAfterCursor(
+                1L, Date.valueOf("2023-03-01"), Date.valueOf("2023-03-31"), null,
+                MINIMUM_AMOUNT, MAXIMUM_AMOUNT, new ExpenseCursorDto(Date.valueOf("2023-03-20"), 100L), 5));
+
+        // 커서 페이지는 seek 쿼리만 실행
+        assertThat(statements).hasSize(1);
+        assertIndexScan(statements.get(0), "idx_expense_user_date", "idx_expense_user_date_summary");
+    }
+
+    @Test
+    @DisplayName("사용자 지출 비율 합계")
+    void explain_expense_ratio_summary_of_user() throws SQLException {
+        List<CapturedStatement> statements = capture(repository -> repository.getExpenseRatioSummaryOfUser(
+                1L, Date.valueOf("2023-03-01")));
+
+        assertThat(statements).hasSize(1);
+        assertIndexScan(statements.get(0), "idx_expense_user_date", "idx_expense_user_date_summary",
+                "idx_expense_date_excluding_user_ratio");
+    }
+
+    @Test
+    @DisplayName("다른 사용자 지출 비율 평균")
+    void explain_expense_ratio_average_of_others() throws SQLException {
+        List<CapturedStatement> statements = capture(repository -> repository.getExpenseRatioAverageOfOthers(
+                1L, Date.valueOf("2023-03-01")));
+
+        assertThat(statements).hasSize(1);
+        assertIndexScan(statements.get(0), "idx_expense_date_excluding_user_ratio");
+    }
+
+    @Test
+    @DisplayName("사용자 범위의 카테고리별 합계")
+    void explain_expense_sums_per_user_and_category() throws SQLException {
+        List<CapturedStatement> statements = capture(repository -> repository.getExpenseSumsPerUserAndCategory(
+                Date.valueOf("2023-03-01"), 1L, 10L));
+
+        // 지출과 사용자(이메일) 조인
+        assertThat(statements).hasSize(1);
+        assertIndexScan(statements.get(0), "idx_expense_user_date", "idx_expense_user_date_summary",
+                "idx_expense_date_excluding_user_ratio");
+    }
+
+    /**
+     * 새 EntityManager 로 리포지토리 메서드를 실행하고 그동안 실행된 SQL 을 반환
+     *
+     * @param query 실행할 리포지토리 메서드
+     * @return 실행 순서대로 기록된 SQL 과 파라미터
+     */
+    private List<CapturedStatement> capture(Consumer<ExpenseQRepository> query) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            capturedStatements.clear();
+            query.accept(new ExpenseQRepositoryImpl(new JPAQueryFactory(entityManager)));
+            return new ArrayList<>(capturedStatements);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    /**
+     * 기록된 쿼리의 실행 계획에 전체 테이블 스캔이 없으며 기대한 인덱스 중 하나를 사용하는지 검증
+     * 조인 쿼리는 테이블마다 실행 계획 행이 있으므로 모든 행을 확인합니다.
+     *
+     * @param captured        실행 계획을 확인할 쿼리와 파라미터
+     * @param expectedIndexes 사용이 기대되는 인덱스 이름
+     */
+    private void assertIndexScan(CapturedStatement captured, String... expectedIndexes) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + captured.sql)) {
+            captured.bind(statement);
+
+            List<String> keys = new ArrayList<>();
+            try (ResultSet plan = statement.executeQuery()) {
+                while (plan.next()) {
+                    assertThat(plan.getString("type")).as(captured.sql).isNotEqualTo("ALL");
+                    keys.add(plan.getString("key"));
+                }
+            }
+
+            assertThat(keys).as(captured.sql).isNotEmpty().containsAnyOf(expectedIndexes);
+        }
+    }
+
+    /**
+     * Hibernate 가 준비한 SQL 과 파라미터 바인딩(setLong, setDate 등의 호출)
+     */
+    private static class CapturedStatement {
+        private final String sql;
+        private final List<Method> setters = new ArrayList<>();
+        private final List<Object[]> arguments = new ArrayList<>();
+
+        CapturedStatement(String sql) {
+            this.sql = sql;
+        }
+
+        void record(Method setter, Object[] args) {
+            setters.add(setter);
+            arguments.add(args);
+        }
+
+        /**
+         * 기록한 바인딩을 같은 순서로 다른 PreparedStatement 에 적용
+         */
+        void bind(PreparedStatement statement) throws SQLException {
+            for (int i = 0; i < setters.size(); i++) {
+                invoke(statement, setters.get(i), arguments.get(i));
+            }
+        }
+    }
+
+    /**
+     * 준비된 SQL 과 파라미터 바인딩을 capturedStatements 에 기록하는 DataSource
+     */
+    private static class RecordingDataSource extends DelegatingDataSource {
+
+        RecordingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (!"prepareStatement".equals(method.getName())) {
+                            return result;
+                        }
+
+                        CapturedStatement captured = new CapturedStatement((String) args[0]);
+                        capturedStatements.add(captured);
+                        return recording((PreparedStatement) result, captured);
+                    });
+        }
+
+        private static PreparedStatement recording(PreparedStatement statement, CapturedStatement captured) {
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        // setXxx(parameterIndex, value, ...) 형태의 파라미터 바인딩만 기록
+                        if (method.getName().startsWith("set") && args != null && args.length >= 2
+                                && method.getParameterTypes()[0] == int.class) {
+                            captured.record(method, args);
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws SQLException {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
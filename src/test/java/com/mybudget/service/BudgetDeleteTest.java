@@ -1,11 +1,13 @@
 package com.mybudget.service;
 
+import com.mybudget.component.ActiveBudgetCache;
 import com.mybudget.config.UserRole;
 import com.mybudget.domain.Budget;
 import com.mybudget.domain.User;
 import com.mybudget.enums.UserStatus;
 import com.mybudget.exception.CustomException;
 import com.mybudget.exception.ErrorCode;
+import com.mybudget.repository.BudgetCategoryTotalRepository;
 import com.mybudget.repository.BudgetRepository;
 import com.mybudget.repository.UserRepository;
 import org.assertj.core.api.Assertions;
@@ -30,12 +32,18 @@ class BudgetDeleteTest {
     @Mock
     private BudgetRepository budgetRepository;
 
+    @Mock
+    private BudgetCategoryTotalRepository budgetCategoryTotalRepository;
+
+    @Mock
+    private ActiveBudgetCache activeBudgetCache;
+
     private BudgetService budgetService;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.initMocks(this);
-        budgetService = new BudgetService(userRepository, budgetRepository);
+        budgetService = new BudgetService(userRepository, budgetRepository, budgetCategoryTotalRepository, activeBudgetCache);
     }
 
     public static User user = User.builder()
@@ -80,6 +88,8 @@ class BudgetDeleteTest {
         budgetService.deleteBudget(user.getId(), budget.getId());
         // then
         verify(budgetRepository).delete(budget);
+        verify(budgetCategoryTotalRepository)
+                .addAmount(FOOD.name(), BigDecimal.valueOf(-100000), -1);
     }
 
     @Test
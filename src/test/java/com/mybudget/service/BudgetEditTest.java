@@ -1,5 +1,6 @@
 package com.mybudget.service;
 
+import com.mybudget.component.ActiveBudgetCache;
 import com.mybudget.config.UserRole;
 import com.mybudget.domain.Budget;
 import com.mybudget.domain.User;
@@ -7,6 +8,7 @@ import com.mybudget.dto.BudgetEditRequestDto;
 import com.mybudget.enums.UserStatus;
 import com.mybudget.exception.CustomException;
 import com.mybudget.exception.ErrorCode;
+import com.mybudget.repository.BudgetCategoryTotalRepository;
 import com.mybudget.repository.BudgetRepository;
 import com.mybudget.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +24,7 @@ import static com.mybudget.enums.Categories.FOOD;
 import static com.mybudget.exception.ErrorCode.BUDGET_NOT_FOUND;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @DisplayName("예산 수정 테스트")
@@ -32,13 +35,19 @@ class BudgetEditTest {
     @Mock
     private BudgetRepository budgetRepository;
 
+    @Mock
+    private BudgetCategoryTotalRepository budgetCategoryTotalRepository;
+
+    @Mock
+    private ActiveBudgetCache activeBudgetCache;
+
     private BudgetService budgetService;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.initMocks(this);
         budgetService = new BudgetService(
-                userRepository, budgetRepository
+                userRepository, budgetRepository, budgetCategoryTotalRepository, activeBudgetCache
         );
     }
 
@@ -82,6 +91,9 @@ class BudgetEditTest {
 
         //then
         assertThat(budget.getAmount()).isEqualTo(BigDecimal.valueOf(99));
+        verify(budgetCategoryTotalRepository)
+                .addAmount(FOOD.name(), BigDecimal.valueOf(-99901), 0);
+        verify(activeBudgetCache).invalidate(1L);
     }
 
     @Test
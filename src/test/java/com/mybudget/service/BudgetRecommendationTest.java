@@ -1,24 +1,45 @@
 package com.mybudget.service;
 
+import com.mybudget.domain.BudgetCategoryTotal;
 import com.mybudget.domain.CategoryRatio;
 import com.mybudget.dto.BudgetDto;
+import com.mybudget.dto.UserCategoryMonthlyAmountDto;
 import com.mybudget.exception.CustomException;
+import com.mybudget.repository.BudgetCategoryTotalRepository;
 import com.mybudget.repository.BudgetRepository;
 import com.mybudget.repository.CategoryRatioRepository;
+import com.mybudget.repository.DailyExpenseRollupRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
 
 import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static com.mybudget.enums.Categories.*;
 import static com.mybudget.exception.ErrorCode.BUDGET_AMOUNT_TOO_SMALL;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static com.mybudget.service.BudgetRecommendationService.CATEGORY_RATIO_CHANNEL;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @DisplayName("예산 추천 테스트")
@@ -29,6 +50,21 @@ class BudgetRecommendationTest {
     @Mock
     private CategoryRatioRepository categoryRatioRepository;
 
+    @Mock
+    private BudgetCategoryTotalRepository budgetCategoryTotalRepository;
+
+    @Mock
+    private DailyExpenseRollupRepository dailyExpenseRollupRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private StringRedisConnection redisConnection;
+
     private BudgetRecommendationService budgetRecommendationService;
 
     static List<CategoryRatio> categoryRatios =
@@ -55,7 +91,10 @@ class BudgetRecommendationTest {
     void setUp() {
         MockitoAnnotations.initMocks(this);
         budgetRecommendationService =
-                new BudgetRecommendationService(budgetRepository, categoryRatioRepository);
+                new BudgetRecommendationService(
+                        budgetRepository, categoryRatioRepository, budgetCategoryTotalRepository,
+                        dailyExpenseRollupRepository, redisTemplate);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
     }
 
     @Test
@@ -66,7 +105,7 @@ class BudgetRecommendationTest {
         when(categoryRatioRepository.findAll()).thenReturn(categoryRatios);
         //when
         List<BudgetDto> recommendationBudgets =
-                budgetRecommendationService.getRecommendationBudgets(amount);
+                budgetRecommendationService.getRecommendationBudgets(1L, amount);
         //then
         assertThat(recommendationBudgets.get(0).getAmount())
                 .isEqualTo(BigDecimal.valueOf(1000));
@@ -79,6 +118,107 @@ class BudgetRecommendationTest {
 
     }
 
+    @Test
+    @DisplayName("성공 - 두 번째 요청부터는 DB 조회 없음")
+    public void getRecommendations_snapshot() {
+        //given
+        when(categoryRatioRepository.findAll()).thenReturn(categoryRatios);
+
+        //when
+        budgetRecommendationService.getRecommendationBudgets(1L, 10000L);
+        List<BudgetDto> recommendationBudgets =
+                budgetRecommendationService.getRecommendationBudgets(1L, 20000L);
+
+        //then
+        assertThat(recommendationBudgets.get(3).getAmount())
+                .isEqualTo(BigDecimal.valueOf(8000));
+        verify(categoryRatioRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("성공 - 다른 서버가 전파한 비율로 교체")
+    public void getRecommendations_published() {
+        //given
+        budgetRecommendationService.applyPublishedRatios("FOOD=0.25,EDUCATION=0.75");
+
+        //when
+        List<BudgetDto> recommendationBudgets =
+                budgetRecommendationService.getRecommendationBudgets(1L, 10000L);
+
+        //then
+        assertThat(recommendationBudgets).hasSize(2);
+        assertThat(recommendationBudgets.get(0).getCategory()).isEqualTo(FOOD);
+        assertThat(recommendationBudgets.get(0).getAmount())
+                .isEqualTo(BigDecimal.valueOf(2500));
+        assertThat(recommendationBudgets.get(1).getAmount())
+                .isEqualTo(BigDecimal.valueOf(7500));
+        verify(categoryRatioRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("성공 - 개인 추천 비율에 전체 카테고리 비율을 섞음")
+    public void getRecommendations_personal() {
+        //given
+        budgetRecommendationService.applyPublishedRatios("FOOD=0.1,TRANSPORTATION=0.4,HOUSING=0.3,OTHER=0.2");
+        when(valueOperations.get("budget:recommendation:1")).thenReturn("FOOD=0.6,HOUSING=0.4");
+
+        //when
+        List<BudgetDto> recommendationBudgets =
+                budgetRecommendationService.getRecommendationBudgets(1L, 10000L);
+
+        //then
+        // 개인 비율 0.7 + 전체 비율 0.3, 지출하지 않은 카테고리도 전체 비율만큼 추천
+        assertThat(recommendationBudgets).extracting(BudgetDto::getCategory)
+                .containsExactly(FOOD, TRANSPORTATION, HOUSING, OTHER);
+        assertThat(recommendationBudgets).extracting(BudgetDto::getAmount)
+                .containsExactly(BigDecimal.valueOf(4500), BigDecimal.valueOf(1200),
+                        BigDecimal.valueOf(3700), BigDecimal.valueOf(600));
+        verify(categoryRatioRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("성공 - 전체 카테고리 비율이 없으면 개인 추천 비율만 사용")
+    public void getRecommendations_personalWithoutGlobal() {
+        //given
+        when(categoryRatioRepository.findAll()).thenReturn(Collections.emptyList());
+        when(valueOperations.get("budget:recommendation:1")).thenReturn("FOOD=0.6,HOUSING=0.4");
+
+        //when
+        List<BudgetDto> recommendationBudgets =
+                budgetRecommendationService.getRecommendationBudgets(1L, 10000L);
+
+        //then
+        assertThat(recommendationBudgets).extracting(BudgetDto::getAmount)
+                .containsExactly(BigDecimal.valueOf(6000), BigDecimal.valueOf(4000));
+    }
+
+    @Test
+    @DisplayName("개인 추천 비율 계산 - 최근 지출일수록 가중치")
+    @SuppressWarnings("unchecked")
+    public void calculatePersonalRatios_success() {
+        //given
+        // 이번 달 FOOD 100000, 지난 달 HOUSING 100000 (가중치 0.7)
+        when(dailyExpenseRollupRepository.getMonthlyAmountsPerUserAndCategory(
+                eq(Date.valueOf(LocalDate.of(2023, 6, 1))), any(), eq(1L), eq(2L)))
+                .thenReturn(Arrays.asList(
+                        new UserCategoryMonthlyAmountDto(1L, FOOD, 2023, 11, BigDecimal.valueOf(100000)),
+                        new UserCategoryMonthlyAmountDto(1L, HOUSING, 2023, 10, BigDecimal.valueOf(100000)),
+                        new UserCategoryMonthlyAmountDto(2L, OTHER, 2023, 7, BigDecimal.valueOf(5000))
+                ));
+
+        //when
+        budgetRecommendationService.calculatePersonalRatios(
+                Date.valueOf(LocalDate.of(2023, 11, 21)), 1L, 2L);
+
+        //then
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate).executePipelined(callback.capture());
+        callback.getValue().doInRedis(redisConnection);
+
+        verify(redisConnection).setEx(eq("budget:recommendation:1"), anyLong(), eq("FOOD=0.59,HOUSING=0.41"));
+        verify(redisConnection).setEx(eq("budget:recommendation:2"), anyLong(), eq("OTHER=1.0"));
+    }
+
     @Test
     @DisplayName("실패 - 최소예산 미달")
     public void getRecommendations_fail_amount_too_small() {
@@ -87,8 +227,71 @@ class BudgetRecommendationTest {
         when(categoryRatioRepository.findAll()).thenReturn(categoryRatios);
         //when&then
 
-        assertThatThrownBy(() -> budgetRecommendationService.getRecommendationBudgets(amount))
+        assertThatThrownBy(() -> budgetRecommendationService.getRecommendationBudgets(1L, amount))
                 .isInstanceOf(CustomException.class)
                 .hasMessage(BUDGET_AMOUNT_TOO_SMALL.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("카테고리 비율 - 증분 합계로 계산")
+    public void setRatiosPerBudgets_success() {
+        //given
+        CategoryRatio foodRatio = CategoryRatio.builder()
+                .category(FOOD)
+                .ratio(0.5)
+                .build();
+        when(budgetCategoryTotalRepository.findAll()).thenReturn(Arrays.asList(
+                new BudgetCategoryTotal(FOOD, BigDecimal.valueOf(30000), 3L),
+                new BudgetCategoryTotal(HOUSING, BigDecimal.valueOf(70000), 2L)
+        ));
+        when(categoryRatioRepository.findAll()).thenReturn(Collections.singletonList(foodRatio));
+
+        //when
+        budgetRecommendationService.setRatiosPerBudgets();
+
+        //then
+        assertThat(foodRatio.getRatio()).isEqualTo(0.3);
+        // 비율이 없던 나머지 카테고리는 새로 저장
+        verify(categoryRatioRepository, times(5)).save(any(CategoryRatio.class));
+        verify(budgetRepository, never()).getCategoryTotals();
+
+        // 새 비율로 스냅샷이 교체되고 다른 서버에 전파됨
+        verify(redisTemplate).convertAndSend(CATEGORY_RATIO_CHANNEL,
+                "FOOD=0.3,TRANSPORTATION=0.0,HOUSING=0.7,ENTERTAINMENT=0.0,EDUCATION=0.0,OTHER=0.0");
+        List<BudgetDto> recommendationBudgets =
+                budgetRecommendationService.getRecommendationBudgets(1L, 10000L);
+        assertThat(recommendationBudgets).hasSize(6);
+        assertThat(recommendationBudgets.get(FOOD.ordinal()).getAmount())
+                .isEqualTo(BigDecimal.valueOf(3000));
+        assertThat(recommendationBudgets.get(HOUSING.ordinal()).getAmount())
+                .isEqualTo(BigDecimal.valueOf(7000));
+    }
+
+    @Test
+    @DisplayName("카테고리 합계 보정")
+    public void reconcileCategoryTotals_success() {
+        //given
+        BudgetCategoryTotal food = new BudgetCategoryTotal(FOOD, BigDecimal.valueOf(30000), 3L);
+        BudgetCategoryTotal housing = new BudgetCategoryTotal(HOUSING, BigDecimal.valueOf(70000), 2L);
+        when(budgetCategoryTotalRepository.findAllForUpdate()).thenReturn(Arrays.asList(food, housing));
+        // 실제 예산 테이블에는 HOUSING 예산이 하나 더 있음
+        when(budgetRepository.getCategoryTotals()).thenReturn(Arrays.asList(
+                new BudgetCategoryTotal(FOOD, BigDecimal.valueOf(30000), 3L),
+                new BudgetCategoryTotal(HOUSING, BigDecimal.valueOf(80000), 3L)
+        ));
+
+        //when
+        budgetRecommendationService.reconcileCategoryTotals();
+
+        //then
+        assertThat(food.getTotalAmount()).isEqualByComparingTo("30000");
+        assertThat(housing.getTotalAmount()).isEqualByComparingTo("80000");
+        assertThat(housing.getBudgetCount()).isEqualTo(3L);
+        verify(budgetCategoryTotalRepository, never()).save(any());
+
+        // 예산 합계 행을 잠근 뒤 집계
+        InOrder inOrder = inOrder(budgetCategoryTotalRepository, budgetRepository);
+        inOrder.verify(budgetCategoryTotalRepository).findAllForUpdate();
+        inOrder.verify(budgetRepository).getCategoryTotals();
+    }
+}
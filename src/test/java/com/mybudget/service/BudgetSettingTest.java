@@ -1,11 +1,14 @@
 package com.mybudget.service;
 
+import com.mybudget.component.ActiveBudgetCache;
 import com.mybudget.config.UserRole;
 import com.mybudget.domain.Budget;
 import com.mybudget.domain.User;
 import com.mybudget.dto.BudgetDto;
 import com.mybudget.dto.BudgetSettingRequestDto;
 import com.mybudget.enums.UserStatus;
+import com.mybudget.exception.CustomException;
+import com.mybudget.repository.BudgetCategoryTotalRepository;
 import com.mybudget.repository.BudgetRepository;
 import com.mybudget.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,10 +22,13 @@ import java.math.BigDecimal;
 import java.sql.Date;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static com.mybudget.enums.Categories.*;
+import static com.mybudget.exception.ErrorCode.BUDGET_ALREADY_EXISTS;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -35,12 +41,18 @@ class BudgetSettingTest {
     @Mock
     private BudgetRepository budgetRepository;
 
+    @Mock
+    private BudgetCategoryTotalRepository budgetCategoryTotalRepository;
+
+    @Mock
+    private ActiveBudgetCache activeBudgetCache;
+
     private BudgetService budgetService;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.initMocks(this);
-        budgetService = new BudgetService(userRepository, budgetRepository);
+        budgetService = new BudgetService(userRepository, budgetRepository, budgetCategoryTotalRepository, activeBudgetCache);
     }
 
     static List<BudgetDto> budgetDtos = Arrays.asList(
@@ -97,7 +109,7 @@ class BudgetSettingTest {
         // given
         Long userId = 1L;
 
-        when(userRepository.findById(userId))
+        when(userRepository.findByIdForUpdate(userId))
                 .thenReturn(Optional.of(user));
         when(budgetRepository.findByUser(user))
                 .thenReturn(new ArrayList<>());
@@ -107,7 +119,106 @@ class BudgetSettingTest {
 
         // then
         assertEquals(4, budgetDtos.size());
-        verify(budgetRepository, Mockito.times(4))
-                .save(Mockito.any(Budget.class));
+        verify(budgetRepository).insertAll(Mockito.argThat(budgets -> budgets.size() == 4));
+        verify(budgetRepository, Mockito.never()).save(Mockito.any(Budget.class));
+        verify(budgetCategoryTotalRepository)
+                .addAmount(HOUSING.name(), BigDecimal.valueOf(300000), 1);
+    }
+
+    @Test
+    @DisplayName("실패 - 기존 예산과 기간이 겹침")
+    public void createBudget_fail_overlaps_existing() {
+        // given
+        Long userId = 1L;
+        Budget existingBudget = Budget.builder()
+                .id(3L)
+                .user(user)
+                .category(HOUSING)
+                .amount(BigDecimal.valueOf(100000))
+                .startDate(Date.valueOf("2023-01-20"))
+                .endDate(Date.valueOf("2023-02-20"))
+                .build();
+
+        when(userRepository.findByIdForUpdate(userId))
+                .thenReturn(Optional.of(user));
+        when(budgetRepository.findByUser(user))
+                .thenReturn(Collections.singletonList(existingBudget));
+
+        // when & then
+        assertThatThrownBy(() -> budgetService.createBudget(userId, BudgetSettingRequestDto.builder()
+                .budgets(Collections.singletonList(housingBudget("2023-02-20", "2023-03-19")))
+                .build()))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(BUDGET_ALREADY_EXISTS.getMessage());
+        verify(budgetRepository, Mockito.never()).insertAll(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("실패 - 같은 요청 안의 예산끼리 기간이 겹침")
+    public void createBudget_fail_overlaps_in_request() {
+        // given
+        Long userId = 1L;
+
+        when(userRepository.findByIdForUpdate(userId))
+                .thenReturn(Optional.of(user));
+        when(budgetRepository.findByUser(user))
+                .thenReturn(new ArrayList<>());
+
+        // when & then
+        assertThatThrownBy(() -> budgetService.createBudget(userId, BudgetSettingRequestDto.builder()
+                .budgets(Arrays.asList(
+                        housingBudget("2023-03-01", "2023-03-31"),
+                        housingBudget("2023-01-01", "2023-01-31"),
+                        housingBudget("2023-02-01", "2023-03-01")))
+                .build()))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(BUDGET_ALREADY_EXISTS.getMessage());
+        verify(budgetRepository, Mockito.never()).insertAll(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("실패 - 기존 데이터의 겹친 기간 중 긴 기간 안에 포함됨")
+    public void createBudget_fail_contained_in_existing() {
+        // given
+        Long userId = 1L;
+        // 검사 이전에 저장된, 서로 겹치는 기존 예산
+        Budget longBudget = Budget.builder()
+                .id(3L)
+                .user(user)
+                .category(HOUSING)
+                .amount(BigDecimal.valueOf(100000))
+                .startDate(Date.valueOf("2023-01-01"))
+                .endDate(Date.valueOf("2023-03-31"))
+                .build();
+        Budget shortBudget = Budget.builder()
+                .id(4L)
+                .user(user)
+                .category(HOUSING)
+                .amount(BigDecimal.valueOf(100000))
+                .startDate(Date.valueOf("2023-01-10"))
+                .endDate(Date.valueOf("2023-01-20"))
+                .build();
+
+        when(userRepository.findByIdForUpdate(userId))
+                .thenReturn(Optional.of(user));
+        when(budgetRepository.findByUser(user))
+                .thenReturn(Arrays.asList(longBudget, shortBudget));
+
+        // when & then
+        assertThatThrownBy(() -> budgetService.createBudget(userId, BudgetSettingRequestDto.builder()
+                .budgets(Collections.singletonList(housingBudget("2023-02-01", "2023-02-10")))
+                .build()))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(BUDGET_ALREADY_EXISTS.getMessage());
+        verify(budgetRepository, Mockito.never()).insertAll(Mockito.any());
+    }
+
+    private static BudgetDto housingBudget(String startDate, String endDate) {
+        return BudgetDto.builder()
+                .category(HOUSING)
+                .amount(BigDecimal.valueOf(100000))
+                .startDate(Date.valueOf(startDate))
+                .endDate(Date.valueOf(endDate))
+                .build();
     }
-}
\ No newline at end of file
+}
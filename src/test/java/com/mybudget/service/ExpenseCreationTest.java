@@ -1,10 +1,14 @@
 package com.mybudget.service;
 
+import com.mybudget.component.ActiveBudgetCache;
+import com.mybudget.component.ExpenseRatioSketch;
+import com.mybudget.component.ExpenseRatioSnapshot;
 import com.mybudget.config.UserRole;
 import com.mybudget.domain.User;
 import com.mybudget.dto.ExpenseCreationRequestDto;
 import com.mybudget.enums.UserStatus;
 import com.mybudget.repository.BudgetRepository;
+import com.mybudget.repository.DailyExpenseRollupRepository;
 import com.mybudget.repository.ExpenseRepository;
 import com.mybudget.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,13 +35,27 @@ class ExpenseCreationTest {
     @Mock
     private BudgetRepository budgetRepository;
 
+    @Mock
+    private DailyExpenseRollupRepository dailyExpenseRollupRepository;
+
+    @Mock
+    private ExpenseRatioSketch expenseRatioSketch;
+
+    @Mock
+    private ActiveBudgetCache activeBudgetCache;
+
+    @Mock
+    private ExpenseRatioSnapshot expenseRatioSnapshot;
+
     private ExpenseService expenseService;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.initMocks(this);
         expenseService = new ExpenseService(
-                expenseRepository, budgetRepository, userRepository
+                expenseRepository, budgetRepository, userRepository,
+                dailyExpenseRollupRepository, expenseRatioSketch, activeBudgetCache,
+                expenseRatioSnapshot
         );
     }
 
@@ -65,11 +83,18 @@ class ExpenseCreationTest {
         //given
         when(userRepository.findById(1L))
                 .thenReturn(java.util.Optional.ofNullable(user));
+        when(activeBudgetCache.getBudgetAmount(user, expenseCreationRequestDto.getExpenseDate(), EDUCATION))
+                .thenReturn(BigDecimal.valueOf(300000));
 
         //when
         expenseService.createExpense(1L, expenseCreationRequestDto);
 
         //then
+        verify(activeBudgetCache).getBudgetAmount(user, expenseCreationRequestDto.getExpenseDate(), EDUCATION);
         verify(expenseRepository).save(any());
+        verify(dailyExpenseRollupRepository).addAmount(eq(1L), any(), eq(EDUCATION.ordinal()),
+                eq(false), any(), eq(BigDecimal.valueOf(100000)), eq(1L));
+        verify(expenseRatioSketch).refresh(expenseCreationRequestDto.getExpenseDate(), EDUCATION, 1L);
+        verify(expenseRatioSnapshot).markWritten(expenseCreationRequestDto.getExpenseDate(), 1L);
     }
 }
\ No newline at end of file
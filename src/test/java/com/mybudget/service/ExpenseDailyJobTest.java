@@ -0,0 +1,160 @@
+package com.mybudget.service;
+
+import com.mybudget.component.ActiveBudgetCache;
+import com.mybudget.component.ExpenseRatioSketch;
+import com.mybudget.component.ExpenseRatioSnapshot;
+import com.mybudget.dto.DailyExpenseNotificationDto;
+import com.mybudget.dto.DailyExpenseRecommendationDto;
+import com.mybudget.dto.UserBudgetTotalDto;
+import com.mybudget.dto.UserCategoryAmountDto;
+import com.mybudget.enums.Categories;
+import com.mybudget.repository.BudgetRepository;
+import com.mybudget.repository.DailyExpenseRollupRepository;
+import com.mybudget.repository.ExpenseRepository;
+import com.mybudget.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.mybudget.enums.Categories.EDUCATION;
+import static com.mybudget.enums.Categories.FOOD;
+import static com.mybudget.enums.Categories.TRANSPORTATION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("오늘 지출 알림 및 추천")
+class ExpenseDailyJobTest {
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BudgetRepository budgetRepository;
+
+    @Mock
+    private DailyExpenseRollupRepository dailyExpenseRollupRepository;
+
+    @Mock
+    private ExpenseRatioSketch expenseRatioSketch;
+
+    @Mock
+    private ActiveBudgetCache activeBudgetCache;
+
+    @Mock
+    private ExpenseRatioSnapshot expenseRatioSnapshot;
+
+    private static final Date TODAY = Date.valueOf(LocalDate.of(2023, 11, 21));
+
+    private ExpenseService expenseService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        expenseService = new ExpenseService(
+                expenseRepository, budgetRepository, userRepository,
+                dailyExpenseRollupRepository, expenseRatioSketch, activeBudgetCache,
+                expenseRatioSnapshot
+        );
+    }
+
+    @Test
+    @DisplayName("성공 - 사용자별 집계")
+    void notifyTodayExpense_success() {
+        //given
+        when(expenseRepository.getExpenseSumsPerUserAndCategory(any(), any(), any())).thenReturn(Arrays.asList(
+                expenseSum(1L, "user1@test.com", FOOD, 10000),
+                expenseSum(1L, "user1@test.com", EDUCATION, 5000),
+                expenseSum(2L, "user2@test.com", FOOD, 3000),
+                expenseSum(3L, "user3@test.com", FOOD, 2000)
+        ));
+        // 2번 사용자는 오늘 유효한 예산이 없음
+        when(budgetRepository.getBudgetTotalsPerUser(any(), any(), any())).thenReturn(Arrays.asList(
+                new UserBudgetTotalDto(1L, BigDecimal.valueOf(300000)),
+                new UserBudgetTotalDto(3L, BigDecimal.valueOf(60000))
+        ));
+
+        //when
+        List<DailyExpenseNotificationDto> notifications = expenseService.notifyTodayExpense(TODAY, 1L, 3L);
+
+        //then
+        assertThat(notifications).hasSize(3);
+
+        assertThat(notifications.get(0).getAmountsPerCategory()).hasSize(2);
+        assertThat(notifications.get(0).getTotalAmount()).isEqualByComparingTo("15000");
+        assertThat(notifications.get(0).getExpectedExpense()).isEqualByComparingTo("10000");
+        assertThat(notifications.get(0).getRatio()).isEqualByComparingTo("150");
+
+        // 다른 사용자의 카테고리 지출이 섞이지 않음
+        assertThat(notifications.get(1).getAmountsPerCategory()).hasSize(1);
+        assertThat(notifications.get(1).getTotalAmount()).isEqualByComparingTo("3000");
+        assertThat(notifications.get(1).getRatio()).isNull();
+
+        assertThat(notifications.get(2).getTotalAmount()).isEqualByComparingTo("2000");
+        assertThat(notifications.get(2).getRatio()).isEqualByComparingTo("100");
+
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("성공 - 사용자별 추천 금액")
+    void recommendExpenses_success() {
+        //given
+        // 2023-11-21 기준 이번 달 남은 일수는 10일
+        when(budgetRepository.getBudgetTotalsPerUserAndCategory(any(), any(), any())).thenReturn(Arrays.asList(
+                expenseSum(1L, "user1@test.com", FOOD, 100000),
+                expenseSum(1L, "user1@test.com", EDUCATION, 50000),
+                expenseSum(3L, "user3@test.com", FOOD, 20000)
+        ));
+        // 2번 사용자는 예산 없이 지출만 있음
+        when(expenseRepository.getExpenseSumsPerUserAndCategory(any(), any(), any())).thenReturn(Arrays.asList(
+                expenseSum(1L, "user1@test.com", FOOD, 30000),
+                expenseSum(1L, "user1@test.com", TRANSPORTATION, 5000),
+                expenseSum(2L, "user2@test.com", FOOD, 3000)
+        ));
+
+        //when
+        List<DailyExpenseRecommendationDto> recommendations = expenseService.recommendExpenses(TODAY, 1L, 3L);
+
+        //then
+        assertThat(recommendations).hasSize(3);
+
+        // 남은 예산 FOOD 70000, EDUCATION 50000, 예산을 초과한 TRANSPORTATION 은 1000원 기준
+        assertThat(recommendations.get(0).getUserId()).isEqualTo(1L);
+        assertThat(recommendations.get(0).getAmountsPerCategory()).hasSize(3);
+        assertThat(recommendations.get(0).getTotalAmount()).isEqualByComparingTo("12100");
+
+        // 다른 사용자의 카테고리 예산이 섞이지 않음
+        assertThat(recommendations.get(1).getUserId()).isEqualTo(2L);
+        assertThat(recommendations.get(1).getAmountsPerCategory()).hasSize(1);
+        assertThat(recommendations.get(1).getTotalAmount()).isEqualByComparingTo("100");
+
+        assertThat(recommendations.get(2).getUserId()).isEqualTo(3L);
+        assertThat(recommendations.get(2).getTotalAmount()).isEqualByComparingTo("2000");
+
+        verify(userRepository, never()).findAll();
+    }
+
+    private UserCategoryAmountDto expenseSum(Long userId, String email,
+                                              Categories category, long amount) {
+        return UserCategoryAmountDto.builder()
+                .userId(userId)
+                .email(email)
+                .category(category)
+                .totalAmount(BigDecimal.valueOf(amount))
+                .build();
+    }
+}
@@ -1,5 +1,8 @@
 package com.mybudget.service;
 
+import com.mybudget.component.ActiveBudgetCache;
+import com.mybudget.component.ExpenseRatioSketch;
+import com.mybudget.component.ExpenseRatioSnapshot;
 import com.mybudget.config.UserRole;
 import com.mybudget.domain.Expense;
 import com.mybudget.domain.User;
@@ -7,6 +10,7 @@ import com.mybudget.enums.Categories;
 import com.mybudget.enums.UserStatus;
 import com.mybudget.exception.CustomException;
 import com.mybudget.repository.BudgetRepository;
+import com.mybudget.repository.DailyExpenseRollupRepository;
 import com.mybudget.repository.ExpenseRepository;
 import com.mybudget.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,13 +39,27 @@ class ExpenseDeletionTest {
     @Mock
     private BudgetRepository budgetRepository;
 
+    @Mock
+    private DailyExpenseRollupRepository dailyExpenseRollupRepository;
+
+    @Mock
+    private ExpenseRatioSketch expenseRatioSketch;
+
+    @Mock
+    private ActiveBudgetCache activeBudgetCache;
+
+    @Mock
+    private ExpenseRatioSnapshot expenseRatioSnapshot;
+
     private ExpenseService expenseService;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.initMocks(this);
         expenseService = new ExpenseService(
-                expenseRepository, budgetRepository, userRepository
+                expenseRepository, budgetRepository, userRepository,
+                dailyExpenseRollupRepository, expenseRatioSketch, activeBudgetCache,
+                expenseRatioSnapshot
         );
     }
 
@@ -75,6 +93,9 @@ class ExpenseDeletionTest {
         expenseService.deleteExpense(user.getId(), expense.getId());
         //then
         verify(expenseRepository, times(1)).delete(expense);
+        verify(dailyExpenseRollupRepository, times(1)).addAmount(
+                1L, Date.valueOf("2024-01-01"), Categories.FOOD.ordinal(), false,
+                "MONDAY", BigDecimal.valueOf(-20000), -1L);
 
     }
 
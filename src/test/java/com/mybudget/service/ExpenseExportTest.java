@@ -0,0 +1,141 @@
+package com.mybudget.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mybudget.dto.ExpenseDto;
+import com.mybudget.enums.Categories;
+import com.mybudget.enums.ExportFormat;
+import com.mybudget.repository.ExpenseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@DisplayName("지출 내역 내보내기")
+class ExpenseExportTest {
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    private ExpenseExportService expenseExportService;
+
+    private final Long userId = 1L;
+    private final Date startDate = Date.valueOf("2023-11-01");
+    private final Date endDate = Date.valueOf("2023-11-30");
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        expenseExportService = new ExpenseExportService(expenseRepository, new ObjectMapper());
+
+        ExpenseDto expense1 = ExpenseDto.builder()
+                .id(1L)
+                .description("점심")
+                .category(Categories.FOOD)
+                .amount(BigDecimal.valueOf(8000))
+                .expenseDate(Date.valueOf("2023-11-01"))
+                .excluding(false)
+                .build();
+        ExpenseDto expense2 = ExpenseDto.builder()
+                .id(2L)
+                .description("책, \"자바\"")
+                .category(Categories.EDUCATION)
+                .amount(BigDecimal.valueOf(30000))
+                .expenseDate(Date.valueOf("2023-11-02"))
+                .excluding(true)
+                .build();
+
+        doAnswer(invocation -> {
+            Consumer<ExpenseDto> consumer = invocation.getArgument(3);
+            consumer.accept(expense1);
+            consumer.accept(expense2);
+            return null;
+        }).when(expenseRepository).streamExpensesByPeriod(eq(userId), eq(startDate), eq(endDate), any());
+    }
+
+    @Test
+    @DisplayName("성공 - CSV")
+    void exportExpenses_csv() throws IOException {
+        //given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        expenseExportService.exportExpenses(userId, startDate, endDate, ExportFormat.CSV, outputStream);
+
+        //then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8.name()).split("\n")).containsExactly(
+                "id,expenseDate,category,amount,excluding,description",
+                "1,2023-11-01,FOOD,8000,false,점심",
+                "2,2023-11-02,EDUCATION,30000,true,\"책, \"\"자바\"\"\""
+        );
+    }
+
+    @Test
+    @DisplayName("성공 - CSV 수식으로 실행될 수 있는 값은 작은따옴표를 붙이고, 합계제외 여부가 없으면 빈 값")
+    void exportExpenses_csv_formula() throws IOException {
+        //given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ExpenseDto formula = ExpenseDto.builder()
+                .id(3L)
+                .description("=HYPERLINK(\"http://example.com\")")
+                .category(Categories.OTHER)
+                .amount(BigDecimal.valueOf(1000))
+                .expenseDate(Date.valueOf("2023-11-03"))
+                .build();
+        ExpenseDto negative = ExpenseDto.builder()
+                .id(4L)
+                .description("-1+1")
+                .category(Categories.OTHER)
+                .amount(BigDecimal.valueOf(1000))
+                .expenseDate(Date.valueOf("2023-11-04"))
+                .excluding(false)
+                .build();
+
+        doAnswer(invocation -> {
+            Consumer<ExpenseDto> consumer = invocation.getArgument(3);
+            consumer.accept(formula);
+            consumer.accept(negative);
+            return null;
+        }).when(expenseRepository).streamExpensesByPeriod(eq(userId), eq(startDate), eq(endDate), any());
+
+        //when
+        expenseExportService.exportExpenses(userId, startDate, endDate, ExportFormat.CSV, outputStream);
+
+        //then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8.name()).split("\n")).containsExactly(
+                "id,expenseDate,category,amount,excluding,description",
+                "3,2023-11-03,OTHER,1000,,\"'=HYPERLINK(\"\"http://example.com\"\")\"",
+                "4,2023-11-04,OTHER,1000,false,'-1+1"
+        );
+    }
+
+    @Test
+    @DisplayName("성공 - NDJSON")
+    void exportExpenses_ndjson() throws IOException {
+        //given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        expenseExportService.exportExpenses(userId, startDate, endDate, ExportFormat.NDJSON, outputStream);
+
+        //then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8.name()).split("\n")).containsExactly(
+                "{\"id\":1,\"expenseDate\":\"2023-11-01\",\"category\":\"FOOD\",\"amount\":8000," +
+                        "\"excluding\":false,\"description\":\"점심\"}",
+                "{\"id\":2,\"expenseDate\":\"2023-11-02\",\"category\":\"EDUCATION\",\"amount\":30000," +
+                        "\"excluding\":true,\"description\":\"책, \\\"자바\\\"\"}"
+        );
+    }
+}
@@ -1,11 +1,19 @@
 package com.mybudget.service;
 
+import com.mybudget.component.ActiveBudgetCache;
+import com.mybudget.component.ExpenseRatioSketch;
+import com.mybudget.component.ExpenseRatioSnapshot;
 import com.mybudget.domain.Expense;
 import com.mybudget.domain.User;
 import com.mybudget.dto.AmountsOfCategoryDto;
+import com.mybudget.dto.ExpenseCursorDto;
+import com.mybudget.dto.ExpenseDto;
+import com.mybudget.dto.ExpenseListDto;
 import com.mybudget.dto.ExpenseListResponseDto;
 import com.mybudget.enums.Categories;
+import com.mybudget.exception.CustomException;
 import com.mybudget.repository.BudgetRepository;
+import com.mybudget.repository.DailyExpenseRollupRepository;
 import com.mybudget.repository.ExpenseRepository;
 import com.mybudget.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +21,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.math.BigDecimal;
 import java.sql.Date;
@@ -21,7 +33,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import static com.mybudget.exception.ErrorCode.INVALID_CURSOR;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
 @DisplayName("지출 내역 조회")
@@ -36,13 +53,27 @@ class ExpenseInquiryTest {
     @Mock
     private BudgetRepository budgetRepository;
 
+    @Mock
+    private DailyExpenseRollupRepository dailyExpenseRollupRepository;
+
+    @Mock
+    private ExpenseRatioSketch expenseRatioSketch;
+
+    @Mock
+    private ActiveBudgetCache activeBudgetCache;
+
+    @Mock
+    private ExpenseRatioSnapshot expenseRatioSnapshot;
+
     private ExpenseService expenseService;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.initMocks(this);
         expenseService = new ExpenseService(
-                expenseRepository, budgetRepository, userRepository
+                expenseRepository, budgetRepository, userRepository,
+                dailyExpenseRollupRepository, expenseRatioSketch, activeBudgetCache,
+                expenseRatioSnapshot
         );
     }
 
@@ -92,11 +123,10 @@ class ExpenseInquiryTest {
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
 
-        List<Expense> expenses = Arrays.asList(expense1, expense2, expense3);
+        List<ExpenseDto> expenses = Arrays.asList(
+                ExpenseDto.from(expense1), ExpenseDto.from(expense2), ExpenseDto.from(expense3));
 
-        when(expenseRepository.getExpensesByPeriodWithCategory(
-                user.getId(), startDate, endDate, category, minimumAmount, maximumAmount))
-                .thenReturn(expenses);
+        Pageable pageable = PageRequest.of(page, size);
 
         ExpenseListResponseDto expenseListResponseDto =
                 ExpenseListResponseDto.builder()
@@ -111,20 +141,78 @@ class ExpenseInquiryTest {
         List<AmountsOfCategoryDto> amountsOfCategoryDtos =
                 Collections.singletonList(AmountsOfCategoryDto.from(expense2));
 
-        when(expenseRepository.getAmountsByPeriodWithCategory(
-                user.getId(), startDate, endDate, category, minimumAmount, maximumAmount))
-                .thenReturn(amountsOfCategoryDtos);
-
-        when(expenseRepository.getTotalAmountByPeriodWithCategory(
-                user.getId(), startDate, endDate, category, minimumAmount, maximumAmount))
-                .thenReturn(totalAmount);
+        when(expenseRepository.getExpenseListByPeriod(
+                user.getId(), startDate, endDate, category, minimumAmount, maximumAmount, pageable))
+                .thenReturn(ExpenseListDto.builder()
+                        .expenses(new PageImpl<>(expenses, pageable, 40L))
+                        .amountsPerCategory(amountsOfCategoryDtos)
+                        .totalAmount(totalAmount)
+                        .build());
         // when
         ExpenseListResponseDto response = expenseService.getExpenses(
                 user.getId(), startDate, endDate, minimumAmount, maximumAmount, category, page, size);
 
         // then
         assertThat(response.getTotalAmount()).isEqualTo(totalAmount);
+        assertThat(response.getExpenses().getContent().size()).isEqualTo(3);
+        assertThat(response.getExpenses().hasNext()).isTrue();
+        assertThat(response.getNextCursor())
+                .isEqualTo(ExpenseCursorDto.from(ExpenseDto.from(expense3)).encode());
         assertThat(response.getAmountsPerCategory().get(0).getCategory())
                 .isEqualTo(expenseListResponseDto.getAmountsPerCategory().get(0).getCategory());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("성공 - 커서")
+    void testGetExpensesByCursor_success() {
+        // given
+        Long userId = 1L;
+        Date startDate = Date.valueOf("2023-01-01");
+        Date endDate = Date.valueOf("2023-12-31");
+        Integer size = 1;
+        ExpenseCursorDto cursor = ExpenseCursorDto.builder()
+                .expenseDate(Date.valueOf("2023-01-03"))
+                .id(5L)
+                .build();
+
+        Expense expense = Expense.builder()
+                .id(4L)
+                .amount(BigDecimal.valueOf(100))
+                .category(Categories.FOOD)
+                .expenseDate(Date.valueOf("2023-01-03"))
+                .excluding(false)
+                .user(User.builder().id(userId).build())
+                .build();
+
+        when(expenseRepository.getExpenseListByPeriodAfterCursor(
+                eq(userId), eq(startDate), eq(endDate), isNull(), any(), any(), any(), eq(size)))
+                .thenReturn(ExpenseListDto.builder()
+                        .expenses(new SliceImpl<>(
+                                Collections.singletonList(ExpenseDto.from(expense)),
+                                PageRequest.of(0, size), true))
+                        .build());
+
+        // when
+        ExpenseListResponseDto response = expenseService.getExpensesByCursor(
+                userId, startDate, endDate, null, null, null, cursor.encode(), size);
+
+        // then
+        assertThat(response.getExpenses().getContent().get(0).getId()).isEqualTo(4L);
+        assertThat(ExpenseCursorDto.decode(response.getNextCursor()).getId()).isEqualTo(4L);
+        assertThat(ExpenseCursorDto.decode(response.getNextCursor()).getExpenseDate())
+                .isEqualTo(Date.valueOf("2023-01-03"));
+        // 합계는 첫 페이지에서만 계산
+        assertThat(response.getTotalAmount()).isNull();
+        assertThat(response.getAmountsPerCategory()).isNull();
+    }
+
+    @Test
+    @DisplayName("실패 - 잘못된 커서")
+    void testGetExpensesByCursor_fail_invalid_cursor() {
+        assertThatThrownBy(() -> expenseService.getExpensesByCursor(
+                1L, Date.valueOf("2023-01-01"), Date.valueOf("2023-12-31"),
+                null, null, null, "invalid", 5))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(INVALID_CURSOR.getMessage());
+    }
+}
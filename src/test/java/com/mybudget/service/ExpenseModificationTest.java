@@ -1,5 +1,8 @@
 package com.mybudget.service;
 
+import com.mybudget.component.ActiveBudgetCache;
+import com.mybudget.component.ExpenseRatioSketch;
+import com.mybudget.component.ExpenseRatioSnapshot;
 import com.mybudget.config.UserRole;
 import com.mybudget.domain.Expense;
 import com.mybudget.domain.User;
@@ -8,6 +11,7 @@ import com.mybudget.enums.Categories;
 import com.mybudget.enums.UserStatus;
 import com.mybudget.exception.CustomException;
 import com.mybudget.repository.BudgetRepository;
+import com.mybudget.repository.DailyExpenseRollupRepository;
 import com.mybudget.repository.ExpenseRepository;
 import com.mybudget.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +27,7 @@ import java.util.Optional;
 import static com.mybudget.exception.ErrorCode.NOT_MY_EXPENSE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @DisplayName("지출 내역 수정")
@@ -37,13 +42,27 @@ class ExpenseModificationTest {
     @Mock
     private BudgetRepository budgetRepository;
 
+    @Mock
+    private DailyExpenseRollupRepository dailyExpenseRollupRepository;
+
+    @Mock
+    private ExpenseRatioSketch expenseRatioSketch;
+
+    @Mock
+    private ActiveBudgetCache activeBudgetCache;
+
+    @Mock
+    private ExpenseRatioSnapshot expenseRatioSnapshot;
+
     private ExpenseService expenseService;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.initMocks(this);
         expenseService = new ExpenseService(
-                expenseRepository, budgetRepository, userRepository
+                expenseRepository, budgetRepository, userRepository,
+                dailyExpenseRollupRepository, expenseRatioSketch, activeBudgetCache,
+                expenseRatioSnapshot
         );
     }
 
@@ -89,6 +108,13 @@ class ExpenseModificationTest {
         assertThat(expense.getAmount()).isEqualTo(BigDecimal.valueOf(10000));
         assertThat(expense.getDescription()).isEqualTo("수정된 내용");
         assertThat(expense.getExcluding()).isEqualTo(true);
+        // 합계제외로 바뀌었으므로 합계 포함 행에서 빼고 합계제외 행에 더함
+        verify(dailyExpenseRollupRepository).addAmount(
+                1L, Date.valueOf("2024-01-01"), Categories.FOOD.ordinal(), false,
+                "MONDAY", BigDecimal.valueOf(-20000), -1L);
+        verify(dailyExpenseRollupRepository).addAmount(
+                1L, Date.valueOf("2024-01-01"), Categories.FOOD.ordinal(), true,
+                "MONDAY", BigDecimal.valueOf(10000), 1L);
     }
 
     @Test
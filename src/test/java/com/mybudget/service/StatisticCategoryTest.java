@@ -1,8 +1,11 @@
 package com.mybudget.service;
 
-import com.mybudget.domain.Expense;
+import com.mybudget.component.ExpenseRatioSketch;
+import com.mybudget.component.ExpenseRatioSnapshot;
+import com.mybudget.dto.AmountsOfCategoryDto;
 import com.mybudget.dto.CategoryExpenseRatioDto;
 import com.mybudget.enums.Categories;
+import com.mybudget.repository.DailyExpenseRollupRepository;
 import com.mybudget.repository.ExpenseRepository;
 import com.mybudget.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +32,15 @@ class StatisticCategoryTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private DailyExpenseRollupRepository dailyExpenseRollupRepository;
+
+    @Mock
+    private ExpenseRatioSnapshot expenseRatioSnapshot;
+
+    @Mock
+    private ExpenseRatioSketch expenseRatioSketch;
+
     private StatisticService statisticService;
 
     private final Long userId = 1L;
@@ -40,77 +52,46 @@ class StatisticCategoryTest {
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.initMocks(this);
-        statisticService = new StatisticService(expenseRepository, userRepository);
+        statisticService = new StatisticService(
+                expenseRepository, userRepository, dailyExpenseRollupRepository,
+                expenseRatioSnapshot, expenseRatioSketch
+        );
     }
 
     @Test
     @DisplayName("성공 - 카테고리별")
     void testGetCategoryStatistics_success() {
         //given
-        Expense expense1 = Expense.builder()
-                .id(1L)
-                .user(null)
-                .description("test")
-                .category(Categories.FOOD)
-                .amount(BigDecimal.valueOf(4000.00))
-                .excluding(false)
-                .expenseDate(today)
-                .dayOfWeek(today.toLocalDate().getDayOfWeek())
-                .expenseRatio(50.00)
-                .budgetTotalAmount(BigDecimal.valueOf(8000.00))
-                .build();
-        Expense expense2 = Expense.builder()
-                .id(2L)
-                .user(null)
-                .description("test")
-                .category(Categories.EDUCATION)
-                .amount(BigDecimal.valueOf(4000.00))
-                .excluding(false)
-                .expenseDate(today)
-                .dayOfWeek(today.toLocalDate().getDayOfWeek())
-                .expenseRatio(50.00)
-                .budgetTotalAmount(BigDecimal.valueOf(8000.00))
-                .build();
-
-        List<Expense> thisMonthExpenses = Arrays.asList(expense1, expense2);
-
-        Expense expense3 = Expense.builder()
-                .id(3L)
-                .user(null)
-                .description("test")
-                .category(Categories.FOOD)
-                .amount(BigDecimal.valueOf(3000.00))
-                .excluding(false)
-                .expenseDate(Date.valueOf(today.toLocalDate().minusMonths(2)))
-                .dayOfWeek(today.toLocalDate().getDayOfWeek())
-                .expenseRatio(50.00)
-                .budgetTotalAmount(BigDecimal.valueOf(3000.00))
-                .build();
-        Expense expense4 = Expense.builder()
-                .id(4L)
-                .user(null)
-                .description("test")
-                .category(Categories.EDUCATION)
-                .amount(BigDecimal.valueOf(3000.00))
-                .excluding(false)
-                .expenseDate(Date.valueOf(today.toLocalDate().minusMonths(2)))
-                .dayOfWeek(today.toLocalDate().getDayOfWeek())
-                .expenseRatio(50.00)
-                .budgetTotalAmount(BigDecimal.valueOf(3000.00))
-                .build();
-
-        List<Expense> lastMonthExpenses = Arrays.asList(expense3, expense4);
-
-        when(expenseRepository.getExpensesByMonth(userId, lastMonthStartDate, lastMonthEndDate))
-                .thenReturn(lastMonthExpenses);
-        when(expenseRepository.getExpensesByMonth(userId, thisMonthStartDate, today))
-                .thenReturn(thisMonthExpenses);
-        when(expenseRepository.getTotalAmountByPeriod(
-                userId, lastMonthStartDate, lastMonthEndDate, BigDecimal.ZERO,
-                BigDecimal.valueOf(1000000000))).thenReturn(BigDecimal.valueOf(6000.00));
-        when(expenseRepository.getTotalAmountByPeriod(
-                userId, thisMonthStartDate, today, BigDecimal.ZERO, BigDecimal.valueOf(1000000000)))
-                .thenReturn(BigDecimal.valueOf(8000.00));
+        List<AmountsOfCategoryDto> thisMonthExpenses = Arrays.asList(
+                AmountsOfCategoryDto.builder()
+                        .category(Categories.FOOD)
+                        .totalAmount(BigDecimal.valueOf(4000.00))
+                        .build(),
+                AmountsOfCategoryDto.builder()
+                        .category(Categories.EDUCATION)
+                        .totalAmount(BigDecimal.valueOf(4000.00))
+                        .build()
+        );
+
+        List<AmountsOfCategoryDto> lastMonthExpenses = Arrays.asList(
+                AmountsOfCategoryDto.builder()
+                        .category(Categories.FOOD)
+                        .totalAmount(BigDecimal.valueOf(3000.00))
+                        .build(),
+                AmountsOfCategoryDto.builder()
+                        .category(Categories.EDUCATION)
+                        .totalAmount(BigDecimal.valueOf(3000.00))
+                        .build()
+        );
+
+        when(dailyExpenseRollupRepository.getAmountsOfCategoryByPeriod(
+                userId, lastMonthStartDate, lastMonthEndDate)).thenReturn(lastMonthExpenses);
+        when(dailyExpenseRollupRepository.getAmountsOfCategoryByPeriod(
+                userId, thisMonthStartDate, today)).thenReturn(thisMonthExpenses);
+        when(dailyExpenseRollupRepository.getTotalAmountByPeriod(
+                userId, lastMonthStartDate, lastMonthEndDate)).thenReturn(BigDecimal.valueOf(6000.00));
+        when(dailyExpenseRollupRepository.getTotalAmountByPeriod(
+                userId, thisMonthStartDate, today)).thenReturn(BigDecimal.valueOf(8000.00));
 
         //when
         List<CategoryExpenseRatioDto> result = statisticService.getCategoryStatistics(userId, today);
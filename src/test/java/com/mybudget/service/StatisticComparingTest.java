@@ -1,8 +1,9 @@
 package com.mybudget.service;
 
-import com.mybudget.domain.Expense;
-import com.mybudget.domain.User;
-import com.mybudget.enums.Categories;
+import com.mybudget.component.ExpenseRatioSketch;
+import com.mybudget.component.ExpenseRatioSnapshot;
+import com.mybudget.dto.ExpenseRatioSummaryDto;
+import com.mybudget.repository.DailyExpenseRollupRepository;
 import com.mybudget.repository.ExpenseRepository;
 import com.mybudget.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,12 +13,10 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
-import java.math.BigDecimal;
 import java.sql.Date;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.util.Arrays;
-import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -33,6 +32,15 @@ class StatisticComparingTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private DailyExpenseRollupRepository dailyExpenseRollupRepository;
+
+    @Mock
+    private ExpenseRatioSnapshot expenseRatioSnapshot;
+
+    @Mock
+    private ExpenseRatioSketch expenseRatioSketch;
+
     private StatisticService statisticService;
 
     private final Long userId = 1L;
@@ -42,58 +50,51 @@ class StatisticComparingTest {
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.initMocks(this);
-        statisticService = new StatisticService(expenseRepository, userRepository);
+        statisticService = new StatisticService(
+                expenseRepository, userRepository, dailyExpenseRollupRepository,
+                expenseRatioSnapshot, expenseRatioSketch
+        );
     }
 
     @Test
     @DisplayName("성공 - 다른 사용자와 비교")
     public void testStatistic_others_success() {
         // Given
+        // 전체 지출 비율 50.0, 80.0, 50.0 중 본인(1번)의 지출 비율 50.0
+        when(expenseRatioSnapshot.get(today, userId)).thenReturn(Optional.of(
+                summary(180.0, 3L)));
+        when(expenseRepository.getExpenseRatioSummaryOfUser(userId, today))
+                .thenReturn(summary(50.0, 1L));
 
-        Expense expense1 = Expense.builder()
-                .id(1L)
-                .amount(BigDecimal.valueOf(100))
-                .category(Categories.FOOD)
-                .expenseDate(today)
-                .excluding(true)
-                .description(null)
-                .user(User.builder().id(1L).build())
-                .excluding(false)
-                .expenseRatio(50.0)
-                .build();
-
-        Expense expense2 = Expense.builder()
-                .id(2L)
-                .amount(BigDecimal.valueOf(100))
-                .category(Categories.FOOD)
-                .expenseDate(today)
-                .excluding(true)
-                .description(null)
-                .user(User.builder().id(2L).build())
-                .excluding(false)
-                .expenseRatio(80.0)
-                .build();
-
-        Expense expense3 = Expense.builder()
-                .id(3L)
-                .amount(BigDecimal.valueOf(100))
-                .category(Categories.FOOD)
-                .expenseDate(today)
-                .excluding(true)
-                .description(null)
-                .user(User.builder().id(2L).build())
-                .excluding(false)
-                .expenseRatio(50.0)
-                .build();
+        // When
+        Double result = statisticService.getOthersStatistics(userId, today);
 
-        List<Expense> allExpenses = Arrays.asList(expense1, expense2, expense3);
+        // Then
+        assertThat(result).isEqualTo(76.9); // 예상되는 결과값
+        verify(expenseRepository, never()).getExpenseRatioAverageOfOthers(userId, today);
+    }
 
-        when(expenseRepository.findAll()).thenReturn(allExpenses);
+    @Test
+    @DisplayName("성공 - 스냅샷이 없거나 스냅샷 갱신 이후 본인 지출이 변경된 경우 직접 집계")
+    public void testStatistic_others_without_snapshot() {
+        // Given
+        when(expenseRatioSnapshot.get(today, userId)).thenReturn(Optional.empty());
+        when(expenseRepository.getExpenseRatioSummaryOfUser(userId, today))
+                .thenReturn(summary(50.0, 1L));
+        when(expenseRepository.getExpenseRatioAverageOfOthers(userId, today)).thenReturn(65.0);
 
         // When
         Double result = statisticService.getOthersStatistics(userId, today);
 
         // Then
-        assertThat(result).isEqualTo(76.9); // 예상되는 결과값
+        assertThat(result).isEqualTo(76.9);
+    }
+
+    private ExpenseRatioSummaryDto summary(Double ratioSum, Long count) {
+        return ExpenseRatioSummaryDto.builder()
+                .expenseDate(today)
+                .ratioSum(ratioSum)
+                .count(count)
+                .build();
     }
 }
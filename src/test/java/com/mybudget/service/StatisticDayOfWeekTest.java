@@ -1,5 +1,8 @@
 package com.mybudget.service;
 
+import com.mybudget.component.ExpenseRatioSketch;
+import com.mybudget.component.ExpenseRatioSnapshot;
+import com.mybudget.repository.DailyExpenseRollupRepository;
 import com.mybudget.repository.ExpenseRepository;
 import com.mybudget.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +29,15 @@ class StatisticDayOfWeekTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private DailyExpenseRollupRepository dailyExpenseRollupRepository;
+
+    @Mock
+    private ExpenseRatioSnapshot expenseRatioSnapshot;
+
+    @Mock
+    private ExpenseRatioSketch expenseRatioSketch;
+
     private StatisticService statisticService;
 
     private final Long userId = 1L;
@@ -34,7 +46,10 @@ class StatisticDayOfWeekTest {
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.initMocks(this);
-        statisticService = new StatisticService(expenseRepository, userRepository);
+        statisticService = new StatisticService(
+                expenseRepository, userRepository, dailyExpenseRollupRepository,
+                expenseRatioSnapshot, expenseRatioSketch
+        );
     }
 
     @Test
@@ -44,9 +59,9 @@ class StatisticDayOfWeekTest {
         BigDecimal mockAmountByDayOfWeek = BigDecimal.valueOf(50);
         BigDecimal mockAmountOfTodayByDayOfWeek = BigDecimal.valueOf(10);
 
-        when(expenseRepository.getAmountAverageByDayOfWeek(userId, today, dayOfWeekOfToday))
+        when(dailyExpenseRollupRepository.getAmountAverageByDayOfWeek(userId, today, dayOfWeekOfToday))
                 .thenReturn(mockAmountByDayOfWeek);
-        when(expenseRepository.getAmountOfTodayByDayOfWeek(userId, today, dayOfWeekOfToday))
+        when(dailyExpenseRollupRepository.getAmountOfTodayByDayOfWeek(userId, today, dayOfWeekOfToday))
                 .thenReturn(mockAmountOfTodayByDayOfWeek);
 
         // when
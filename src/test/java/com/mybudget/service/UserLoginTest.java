@@ -1,6 +1,7 @@
 package com.mybudget.service;
 
 import com.mybudget.component.EmailSender;
+import com.mybudget.component.RevokedTokenFilter;
 import com.mybudget.component.SmsSender;
 import com.mybudget.config.JwtProvider;
 import com.mybudget.config.UserRole;
@@ -49,6 +50,9 @@ class UserLoginTest {
     @Mock
     private TokenRedisRepository tokenRedisRepository;
 
+    @Mock
+    private RevokedTokenFilter revokedTokenFilter;
+
     private UserService userService;
 
     public static UserSignInRequestDto userSignInRequestDto =
@@ -73,7 +77,8 @@ class UserLoginTest {
                         passwordEncoder,
                         userRepository,
                         jwtProvider,
-                        tokenRedisRepository
+                        tokenRedisRepository,
+                        revokedTokenFilter
                 );
     }
 
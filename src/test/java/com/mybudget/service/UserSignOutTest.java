@@ -0,0 +1,100 @@
+package com.mybudget.service;
+
+import com.mybudget.component.EmailSender;
+import com.mybudget.component.RevokedTokenFilter;
+import com.mybudget.component.SmsSender;
+import com.mybudget.config.JwtPrincipal;
+import com.mybudget.config.JwtProvider;
+import com.mybudget.config.UserRole;
+import com.mybudget.exception.CustomException;
+import com.mybudget.repository.TokenRedisRepository;
+import com.mybudget.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Date;
+
+import static com.mybudget.exception.ErrorCode.INVALID_TOKEN;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("로그아웃 테스트")
+class UserSignOutTest {
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EmailSender emailSender;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private SmsSender smsSender;
+
+    @Mock
+    private JwtProvider jwtProvider;
+
+    @Mock
+    private TokenRedisRepository tokenRedisRepository;
+
+    @Mock
+    private RevokedTokenFilter revokedTokenFilter;
+
+    private UserService userService;
+
+    private final Date expiration = new Date(System.currentTimeMillis() + 60 * 60 * 1000L);
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        userService =
+                new UserService(
+                        smsSender,
+                        emailSender,
+                        redisTemplate,
+                        passwordEncoder,
+                        userRepository,
+                        jwtProvider,
+                        tokenRedisRepository,
+                        revokedTokenFilter
+                );
+    }
+
+    @Test
+    @DisplayName("성공 - 액세스 토큰을 폐기하고 리프레시 토큰 삭제")
+    void signOut_success() {
+        //given
+        JwtPrincipal principal = new JwtPrincipal(1L, "email@test.com", UserRole.ROLE_USER, "jti", expiration);
+
+        //when
+        userService.signOut(principal);
+
+        //then
+        verify(revokedTokenFilter).revoke("jti", expiration);
+        verify(tokenRedisRepository).delete("TOKEN: 1");
+    }
+
+    @Test
+    @DisplayName("실패 - 인증되지 않은 요청")
+    void signOut_unauthenticated() {
+        //given
+        //when
+        //then
+        assertThatThrownBy(() -> userService.signOut(null))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(INVALID_TOKEN.getMessage());
+        verify(revokedTokenFilter, never()).revoke(any(), any());
+        verify(tokenRedisRepository, never()).delete(any());
+    }
+}
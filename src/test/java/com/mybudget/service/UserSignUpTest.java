@@ -1,6 +1,7 @@
 package com.mybudget.service;
 
 import com.mybudget.component.EmailSender;
+import com.mybudget.component.RevokedTokenFilter;
 import com.mybudget.component.SmsSender;
 import com.mybudget.config.JwtProvider;
 import com.mybudget.config.UserRole;
@@ -46,6 +47,9 @@ class UserSignUpTest {
     @Mock
     private TokenRedisRepository tokenRedisRepository;
 
+    @Mock
+    private RevokedTokenFilter revokedTokenFilter;
+
     private UserService userService;
 
     public static UserSignUpRequestDto requestDto = new UserSignUpRequestDto(
@@ -70,7 +74,8 @@ class UserSignUpTest {
                         passwordEncoder,
                         userRepository,
                         jwtProvider,
-                        tokenRedisRepository
+                        tokenRedisRepository,
+                        revokedTokenFilter
                 );
     }
 
@@ -0,0 +1,150 @@
+package com.mybudget.service;
+
+import com.mybudget.component.EmailSender;
+import com.mybudget.component.RevokedTokenFilter;
+import com.mybudget.component.SmsSender;
+import com.mybudget.config.JwtProvider;
+import com.mybudget.config.RefreshTokenClaims;
+import com.mybudget.config.UserRole;
+import com.mybudget.domain.User;
+import com.mybudget.dto.UserTokenRefreshDto;
+import com.mybudget.dto.UserTokenRefreshRequestDto;
+import com.mybudget.enums.UserStatus;
+import com.mybudget.exception.CustomException;
+import com.mybudget.repository.TokenRedisRepository;
+import com.mybudget.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static com.mybudget.exception.ErrorCode.INVALID_TOKEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("토큰 재발급 테스트")
+class UserTokenRefreshTest {
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EmailSender emailSender;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private SmsSender smsSender;
+
+    @Mock
+    private JwtProvider jwtProvider;
+
+    @Mock
+    private TokenRedisRepository tokenRedisRepository;
+
+    @Mock
+    private RevokedTokenFilter revokedTokenFilter;
+
+    private UserService userService;
+
+    private static final String REFRESH_TOKEN = "refresh-token";
+
+    private static final String NEW_REFRESH_TOKEN = "new-refresh-token";
+
+    private final Date expiration = new Date(System.currentTimeMillis() + 60 * 60 * 1000L);
+
+    private final RefreshTokenClaims claims = new RefreshTokenClaims(1L, "jti", expiration);
+
+    private final UserTokenRefreshRequestDto requestDto = new UserTokenRefreshRequestDto(REFRESH_TOKEN);
+
+    public static User user = User.builder()
+            .id(1L)
+            .email("email@test.com")
+            .phoneNumber("112333333")
+            .password("aaaaa")
+            .userStatus(UserStatus.ACTIVE)
+            .userRole(UserRole.ROLE_USER)
+            .build();
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        userService =
+                new UserService(
+                        smsSender,
+                        emailSender,
+                        redisTemplate,
+                        passwordEncoder,
+                        userRepository,
+                        jwtProvider,
+                        tokenRedisRepository,
+                        revokedTokenFilter
+                );
+
+        when(jwtProvider.getRefreshTokenClaims(REFRESH_TOKEN)).thenReturn(claims);
+        when(jwtProvider.issueRefreshToken(1L)).thenReturn(NEW_REFRESH_TOKEN);
+        when(jwtProvider.issueAccessToken(any())).thenReturn("access-token");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    @DisplayName("성공 - 새 토큰을 발급하고 사용한 리프레시 토큰 폐기")
+    void refreshToken_success() {
+        //given
+        when(tokenRedisRepository.replace("TOKEN: 1", REFRESH_TOKEN, NEW_REFRESH_TOKEN)).thenReturn(true);
+
+        //when
+        UserTokenRefreshDto result = userService.refreshToken(requestDto);
+
+        //then
+        assertThat(result.getAccessToken()).isEqualTo("access-token");
+        assertThat(result.getRefreshToken()).isEqualTo(NEW_REFRESH_TOKEN);
+        verify(revokedTokenFilter).revoke("jti", expiration);
+        verify(tokenRedisRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("실패 - 폐기된 리프레시 토큰을 재사용하면 현재 리프레시 토큰도 삭제")
+    void refreshToken_revoked() {
+        //given
+        when(revokedTokenFilter.isRevoked("jti")).thenReturn(true);
+
+        //when
+        //then
+        assertThatThrownBy(() -> userService.refreshToken(requestDto))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(INVALID_TOKEN.getMessage());
+        verify(tokenRedisRepository).delete("TOKEN: 1");
+        verify(tokenRedisRepository, never()).replace(any(), any(), any());
+        verify(jwtProvider, never()).issueAccessToken(any());
+    }
+
+    @Test
+    @DisplayName("실패 - 이미 교체된 리프레시 토큰을 재사용하면 현재 리프레시 토큰도 삭제")
+    void refreshToken_reused() {
+        //given
+        when(tokenRedisRepository.replace("TOKEN: 1", REFRESH_TOKEN, NEW_REFRESH_TOKEN)).thenReturn(false);
+
+        //when
+        //then
+        assertThatThrownBy(() -> userService.refreshToken(requestDto))
+                .isInstanceOf(CustomException.class)
+                .hasMessage(INVALID_TOKEN.getMessage());
+        verify(tokenRedisRepository).delete("TOKEN: 1");
+        verify(revokedTokenFilter).revoke("jti", expiration);
+        verify(jwtProvider, never()).issueAccessToken(any());
+    }
+}